@@ -0,0 +1,63 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Accumulation of inserts by a {@link BatchingConnection} during a
+ * flush, followed by execution of the final batch.
+ */
+@State(Scope.Benchmark)
+public class BatchingConnectionBenchmark {
+
+	private static final String SQL = "insert into Book (isbn, title, version, id) values (?, ?, ?, ?)";
+	private static final ReactiveConnection.Expectation EXPECTATION = (rowCount, batchPosition, sql) -> {
+		if ( rowCount != 1 ) {
+			throw new IllegalStateException( "unexpected row count" );
+		}
+	};
+
+	@Param({ "0", "20" })
+	public int batchSize;
+
+	@Param({ "100" })
+	public int insertCount;
+
+	private Object[][] paramValues;
+
+	@Setup
+	public void setup() {
+		paramValues = new Object[insertCount][];
+		for ( int i = 0; i < insertCount; i++ ) {
+			paramValues[i] = new Object[] { "978-3-16-148410-" + i, "Book " + i, 0, (long) i };
+		}
+	}
+
+	@Benchmark
+	public long flush() {
+		CannedConnection delegate = new CannedConnection( new CannedRowSet() );
+		BatchingConnection connection = new BatchingConnection( delegate, batchSize );
+		CompletionStage<Void> stage = null;
+		for ( Object[] values : paramValues ) {
+			stage = stage == null
+					? connection.update( SQL, values, true, EXPECTATION )
+					: stage.thenCompose( v -> connection.update( SQL, values, true, EXPECTATION ) );
+		}
+		stage.thenCompose( v -> connection.executeBatch() )
+				.toCompletableFuture()
+				.join();
+		return delegate.getStatementCount();
+	}
+}
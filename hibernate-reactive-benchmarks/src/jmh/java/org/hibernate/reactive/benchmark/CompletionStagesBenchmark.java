@@ -0,0 +1,65 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sequential iteration with {@link CompletionStages#loop}, where
+ * every step completes immediately, as it does when an action
+ * is satisfied from the persistence context or is batched.
+ */
+@State(Scope.Benchmark)
+public class CompletionStagesBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	private Integer[] array;
+	private List<Integer> list;
+
+	@Setup
+	public void setup() {
+		array = new Integer[size];
+		for ( int i = 0; i < size; i++ ) {
+			array[i] = i;
+		}
+		list = Arrays.asList( array );
+	}
+
+	@Benchmark
+	public void loopArray(Blackhole blackhole) {
+		CompletionStages.loop( array, i -> {
+			blackhole.consume( i );
+			return CompletionStages.voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void loopIterable(Blackhole blackhole) {
+		CompletionStages.loop( list, i -> {
+			blackhole.consume( i );
+			return CompletionStages.voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void loopRange(Blackhole blackhole) {
+		CompletionStages.loop( 0, size, i -> {
+			blackhole.consume( i );
+			return CompletionStages.voidFuture();
+		} ).toCompletableFuture().join();
+	}
+}
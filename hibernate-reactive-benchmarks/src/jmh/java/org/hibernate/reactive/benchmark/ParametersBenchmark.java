@@ -0,0 +1,56 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.reactive.pool.impl.Parameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Conversion of JDBC-style {@code ?} parameters to the
+ * PostgreSQL-style {@code $n} parameters, which happens
+ * for every statement executed on PostgreSQL.
+ */
+@State(Scope.Benchmark)
+public class ParametersBenchmark {
+
+	@Param({ "select", "insert", "comment" })
+	public String statement;
+
+	private String sql;
+	private int parameterCount;
+
+	@Setup
+	public void setup() {
+		switch ( statement ) {
+			case "select":
+				sql = "select book0_.id as id1_0_0_, book0_.isbn as isbn2_0_0_, book0_.title as title3_0_0_, "
+						+ "book0_.author_id as author_i4_0_0_ from Book book0_ where book0_.id=? and book0_.title<>?";
+				parameterCount = 2;
+				break;
+			case "insert":
+				sql = "insert into Book (isbn, title, published, price, author_id, version, id) "
+						+ "values (?, ?, ?, ?, ?, ?, ?)";
+				parameterCount = 7;
+				break;
+			case "comment":
+				sql = "/* load Book */ select b.id, 'what?' as q, \"odd?name\" from Book b "
+						+ "-- by id\n where b.id=? and b.title like '%?%'";
+				parameterCount = 1;
+				break;
+			default:
+				throw new IllegalArgumentException( statement );
+		}
+	}
+
+	@Benchmark
+	public String process() {
+		return Parameters.process( sql, parameterCount );
+	}
+}
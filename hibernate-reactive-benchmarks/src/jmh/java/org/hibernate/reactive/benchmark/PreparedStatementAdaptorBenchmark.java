@@ -0,0 +1,73 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * Collection of parameter bindings by {@link PreparedStatementAdaptor},
+ * which happens for every statement with parameters.
+ */
+@State(Scope.Benchmark)
+public class PreparedStatementAdaptorBenchmark {
+
+	@Param({ "2", "8", "32" })
+	public int parameterCount;
+
+	private final Timestamp timestamp = new Timestamp( 0 );
+	private final BigDecimal price = new BigDecimal( "12.50" );
+
+	private Object[] values;
+
+	@Setup
+	public void setup() {
+		values = new Object[parameterCount];
+		for ( int i = 0; i < parameterCount; i++ ) {
+			switch ( i % 4 ) {
+				case 0:
+					values[i] = (long) i;
+					break;
+				case 1:
+					values[i] = "value " + i;
+					break;
+				case 2:
+					values[i] = timestamp;
+					break;
+				default:
+					values[i] = price;
+			}
+		}
+	}
+
+	@Benchmark
+	public Object[] bind() {
+		return PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 0; i < values.length; i++ ) {
+				switch ( i % 4 ) {
+					case 0:
+						statement.setLong( i + 1, (Long) values[i] );
+						break;
+					case 1:
+						statement.setString( i + 1, (String) values[i] );
+						break;
+					case 2:
+						statement.setTimestamp( i + 1, (Timestamp) values[i] );
+						break;
+					default:
+						statement.setBigDecimal( i + 1, (BigDecimal) values[i] );
+				}
+			}
+		} );
+	}
+}
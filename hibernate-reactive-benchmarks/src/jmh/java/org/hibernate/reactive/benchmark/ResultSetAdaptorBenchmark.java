@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Hydration of entity state from a {@link ResultSetAdaptor},
+ * reading every column by its alias and checking for nulls,
+ * the way Hibernate core reads the results of a query.
+ */
+@State(Scope.Benchmark)
+public class ResultSetAdaptorBenchmark {
+
+	private static final String[] COLUMNS = {
+			"id1_0_0_", "isbn2_0_0_", "title3_0_0_", "publishe4_0_0_", "price5_0_0_", "author_i6_0_0_"
+	};
+
+	@Param({ "1", "100" })
+	public int rowCount;
+
+	private CannedRowSet rows;
+
+	@Setup
+	public void setup() {
+		rows = new CannedRowSet( COLUMNS );
+		for ( int i = 0; i < rowCount; i++ ) {
+			rows.add(
+					(long) i,
+					"978-3-16-148410-" + i,
+					"Book " + i,
+					LocalDateTime.of( 2020, 1, 1, 0, 0 ).plusDays( i ),
+					new BigDecimal( "12.50" ),
+					i % 2 == 0 ? null : (long) i
+			);
+		}
+	}
+
+	@Benchmark
+	public void hydrate(Blackhole blackhole) {
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rows );
+		while ( resultSet.next() ) {
+			blackhole.consume( resultSet.getLong( COLUMNS[0] ) );
+			blackhole.consume( resultSet.getString( COLUMNS[1] ) );
+			blackhole.consume( resultSet.getString( COLUMNS[2] ) );
+			blackhole.consume( resultSet.getTimestamp( COLUMNS[3] ) );
+			blackhole.consume( resultSet.getBigDecimal( COLUMNS[4] ) );
+			blackhole.consume( resultSet.getLong( COLUMNS[5] ) );
+			blackhole.consume( resultSet.wasNull() );
+		}
+	}
+}
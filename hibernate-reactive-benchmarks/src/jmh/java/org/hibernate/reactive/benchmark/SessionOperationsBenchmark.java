@@ -0,0 +1,72 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+
+/**
+ * A {@code find()} in a session, and a {@code persist()} in a
+ * transaction, performed via the Stage and Mutiny APIs against a
+ * {@link SimulatedConnectionPool}, measuring the overhead of the
+ * execution engine shared by the two APIs.
+ * <p>
+ * The allocation per operation is reported by the JMH GC profiler:
+ * <pre>
+ * ./gradlew :hibernate-reactive-benchmarks:jmh -PjmhInclude=SessionOperations -PjmhProfilers=gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+public class SessionOperationsBenchmark {
+
+	@Param({ "stage", "mutiny" })
+	public String api;
+
+	private SessionFactory sessionFactory;
+	private Stage.SessionFactory stage;
+	private Mutiny.SessionFactory mutiny;
+
+	@Setup
+	public void setup() {
+		sessionFactory = LoadDriver.createSessionFactory( LoadDriver.scriptedPool( 0, 10 ) );
+		stage = sessionFactory.unwrap( Stage.SessionFactory.class );
+		mutiny = sessionFactory.unwrap( Mutiny.SessionFactory.class );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book find() {
+		return "mutiny".equals( api )
+				? mutiny.withSession( session -> session.find( Book.class, 1 ) ).await().indefinitely()
+				: stage.withSession( session -> session.find( Book.class, 1 ) ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Author persist() {
+		Author author = new Author( "Iain M. Banks" );
+		author.books.add( new Book( "1-85723-235-6", "Feersum Endjinn", author, LocalDate.of( 1994, 1, 1 ) ) );
+		if ( "mutiny".equals( api ) ) {
+			mutiny.withTransaction( (session, tx) -> session.persist( author ) ).await().indefinitely();
+		}
+		else {
+			stage.withTransaction( (session, tx) -> session.persist( author ) ).toCompletableFuture().join();
+		}
+		return author;
+	}
+}
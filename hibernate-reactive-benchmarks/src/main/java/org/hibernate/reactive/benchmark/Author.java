@@ -0,0 +1,38 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.persistence.CascadeType.PERSIST;
+
+/**
+ * The {@code Author} of the example program, without the
+ * Bean Validation annotations.
+ */
+@Entity
+@Table(name="authors")
+class Author {
+	@Id @GeneratedValue
+	Integer id;
+
+	String name;
+
+	@OneToMany(mappedBy = "author", cascade = PERSIST)
+	List<Book> books = new ArrayList<>();
+
+	Author(String name) {
+		this.name = name;
+	}
+
+	Author() {}
+}
@@ -0,0 +1,44 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+import static javax.persistence.FetchType.LAZY;
+
+/**
+ * The {@code Book} of the example program, without the
+ * Bean Validation annotations.
+ */
+@Entity
+@Table(name="books")
+class Book {
+	@Id @GeneratedValue
+	Integer id;
+
+	String isbn;
+
+	String title;
+
+	LocalDate published;
+
+	@ManyToOne(fetch = LAZY)
+	Author author;
+
+	Book(String isbn, String title, Author author, LocalDate published) {
+		this.title = title;
+		this.isbn = isbn;
+		this.author = author;
+		this.published = published;
+	}
+
+	Book() {}
+}
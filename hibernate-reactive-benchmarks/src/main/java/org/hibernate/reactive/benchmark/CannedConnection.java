@@ -0,0 +1,161 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An in-memory {@link ReactiveConnection} which never talks to a
+ * database: every query returns the same canned {@link RowSet},
+ * and every insert, update, or delete reports that exactly one
+ * row was affected. All operations complete immediately.
+ * <p>
+ * The number of statements "executed" is counted, so that the
+ * work done by a benchmark can be sanity-checked.
+ */
+class CannedConnection implements ReactiveConnection {
+
+	private final RowSet<Row> rows;
+	private long statementCount;
+
+	CannedConnection(RowSet<Row> rows) {
+		this.rows = rows;
+	}
+
+	long getStatementCount() {
+		return statementCount;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		statementCount++;
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		statementCount++;
+		return CompletionStages.completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return update( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues )
+				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		statementCount++;
+		int[] rowCounts = new int[ paramValues.size() ];
+		Arrays.fill( rowCounts, 1 );
+		return CompletionStages.completedFuture( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		statementCount++;
+		return CompletionStages.completedFuture( 1L );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		statementCount++;
+		return CompletionStages.completedFuture( new CannedResult( rows ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return select( sql );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		statementCount++;
+		return CompletionStages.completedFuture( new ResultSetAdaptor( rows ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		statementCount++;
+		RowIterator<Row> iterator = rows.iterator();
+		return CompletionStages.completedFuture( iterator.hasNext() ? iterator.next().getLong( 0 ) : null );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public void close() {}
+
+	private static class CannedResult implements Result {
+		private final RowSet<Row> rowset;
+		private final RowIterator<Row> it;
+
+		CannedResult(RowSet<Row> rowset) {
+			this.rowset = rowset;
+			it = rowset.iterator();
+		}
+
+		@Override
+		public int size() {
+			return rowset.size();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			Row row = it.next();
+			Object[] result = new Object[ row.size() ];
+			for ( int i = 0; i < result.length; i++ ) {
+				result[i] = row.getValue( i );
+			}
+			return result;
+		}
+	}
+}
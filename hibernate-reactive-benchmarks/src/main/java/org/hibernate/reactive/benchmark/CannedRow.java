@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.List;
+
+/**
+ * An immutable Vert.x {@link Row} holding canned values.
+ */
+class CannedRow implements Row {
+
+	private final List<String> columnNames;
+	private final Object[] values;
+
+	CannedRow(List<String> columnNames, Object... values) {
+		this.columnNames = columnNames;
+		this.values = values;
+	}
+
+	@Override
+	public String getColumnName(int pos) {
+		return columnNames.get( pos );
+	}
+
+	@Override
+	public int getColumnIndex(String name) {
+		return columnNames.indexOf( name );
+	}
+
+	@Override
+	public Object getValue(int pos) {
+		return values[pos];
+	}
+
+	@Override
+	public <T> T[] getValues(Class<T> type, int pos) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Tuple addValue(Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,135 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A Vert.x {@link RowSet} holding canned rows, which may be
+ * iterated any number of times.
+ */
+public class CannedRowSet implements RowSet<Row> {
+
+	private static final Pattern SELECT_ITEM = Pattern.compile( "\\b\\w+\\.(\\w+) as (\\w+)" );
+
+	private final List<String> columnNames;
+	private final List<String> sourceColumnNames;
+	private final List<Row> rows = new ArrayList<>();
+
+	public CannedRowSet(String... columnNames) {
+		this.columnNames = Arrays.asList( columnNames );
+		this.sourceColumnNames = this.columnNames;
+	}
+
+	private CannedRowSet(List<String> columnNames, List<String> sourceColumnNames) {
+		this.columnNames = columnNames;
+		this.sourceColumnNames = sourceColumnNames;
+	}
+
+	/**
+	 * A {@code CannedRowSet} with a column for each item of the select
+	 * list of the given SQL query generated by Hibernate, that is, for
+	 * each item of form {@code alias.column as columnAlias}. Rows may
+	 * then be added using {@link #addColumnValues(Map)}, without needing
+	 * to know the column aliases chosen by Hibernate.
+	 */
+	public static CannedRowSet forSelect(String sql) {
+		int from = sql.indexOf( " from " );
+		Matcher matcher = SELECT_ITEM.matcher( from < 0 ? sql : sql.substring( 0, from ) );
+		List<String> aliases = new ArrayList<>();
+		List<String> columns = new ArrayList<>();
+		while ( matcher.find() ) {
+			columns.add( matcher.group( 1 ) );
+			aliases.add( matcher.group( 2 ) );
+		}
+		return new CannedRowSet( aliases, columns );
+	}
+
+	public CannedRowSet add(Object... values) {
+		if ( values.length != columnNames.size() ) {
+			throw new IllegalArgumentException( "wrong number of column values" );
+		}
+		rows.add( new CannedRow( columnNames, values ) );
+		return this;
+	}
+
+	/**
+	 * Add a row, obtaining the value of each column from the given
+	 * map, keyed by the column name, as it occurs in the select list.
+	 * Missing columns are null.
+	 */
+	public CannedRowSet addColumnValues(Map<String, ?> valuesByColumn) {
+		Object[] values = new Object[ sourceColumnNames.size() ];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = valuesByColumn.get( sourceColumnNames.get( i ) );
+		}
+		rows.add( new CannedRow( columnNames, values ) );
+		return this;
+	}
+
+	@Override
+	public RowIterator<Row> iterator() {
+		return new RowIterator<Row>() {
+			private int position;
+
+			@Override
+			public boolean hasNext() {
+				return position < rows.size();
+			}
+
+			@Override
+			public Row next() {
+				return rows.get( position++ );
+			}
+		};
+	}
+
+	@Override
+	public int rowCount() {
+		return rows.size();
+	}
+
+	@Override
+	public List<String> columnsNames() {
+		return columnNames;
+	}
+
+	@Override
+	public List<ColumnDescriptor> columnDescriptors() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public <V> V property(PropertyKind<V> propertyKind) {
+		return null;
+	}
+
+	@Override
+	public RowSet<Row> value() {
+		return this;
+	}
+
+	@Override
+	public RowSet<Row> next() {
+		return null;
+	}
+}
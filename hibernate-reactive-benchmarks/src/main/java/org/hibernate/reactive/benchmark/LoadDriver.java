@@ -0,0 +1,237 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.smallrye.mutiny.Uni;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.System.out;
+
+/**
+ * Runs a scenario based on the {@code Book}/{@code Author} model of
+ * the example program repeatedly against a {@link SimulatedConnectionPool},
+ * and reports the throughput, the number of statements, and the memory
+ * allocated per operation. Since there is no database, this measures
+ * the overhead of Hibernate Reactive itself.
+ * <p>
+ * Arguments are of form {@code name=value}:
+ * <ul>
+ * <li>{@code scenario}: one of {@code persist}, {@code find}, {@code query},
+ *     or {@code update} (default {@code find}),
+ * <li>{@code api}: {@code stage} or {@code mutiny} (default {@code stage}),
+ * <li>{@code threads}: the number of concurrent clients (default 4),
+ * <li>{@code warmup}: the warmup time in seconds (default 5),
+ * <li>{@code seconds}: the measurement time in seconds (default 10),
+ * <li>{@code latency}: the simulated latency of each statement, in
+ *     milliseconds (default 0), and
+ * <li>{@code connections}: the maximum number of connections (default 10).
+ * </ul>
+ */
+public class LoadDriver {
+
+	private static final String BOOKS_BY_AUTHOR = "from Book where author.id = :id";
+
+	enum Scenario {
+		PERSIST, FIND, QUERY, UPDATE;
+
+		CompletionStage<?> run(Stage.SessionFactory factory) {
+			switch ( this ) {
+				case PERSIST:
+					return factory.withTransaction( (session, tx) -> session.persist( newAuthor() ) );
+				case FIND:
+					return factory.withSession( session -> session.find( Book.class, 1 ) );
+				case QUERY:
+					return factory.withSession( session -> session.createQuery( BOOKS_BY_AUTHOR, Book.class )
+							.setParameter( "id", 1 )
+							.getResultList() );
+				case UPDATE:
+					return factory.withTransaction( (session, tx) -> session.find( Book.class, 1 )
+							.thenAccept( book -> book.title = "Excession" ) );
+				default:
+					throw new AssertionError();
+			}
+		}
+
+		Uni<?> run(Mutiny.SessionFactory factory) {
+			switch ( this ) {
+				case PERSIST:
+					return factory.withTransaction( (session, tx) -> session.persist( newAuthor() ) );
+				case FIND:
+					return factory.withSession( session -> session.find( Book.class, 1 ) );
+				case QUERY:
+					return factory.withSession( session -> session.createQuery( BOOKS_BY_AUTHOR, Book.class )
+							.setParameter( "id", 1 )
+							.getResultList() );
+				case UPDATE:
+					return factory.withTransaction( (session, tx) -> session.find( Book.class, 1 )
+							.invoke( book -> book.title = "Excession" ) );
+				default:
+					throw new AssertionError();
+			}
+		}
+	}
+
+	private static Author newAuthor() {
+		Author author = new Author( "Iain M. Banks" );
+		author.books.add( new Book( "1-85723-235-6", "Feersum Endjinn", author, LocalDate.of( 1994, 1, 1 ) ) );
+		author.books.add( new Book( "1-85723-394-8", "Excession", author, LocalDate.of( 1996, 1, 1 ) ) );
+		return author;
+	}
+
+	private static Map<String, Object> book(int id) {
+		Map<String, Object> book = new HashMap<>();
+		book.put( "id", id );
+		book.put( "isbn", "1-85723-235-6" );
+		book.put( "title", "Feersum Endjinn" );
+		book.put( "published", LocalDate.of( 1994, 1, 1 ) );
+		book.put( "author_id", 1 );
+		return book;
+	}
+
+	/**
+	 * Script the queries executed by the scenarios.
+	 */
+	static SimulatedConnectionPool scriptedPool(int latency, int maxConnections) {
+		return new SimulatedConnectionPool( latency, maxConnections )
+				.script( ".author_id=?", sql -> {
+					CannedRowSet books = CannedRowSet.forSelect( sql );
+					for ( int id = 1; id <= 10; id++ ) {
+						books.addColumnValues( book( id ) );
+					}
+					return books;
+				} )
+				.script( " from books ", sql -> CannedRowSet.forSelect( sql ).addColumnValues( book( 1 ) ) );
+	}
+
+	static org.hibernate.SessionFactory createSessionFactory(SimulatedConnectionPool pool) {
+		Configuration configuration = new Configuration();
+		configuration.addAnnotatedClass( Author.class );
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.DIALECT, PostgreSQL10Dialect.class.getName() );
+		configuration.setProperty( "hibernate.temp.use_jdbc_metadata_defaults", "false" );
+		configuration.getProperties().put( Settings.SQL_CLIENT_POOL, pool );
+		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.build();
+		return configuration.buildSessionFactory( registry );
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		Map<String, String> options = new HashMap<>();
+		for ( String arg : args ) {
+			int equals = arg.indexOf( '=' );
+			if ( equals < 0 ) {
+				throw new IllegalArgumentException( "argument must be of form name=value: " + arg );
+			}
+			options.put( arg.substring( 0, equals ), arg.substring( equals + 1 ) );
+		}
+		Scenario scenario = Scenario.valueOf( options.getOrDefault( "scenario", "find" ).toUpperCase( Locale.ROOT ) );
+		boolean mutiny = "mutiny".equalsIgnoreCase( options.getOrDefault( "api", "stage" ) );
+		int threads = Integer.parseInt( options.getOrDefault( "threads", "4" ) );
+		long warmup = Long.parseLong( options.getOrDefault( "warmup", "5" ) );
+		long seconds = Long.parseLong( options.getOrDefault( "seconds", "10" ) );
+		int latency = Integer.parseInt( options.getOrDefault( "latency", "0" ) );
+		int connections = Integer.parseInt( options.getOrDefault( "connections", "10" ) );
+
+		SimulatedConnectionPool pool = scriptedPool( latency, connections );
+		org.hibernate.SessionFactory sessionFactory = createSessionFactory( pool );
+		try {
+			Runnable operation;
+			if ( mutiny ) {
+				Mutiny.SessionFactory factory = sessionFactory.unwrap( Mutiny.SessionFactory.class );
+				operation = () -> scenario.run( factory ).await().indefinitely();
+			}
+			else {
+				Stage.SessionFactory factory = sessionFactory.unwrap( Stage.SessionFactory.class );
+				operation = () -> scenario.run( factory ).toCompletableFuture().join();
+			}
+
+			out.printf( "== %s scenario, %s API, %d threads, %d ms latency, %d connections ==%n",
+					scenario, mutiny ? "Mutiny" : "Stage", threads, latency, connections );
+			run( operation, threads, warmup, null );
+			pool.resetStatementCounts();
+			run( operation, threads, seconds, pool );
+		}
+		finally {
+			sessionFactory.close();
+		}
+	}
+
+	private static void run(Runnable operation, int threads, long seconds, SimulatedConnectionPool pool)
+			throws InterruptedException {
+		LongAdder operations = new LongAdder();
+		LongAdder clientAllocated = new LongAdder();
+		long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+		Thread[] clients = new Thread[threads];
+		for ( int i = 0; i < threads; i++ ) {
+			clients[i] = new Thread( () -> {
+				long allocatedBefore = allocatedBytes( Thread.currentThread().getId() );
+				while ( System.nanoTime() < deadline ) {
+					operation.run();
+					operations.increment();
+				}
+				clientAllocated.add( allocatedBytes( Thread.currentThread().getId() ) - allocatedBefore );
+			}, "load-driver-" + i );
+		}
+
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		for ( Thread client : clients ) {
+			client.start();
+		}
+		for ( Thread client : clients ) {
+			client.join();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = allocatedBytes() - allocatedBefore + clientAllocated.sum();
+
+		if ( pool != null ) {
+			long count = operations.sum();
+			out.printf( "throughput:  %,.0f ops/s%n", count * 1e9 / elapsed );
+			out.printf( "statements:  %.2f per op%n", (double) pool.getStatementCount() / count );
+			if ( allocated >= 0 ) {
+				out.printf( "allocation:  %,d bytes per op%n", allocated / count );
+			}
+			pool.getStatementCounts().forEach( (sql, n) -> out.printf( "%10d  %s%n", n, sql ) );
+		}
+	}
+
+	/**
+	 * The total memory allocated by the given threads, or by all live
+	 * threads, including the Vert.x event loop threads, if no threads
+	 * are given. Returns a negative value if this is not supported by
+	 * the JVM.
+	 */
+	private static long allocatedBytes(long... threadIds) {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if ( !( bean instanceof com.sun.management.ThreadMXBean ) ) {
+			return Long.MIN_VALUE;
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		long total = 0;
+		long[] ids = threadIds.length == 0 ? threads.getAllThreadIds() : threadIds;
+		for ( long allocated : threads.getThreadAllocatedBytes( ids ) ) {
+			if ( allocated > 0 ) {
+				total += allocated;
+			}
+		}
+		return total;
+	}
+}
@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A connection obtained from a {@link SimulatedConnectionPool}.
+ */
+class SimulatedConnection implements ReactiveConnection {
+
+	private static final RowSet<Row> EMPTY = new CannedRowSet();
+
+	private final SimulatedConnectionPool pool;
+	private boolean pooled;
+
+	SimulatedConnection(SimulatedConnectionPool pool, boolean pooled) {
+		this.pool = pool;
+		this.pooled = pooled;
+	}
+
+	private RowSet<Row> results(String sql) {
+		pool.record( sql );
+		RowSet<Row> results = pool.results( sql );
+		return results == null ? EMPTY : results;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		pool.record( sql );
+		return pool.complete( null );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		pool.record( sql );
+		return pool.complete( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return update( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return update( sql, paramValues )
+				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		pool.record( sql );
+		int[] rowCounts = new int[ paramValues.size() ];
+		Arrays.fill( rowCounts, 1 );
+		return pool.complete( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		pool.record( sql );
+		return pool.complete( pool.nextLong() );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return pool.complete( new RowSetResult( results( sql ) ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return select( sql );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return pool.complete( new ResultSetAdaptor( results( sql ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		pool.record( sql );
+		RowSet<Row> results = pool.results( sql );
+		if ( results == null ) {
+			return pool.complete( pool.nextLong() );
+		}
+		RowIterator<Row> iterator = results.iterator();
+		return pool.complete( iterator.hasNext() ? iterator.next().getLong( 0 ) : null );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return execute( "begin" );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return execute( "commit" );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return execute( "rollback" );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return CompletionStages.voidFuture();
+	}
+
+	@Override
+	public void close() {
+		if ( pooled ) {
+			pooled = false;
+			pool.release();
+		}
+	}
+
+	private static class RowSetResult implements Result {
+		private final RowSet<Row> rowset;
+		private final RowIterator<Row> it;
+
+		RowSetResult(RowSet<Row> rowset) {
+			this.rowset = rowset;
+			it = rowset.iterator();
+		}
+
+		@Override
+		public int size() {
+			return rowset.size();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			Row row = it.next();
+			Object[] result = new Object[ row.size() ];
+			for ( int i = 0; i < result.length; i++ ) {
+				result[i] = row.getValue( i );
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Startable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link ReactiveConnectionPool} which never talks to a database,
+ * allowing the overhead of Hibernate Reactive itself to be measured.
+ * It may be selected by setting
+ * {@link org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL}
+ * to the name of this class, or to an instance of it.
+ * <p>
+ * Every SQL statement is recorded. Queries return the results
+ * {@link #script scripted} for them, or no rows by default, and
+ * every insert, update, or delete reports that exactly one row was
+ * affected. Queries for a single number, for example, for the next
+ * value of a sequence, return increasing values by default.
+ * <p>
+ * Each statement and transaction demarcation may be delayed by a
+ * configurable {@link #LATENCY latency}, and the number of connections
+ * open at once is limited by {@link #MAX_CONNECTIONS}. Requests for a
+ * connection beyond the limit wait for a connection to be closed.
+ */
+public class SimulatedConnectionPool implements ReactiveConnectionPool,
+		ServiceRegistryAwareService, Configurable, Startable {
+
+	/**
+	 * The simulated latency of each statement, in milliseconds.
+	 * Statements complete immediately by default. When the latency
+	 * is nonzero, statements complete on the Vert.x event loop.
+	 */
+	public static final String LATENCY = "hibernate.reactive.simulation.latency";
+
+	/**
+	 * The maximum number of connections open at once, by default 10.
+	 */
+	public static final String MAX_CONNECTIONS = "hibernate.reactive.simulation.max_connections";
+
+	private static class Script {
+		final String sqlFragment;
+		final Function<String, RowSet<Row>> results;
+
+		Script(String sqlFragment, Function<String, RowSet<Row>> results) {
+			this.sqlFragment = sqlFragment;
+			this.results = results;
+		}
+	}
+
+	private final List<Script> scripts = new CopyOnWriteArrayList<>();
+	private final Map<String, LongAdder> statementCounts = new ConcurrentHashMap<>();
+	private final LongAdder statementCount = new LongAdder();
+	private final AtomicLong sequence = new AtomicLong();
+	private final Deque<CompletableFuture<ReactiveConnection>> waiters = new ArrayDeque<>();
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private Vertx vertx;
+	private int latency;
+	private int availableConnections = 10;
+
+	public SimulatedConnectionPool() {}
+
+	public SimulatedConnectionPool(int latency, int maxConnections) {
+		this.latency = latency;
+		this.availableConnections = maxConnections;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map configuration) {
+		latency = ConfigurationHelper.getInt( LATENCY, configuration, latency );
+		availableConnections = ConfigurationHelper.getInt( MAX_CONNECTIONS, configuration, availableConnections );
+	}
+
+	@Override
+	public void start() {
+		if ( latency > 0 && vertx == null ) {
+			vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		}
+	}
+
+	/**
+	 * Script the results of every query containing the given fragment
+	 * of SQL. The given function is called with the SQL of the query.
+	 * Scripts are tried in the order in which they were added.
+	 */
+	public SimulatedConnectionPool script(String sqlFragment, Function<String, RowSet<Row>> results) {
+		scripts.add( new Script( sqlFragment, results ) );
+		return this;
+	}
+
+	/**
+	 * @return the number of statements executed so far
+	 */
+	public long getStatementCount() {
+		return statementCount.sum();
+	}
+
+	/**
+	 * @return the number of times each distinct SQL statement was executed
+	 */
+	public Map<String, Long> getStatementCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		statementCounts.forEach( (sql, count) -> counts.put( sql, count.sum() ) );
+		return counts;
+	}
+
+	/**
+	 * Forget the statements executed so far.
+	 */
+	public void resetStatementCounts() {
+		statementCounts.clear();
+		statementCount.reset();
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		CompletableFuture<ReactiveConnection> connection = new CompletableFuture<>();
+		synchronized ( this ) {
+			if ( availableConnections == 0 ) {
+				waiters.add( connection );
+				return connection;
+			}
+			availableConnections--;
+		}
+		connection.complete( new SimulatedConnection( this, true ) );
+		return connection;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	/**
+	 * A connection which does not count against the limit on the
+	 * number of connections.
+	 */
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new SimulatedConnection( this, false );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return getProxyConnection();
+	}
+
+	void release() {
+		CompletableFuture<ReactiveConnection> waiter;
+		synchronized ( this ) {
+			waiter = waiters.poll();
+			if ( waiter == null ) {
+				availableConnections++;
+				return;
+			}
+		}
+		waiter.complete( new SimulatedConnection( this, true ) );
+	}
+
+	void record(String sql) {
+		statementCount.increment();
+		statementCounts.computeIfAbsent( sql, s -> new LongAdder() ).increment();
+	}
+
+	RowSet<Row> results(String sql) {
+		for ( Script script : scripts ) {
+			if ( sql.contains( script.sqlFragment ) ) {
+				return script.results.apply( sql );
+			}
+		}
+		return null;
+	}
+
+	long nextLong() {
+		return sequence.incrementAndGet();
+	}
+
+	<T> CompletionStage<T> complete(T result) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		if ( vertx == null ) {
+			future.complete( result );
+		}
+		else {
+			vertx.setTimer( latency, id -> future.complete( result ) );
+		}
+		return future;
+	}
+}
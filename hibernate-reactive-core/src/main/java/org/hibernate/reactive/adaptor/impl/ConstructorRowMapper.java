@@ -0,0 +1,490 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.hibernate.HibernateException;
+import org.hibernate.type.Type;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps the rows of the result of a native query directly to instances
+ * of a class which is neither an entity nor a basic type, without going
+ * through the JDBC {@link ResultSet} methods, Hibernate
+ * {@link org.hibernate.type.Type}s, or an {@code Object[]} per row.
+ * <p>
+ * The columns of each row are passed, in order, to the constructor of
+ * the class with the same number of parameters. When there are several
+ * such constructors, the JDBC types of the columns, as reported by the
+ * {@link ColumnDescriptor}s of the result, determine which one is used.
+ * A column of a type with no obvious Java counterpart is accepted by a
+ * parameter of any type, but if one of its values turns out not to be
+ * of that type, the error names the column.
+ * <p>
+ * For each constructor, a {@link MethodHandle} accepting a {@code Row}
+ * is compiled once, and reused by every query with the same result
+ * class. It combines the constructor with a typed getter of {@code Row}
+ * for each parameter. A null value of a primitive parameter is passed
+ * as zero, as by {@link ResultSet#getInt(int)}.
+ * <p>
+ * The result of a cacheable query is stored in the query cache as the
+ * constructor arguments of each row, whose {@link Type}s are determined
+ * by the constructor parameters.
+ * <p>
+ * The compiled constructor handles are also used to instantiate the
+ * results of an HQL {@code select new} query, instead of reflection.
+ */
+public final class ConstructorRowMapper<T> {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType MAPPER_TYPE = MethodType.methodType( Object.class, Row.class );
+	private static final Map<Class<?>, MethodHandle> GETTERS = getters();
+
+	private static final ClassValue<ConstructorRowMapper<?>> MAPPERS = new ClassValue<ConstructorRowMapper<?>>() {
+		@Override
+		protected ConstructorRowMapper<?> computeValue(Class<?> resultClass) {
+			return new ConstructorRowMapper<>( resultClass );
+		}
+	};
+
+	private final Class<T> resultClass;
+	private final Map<Constructor<?>, MethodHandle> constructorMappers = new ConcurrentHashMap<>();
+	private final Map<Constructor<?>, MethodHandle> argumentMappers = new ConcurrentHashMap<>();
+	private final Map<Constructor<?>, MethodHandle> instantiators = new ConcurrentHashMap<>();
+	private final Map<Constructor<?>, MethodHandle> tupleInstantiators = new ConcurrentHashMap<>();
+
+	private ConstructorRowMapper(Class<T> resultClass) {
+		this.resultClass = resultClass;
+	}
+
+	/**
+	 * Obtain the mapper for the given result class.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ConstructorRowMapper<T> forClass(Class<T> resultClass) {
+		return (ConstructorRowMapper<T>) MAPPERS.get( resultClass );
+	}
+
+	/**
+	 * The class whose instances are the results.
+	 */
+	public Class<T> getResultClass() {
+		return resultClass;
+	}
+
+	/**
+	 * Map every row of the given result, which must have been obtained
+	 * from {@link org.hibernate.reactive.pool.ReactiveConnection#selectJdbc},
+	 * ignoring the current position of its cursor.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> map(ResultSet resultSet) throws SQLException {
+		final RowSet<Row> rows = resultSet.unwrap( RowSet.class );
+		if ( rows.size() == 0 ) {
+			return new ArrayList<>( 0 );
+		}
+		final Constructor<?> constructor = constructor( rows );
+		final MethodHandle mapper = constructorMappers.computeIfAbsent( constructor, ConstructorRowMapper::compile );
+		final List<T> results = new ArrayList<>( rows.size() );
+		for ( Row row : rows ) {
+			try {
+				results.add( (T) mapper.invokeExact( row ) );
+			}
+			catch (ClassCastException e) {
+				throw mismatch( constructor, row, e );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Could not instantiate " + resultClass.getName(), t );
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * The {@code Type}s of the parameters of the given constructor,
+	 * used to store its arguments in the query cache, or null if one
+	 * of them is not a basic type.
+	 */
+	public static Type[] argumentTypes(Constructor<?> constructor, TypeConfiguration typeConfiguration) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final Type[] types = new Type[parameterTypes.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			types[i] = typeConfiguration.getBasicTypeRegistry().getRegisteredType( wrapper( parameterTypes[i] ).getName() );
+			if ( types[i] == null ) {
+				return null;
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * The constructor arguments for every row of the given result, in
+	 * the form accepted by the query cache, that is, a single value per
+	 * row if the constructor has a single parameter, or an
+	 * {@code Object[]} per row otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	public Arguments arguments(ResultSet resultSet) throws SQLException {
+		final RowSet<Row> rows = resultSet.unwrap( RowSet.class );
+		final Constructor<?> constructor = constructor( rows );
+		final MethodHandle mapper = argumentMappers.computeIfAbsent( constructor, ConstructorRowMapper::compileArguments );
+		final List<Object> arguments = new ArrayList<>( rows.size() );
+		for ( Row row : rows ) {
+			try {
+				arguments.add( mapper.invokeExact( row ) );
+			}
+			catch (ClassCastException e) {
+				throw mismatch( constructor, row, e );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Could not read the result for " + resultClass.getName(), t );
+			}
+		}
+		return new Arguments( constructor, arguments );
+	}
+
+	/**
+	 * Instantiate the result class by calling the given constructor with
+	 * each of the given arguments, as obtained from {@link #arguments}.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> instantiate(Constructor<?> constructor, List<?> arguments) {
+		final MethodHandle instantiator = instantiators.computeIfAbsent( constructor, ConstructorRowMapper::compileInstantiator );
+		final List<T> results = new ArrayList<>( arguments.size() );
+		for ( Object argument : arguments ) {
+			try {
+				results.add( (T) instantiator.invokeExact( argument ) );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Could not instantiate " + resultClass.getName(), t );
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Instantiate the result class by calling the given constructor with
+	 * the elements of each of the given tuples, for example, the rows of
+	 * an HQL {@code select new} query.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> instantiateTuples(Constructor<?> constructor, List<?> tuples) {
+		final MethodHandle instantiator = tupleInstantiators.computeIfAbsent( constructor, ConstructorRowMapper::compileTupleInstantiator );
+		final List<T> results = new ArrayList<>( tuples.size() );
+		for ( Object tuple : tuples ) {
+			try {
+				results.add( (T) instantiator.invokeExact( (Object[]) tuple ) );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Could not instantiate " + resultClass.getName(), t );
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * The exception thrown when a value of the given row can't be passed
+	 * to the given constructor, naming the column, which must be one of a
+	 * type with no obvious Java counterpart.
+	 */
+	private HibernateException mismatch(Constructor<?> constructor, Row row, ClassCastException e) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final Object value = row.getValue( i );
+			final Class<?> type = wrapper( parameterTypes[i] );
+			if ( value != null && !type.isInstance( value )
+					&& !( value instanceof Number && Number.class.isAssignableFrom( type ) ) ) {
+				return new HibernateException( "Column '" + row.getColumnName( i )
+						+ "' returned a value of type " + value.getClass().getName()
+						+ " which cannot be passed to the parameter of type " + parameterTypes[i].getName()
+						+ " of the constructor of " + resultClass.getName(), e );
+			}
+		}
+		return new HibernateException( "Could not instantiate " + resultClass.getName(), e );
+	}
+
+	/**
+	 * The constructor arguments for the rows of a query result.
+	 */
+	public static final class Arguments {
+		private final Constructor<?> constructor;
+		private final List<Object> arguments;
+
+		Arguments(Constructor<?> constructor, List<Object> arguments) {
+			this.constructor = constructor;
+			this.arguments = arguments;
+		}
+
+		public Constructor<?> getConstructor() {
+			return constructor;
+		}
+
+		public List<Object> getArguments() {
+			return arguments;
+		}
+	}
+
+	private Constructor<?> constructor(RowSet<Row> rows) {
+		final List<ColumnDescriptor> columns = rows.columnDescriptors();
+		Constructor<?> match = null;
+		for ( Constructor<?> candidate : resultClass.getDeclaredConstructors() ) {
+			if ( candidate.getParameterCount() == columns.size() && accepts( candidate, columns ) ) {
+				if ( match != null ) {
+					throw new HibernateException( "Result class " + resultClass.getName()
+							+ " has more than one constructor accepting the " + columns.size()
+							+ " columns returned by the query" );
+				}
+				match = candidate;
+			}
+		}
+		if ( match == null ) {
+			throw new HibernateException( "Result class " + resultClass.getName()
+					+ " has no constructor accepting the " + columns.size() + " columns returned by the query" );
+		}
+		return match;
+	}
+
+	private static boolean accepts(Constructor<?> constructor, List<ColumnDescriptor> columns) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final Class<?> columnType = javaType( columns.get( i ) );
+			if ( columnType != null ) {
+				final Class<?> type = wrapper( parameterTypes[i] );
+				boolean numeric = Number.class.isAssignableFrom( type )
+						&& type != BigDecimal.class
+						&& Number.class.isAssignableFrom( columnType );
+				if ( !numeric && !type.isAssignableFrom( columnType ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The Java type of the values in the given column, or null if
+	 * it is not known.
+	 */
+	private static Class<?> javaType(ColumnDescriptor column) {
+		final JDBCType jdbcType = column.isArray() ? null : column.jdbcType();
+		if ( jdbcType == null ) {
+			return null;
+		}
+		switch ( jdbcType ) {
+			case BIT:
+			case BOOLEAN:
+				return Boolean.class;
+			case TINYINT:
+			case SMALLINT:
+				return Short.class;
+			case INTEGER:
+				return Integer.class;
+			case BIGINT:
+				return Long.class;
+			case REAL:
+				return Float.class;
+			case FLOAT:
+			case DOUBLE:
+				return Double.class;
+			case NUMERIC:
+			case DECIMAL:
+				return BigDecimal.class;
+			case CHAR:
+			case VARCHAR:
+			case LONGVARCHAR:
+			case NCHAR:
+			case NVARCHAR:
+			case LONGNVARCHAR:
+			case CLOB:
+			case NCLOB:
+				return String.class;
+			case DATE:
+				return LocalDate.class;
+			case TIME:
+				return LocalTime.class;
+			case TIME_WITH_TIMEZONE:
+				return OffsetTime.class;
+			case TIMESTAMP:
+				return LocalDateTime.class;
+			case TIMESTAMP_WITH_TIMEZONE:
+				return OffsetDateTime.class;
+			default:
+				return null;
+		}
+	}
+
+	private static MethodHandle compile(Constructor<?> constructor) {
+		constructor.setAccessible( true );
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final MethodHandle[] getters = new MethodHandle[parameterTypes.length];
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final Class<?> type = parameterTypes[i];
+			final MethodHandle getter = GETTERS.get( wrapper( type ) );
+			getters[i] = getter == null
+					? getter( GETTERS.get( Object.class ), type, i )
+					: getter( getter, type, i );
+		}
+		try {
+			MethodHandle handle = MethodHandles.filterArguments( LOOKUP.unreflectConstructor( constructor ), 0, getters );
+			// every parameter is obtained from the same row
+			handle = MethodHandles.permuteArguments(
+					handle,
+					MethodType.methodType( constructor.getDeclaringClass(), Row.class ),
+					new int[parameterTypes.length]
+			);
+			return handle.asType( MAPPER_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Could not access constructor of " + constructor.getDeclaringClass().getName(), e );
+		}
+	}
+
+	/**
+	 * A handle accepting a {@code Row} and returning the constructor
+	 * arguments, as a single value, or as an {@code Object[]}.
+	 */
+	private static MethodHandle compileArguments(Constructor<?> constructor) {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final MethodHandle[] getters = new MethodHandle[parameterTypes.length];
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			final Class<?> type = parameterTypes[i];
+			final MethodHandle getter = GETTERS.get( wrapper( type ) );
+			// convert to the parameter type and back, so that a
+			// null primitive value is stored as zero
+			getters[i] = MethodHandles.explicitCastArguments(
+					getter == null ? getter( GETTERS.get( Object.class ), type, i ) : getter( getter, type, i ),
+					MAPPER_TYPE
+			);
+		}
+		if ( getters.length == 1 ) {
+			return getters[0];
+		}
+		MethodHandle handle = MethodHandles.filterArguments(
+				MethodHandles.identity( Object[].class ).asCollector( Object[].class, getters.length ),
+				0,
+				getters
+		);
+		handle = MethodHandles.permuteArguments(
+				handle,
+				MethodType.methodType( Object[].class, Row.class ),
+				new int[getters.length]
+		);
+		return handle.asType( MAPPER_TYPE );
+	}
+
+	/**
+	 * A handle accepting the constructor arguments, as a single value,
+	 * or as an {@code Object[]}, and returning a new instance.
+	 */
+	private static MethodHandle compileInstantiator(Constructor<?> constructor) {
+		constructor.setAccessible( true );
+		try {
+			MethodHandle handle = LOOKUP.unreflectConstructor( constructor );
+			if ( constructor.getParameterCount() != 1 ) {
+				handle = handle.asSpreader( Object[].class, constructor.getParameterCount() );
+			}
+			return handle.asType( MethodType.methodType( Object.class, Object.class ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Could not access constructor of " + constructor.getDeclaringClass().getName(), e );
+		}
+	}
+
+	/**
+	 * A handle accepting an {@code Object[]} of constructor arguments,
+	 * and returning a new instance.
+	 */
+	private static MethodHandle compileTupleInstantiator(Constructor<?> constructor) {
+		constructor.setAccessible( true );
+		try {
+			return LOOKUP.unreflectConstructor( constructor )
+					.asSpreader( Object[].class, constructor.getParameterCount() )
+					.asType( MethodType.methodType( Object.class, Object[].class ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Could not access constructor of " + constructor.getDeclaringClass().getName(), e );
+		}
+	}
+
+	/**
+	 * Bind the column index to the given getter, and convert its result
+	 * to the given type, introducing zero for a null primitive value.
+	 */
+	private static MethodHandle getter(MethodHandle getter, Class<?> type, int index) {
+		return MethodHandles.explicitCastArguments(
+				MethodHandles.insertArguments( getter, 1, index ),
+				MethodType.methodType( type, Row.class )
+		);
+	}
+
+	private static Class<?> wrapper(Class<?> type) {
+		return MethodType.methodType( type ).wrap().returnType();
+	}
+
+	private static Map<Class<?>, MethodHandle> getters() {
+		Map<Class<?>, MethodHandle> getters = new HashMap<>();
+		getters.put( Object.class, getter( "getValue", Object.class ) );
+		getters.put( Boolean.class, getter( "getBoolean", Boolean.class ) );
+		getters.put( Short.class, getter( "getShort", Short.class ) );
+		getters.put( Integer.class, getter( "getInteger", Integer.class ) );
+		getters.put( Long.class, getter( "getLong", Long.class ) );
+		getters.put( Float.class, getter( "getFloat", Float.class ) );
+		getters.put( Double.class, getter( "getDouble", Double.class ) );
+		getters.put( String.class, getter( "getString", String.class ) );
+		getters.put( BigDecimal.class, getter( "getBigDecimal", BigDecimal.class ) );
+		getters.put( LocalDate.class, getter( "getLocalDate", LocalDate.class ) );
+		getters.put( LocalTime.class, getter( "getLocalTime", LocalTime.class ) );
+		getters.put( LocalDateTime.class, getter( "getLocalDateTime", LocalDateTime.class ) );
+		getters.put( OffsetTime.class, getter( "getOffsetTime", OffsetTime.class ) );
+		getters.put( OffsetDateTime.class, getter( "getOffsetDateTime", OffsetDateTime.class ) );
+		getters.put( UUID.class, getter( "getUUID", UUID.class ) );
+		return Collections.unmodifiableMap( getters );
+	}
+
+	private static MethodHandle getter(String name, Class<?> type) {
+		try {
+			return LOOKUP.findVirtual( Row.class, name, MethodType.methodType( type, int.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new AssertionError( e );
+		}
+	}
+}
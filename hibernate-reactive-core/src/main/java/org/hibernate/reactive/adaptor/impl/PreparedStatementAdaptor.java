@@ -48,7 +48,18 @@ public interface Binder {
 	}
 
 	public static Object[] bind(Binder binder) {
-		PreparedStatementAdaptor statement = new PreparedStatementAdaptor();
+		return bind( 0, binder );
+	}
+
+	/**
+	 * Collect the parameter bindings into an array of the given expected
+	 * size. If the number of parameters actually bound is exactly the
+	 * expected number, the array is allocated once, and never copied.
+	 *
+	 * @param parameterCount the expected number of parameters
+	 */
+	public static Object[] bind(int parameterCount, Binder binder) {
+		PreparedStatementAdaptor statement = new PreparedStatementAdaptor( parameterCount );
 		try {
 			binder.bind(statement);
 		}
@@ -58,13 +69,36 @@ public static Object[] bind(Binder binder) {
 		return statement.getParametersAsArray();
 	}
 
+	/**
+	 * The number of JDBC-style {@code ?} parameters in the given SQL.
+	 * This is exact for the SQL generated by Hibernate for inserts,
+	 * updates, and deletes, and is otherwise an upper bound.
+	 */
+	public static int parameterCount(String sql) {
+		int count = 0;
+		for ( int i = 0, length = sql.length(); i < length; i++ ) {
+			if ( sql.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
 	static final Object[] NO_PARAMS = new Object[0];
 
-	Object[] params = NO_PARAMS;
+	Object[] params;
 	int size = 0;
 
+	public PreparedStatementAdaptor() {
+		this( 0 );
+	}
+
+	private PreparedStatementAdaptor(int parameterCount) {
+		params = parameterCount == 0 ? NO_PARAMS : new Object[parameterCount];
+	}
+
 	void put(int parameterIndex, Object parameter) {
-		if ( params.length <= parameterIndex ) {
+		if ( params.length < parameterIndex ) {
 			params = Arrays.copyOf(params, 4 + parameterIndex * 2);
 		}
 		params[parameterIndex-1] = parameter;
@@ -78,7 +112,7 @@ void clear() {
 	}
 
 	public Object[] getParametersAsArray() {
-		return Arrays.copyOf(params, size);
+		return size == params.length ? params : Arrays.copyOf(params, size);
 	}
 
 	@Override
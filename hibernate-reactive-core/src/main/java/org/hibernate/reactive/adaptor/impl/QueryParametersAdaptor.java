@@ -5,19 +5,37 @@
  */
 package org.hibernate.reactive.adaptor.impl;
 
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MathHelper;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.param.ParameterSpecification;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.PostgresUUIDType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.StringType;
 import org.hibernate.type.Type;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
 
 public class QueryParametersAdaptor {
 
 	public static Object[] arguments(QueryParameters queryParameters,
 									 SharedSessionContractImplementor session) {
-		return PreparedStatementAdaptor.bind( adaptor -> {
-			Type[] types = queryParameters.getFilteredPositionalParameterTypes();
-			Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		Type[] types = queryParameters.getFilteredPositionalParameterTypes();
+		Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		int columnSpan = 0;
+		for ( Type type : types ) {
+			columnSpan += type.getColumnSpan( session.getFactory() );
+		}
+		return PreparedStatementAdaptor.bind( columnSpan, adaptor -> {
 			int pos = 1;
 			for (int i = 0; i < types.length; i++) {
 				Type type = types[i];
@@ -39,4 +57,64 @@ public static Object[] arguments(
 			}
 		} );
 	}
+
+	/**
+	 * Can a batch of keys of the given type, mapped to the given number
+	 * of columns, be bound as a single array, using {@code = any (?)}
+	 * instead of {@code in (?, ?, ...)}?
+	 *
+	 * @see Settings#BATCH_FETCH_ARRAY_PARAMETER
+	 */
+	public static boolean supportsArrayParameter(SessionFactoryImplementor factory, Type keyType, int columnSpan) {
+		return factory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect
+				&& ConfigurationHelper.getBoolean( Settings.BATCH_FETCH_ARRAY_PARAMETER, factory.getProperties(), true )
+				&& columnSpan == 1
+				&& ( keyType instanceof IntegerType
+					|| keyType instanceof LongType
+					|| keyType instanceof ShortType
+					|| keyType instanceof StringType
+					|| keyType instanceof PostgresUUIDType );
+	}
+
+	/**
+	 * Replace the restriction {@code in (placeholder)} on a non-composite
+	 * key in the given batch loading SQL template with {@code = any (?)}.
+	 *
+	 * @see StringHelper#BATCH_ID_PLACEHOLDER
+	 */
+	public static String expandBatchIdArrayPlaceholder(String sql) {
+		return StringHelper.replace( sql, " in (" + StringHelper.BATCH_ID_PLACEHOLDER + ')', " = any (?)" );
+	}
+
+	/**
+	 * Collect the given arguments, the bound values of a batch of keys,
+	 * into a single array argument.
+	 *
+	 * @see #supportsArrayParameter(SessionFactoryImplementor, Type, int)
+	 */
+	public static Object[] arrayArgument(Object[] arguments) {
+		Object array = Array.newInstance( arguments[0].getClass(), arguments.length );
+		for (int i = 0; i < arguments.length; i++) {
+			Array.set( array, i, arguments[i] );
+		}
+		return new Object[] { array };
+	}
+
+	/**
+	 * Pad the given batch of keys, or of their types, to the next power
+	 * of two, by repeating the last element, so that the number of
+	 * distinct batch sizes, and of distinct SQL statements, is only
+	 * logarithmic in the maximum batch size.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING
+	 */
+	public static <T> T[] padToPowerOfTwo(T[] array) {
+		int size = MathHelper.ceilingPowerOfTwo( array.length );
+		if ( size == array.length ) {
+			return array;
+		}
+		T[] padded = Arrays.copyOf( array, size );
+		Arrays.fill( padded, array.length, size, array[array.length - 1] );
+		return padded;
+	}
 }
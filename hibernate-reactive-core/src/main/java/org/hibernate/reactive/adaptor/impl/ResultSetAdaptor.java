@@ -26,6 +26,7 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.RowId;
+import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
@@ -37,6 +38,7 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -50,11 +52,56 @@ public class ResultSetAdaptor implements ResultSet {
 	private Row row;
 	private boolean wasNull;
 
+	// every row of a RowSet has the same columns
+	private final Map<String, Integer> columnIndexes = new HashMap<>();
+
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
 	}
 
+	/**
+	 * @return the total number of rows in the underlying {@link RowSet}
+	 */
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	/**
+	 * Resolve the given column label, the first time it is requested,
+	 * since each lookup by label is a linear search of the column names.
+	 *
+	 * @return the zero-based index of the column, or -1 if there is no
+	 *         column with the given label
+	 */
+	private int columnIndex(String columnLabel) {
+		Integer index = columnIndexes.get( columnLabel );
+		if ( index == null ) {
+			index = row.getColumnIndex( columnLabel );
+			columnIndexes.put( columnLabel, index );
+		}
+		return index;
+	}
+
+	/**
+	 * Reads the value of a column of a {@link Row} using one of its typed
+	 * accessors, for example, {@link Row#getLocalDateTime(int)}.
+	 */
+	@FunctionalInterface
+	public interface ColumnReader<T> {
+		T read(Row row, int index);
+	}
+
+	/**
+	 * Read the value of the given column of the current row directly,
+	 * using the given reader, without converting it to a JDBC type.
+	 */
+	public <T> T getValue(String columnLabel, ColumnReader<T> reader) {
+		int index = columnIndex( columnLabel );
+		T value = index < 0 ? null : reader.read( row, index );
+		return (wasNull=value==null) ? null : value;
+	}
+
 	@Override
 	public boolean next() {
 		if ( iterator.hasNext() ) {
@@ -166,49 +213,57 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
+		int index = columnIndex( columnLabel );
+		String string = index < 0 ? null : row.getString( index );
 		return (wasNull=string==null) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
-		Boolean bool = row.getBoolean(columnLabel);
+		int index = columnIndex( columnLabel );
+		Boolean bool = index < 0 ? null : row.getBoolean( index );
 		return (wasNull=bool==null) ? false : bool;
 	}
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		int index = columnIndex( columnLabel );
+		Integer integer = index < 0 ? null : row.getInteger( index );
 		return (wasNull=integer==null) ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short integer = row.getShort(columnLabel);
+		int index = columnIndex( columnLabel );
+		Short integer = index < 0 ? null : row.getShort( index );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		int index = columnIndex( columnLabel );
+		Integer integer = index < 0 ? null : row.getInteger( index );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long integer = row.getLong(columnLabel);
+		int index = columnIndex( columnLabel );
+		Long integer = index < 0 ? null : row.getLong( index );
 		return (wasNull=integer==null) ? 0 : integer;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat(columnLabel);
+		int index = columnIndex( columnLabel );
+		Float real = index < 0 ? null : row.getFloat( index );
 		return (wasNull=real==null) ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble(columnLabel);
+		int index = columnIndex( columnLabel );
+		Double real = index < 0 ? null : row.getDouble( index );
 		return (wasNull=real==null) ? 0 : real;
 	}
 
@@ -219,36 +274,33 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer(columnLabel);
+		int index = columnIndex( columnLabel );
+		Buffer buffer = index < 0 ? null : row.getBuffer( index );
 		return (wasNull=buffer==null) ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
+		int index = columnIndex( columnLabel );
+		LocalDate localDate = index < 0 ? null : row.getLocalDate( index );
 		return (wasNull=localDate==null) ? null : java.sql.Date.valueOf(localDate);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
+		int index = columnIndex( columnLabel );
+		LocalTime localTime = index < 0 ? null : row.getLocalTime( index );
 		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		LocalDateTime localDateTime = row.getLocalDateTime(columnLabel);
-		if (localDateTime==null) {
-			try {
-				OffsetDateTime offsetDateTime = row.getOffsetDateTime(columnLabel);
-				if (offsetDateTime!=null) {
-					localDateTime = LocalDateTime.from(offsetDateTime);
-				}
-			}
-			catch (Exception e) {
-				//MySQL client throws a nasty NPE here
-			}
-		}
+		int index = columnIndex( columnLabel );
+		Object value = index < 0 ? null : row.getValue( index );
+		LocalDateTime localDateTime = value instanceof OffsetDateTime
+				// a timestamp with time zone
+				? ( (OffsetDateTime) value ).toLocalDateTime()
+				: value == null ? null : row.getLocalDateTime( index );
 		return (wasNull=localDateTime==null) ? null : Timestamp.valueOf(localDateTime);
 	}
 
@@ -270,18 +322,21 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
+		T object = row.get( type, columnIndex( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
 	@Override
-	public <T> T unwrap(Class<T> iface) {
-		return null;
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if ( iface.isInstance( rows ) ) {
+			return iface.cast( rows );
+		}
+		throw new SQLException( "not a wrapper for " + iface.getName() );
 	}
 
 	@Override
 	public boolean isWrapperFor(Class<?> iface) {
-		return false;
+		return iface.isInstance( rows );
 	}
 
 	@Override
@@ -426,7 +481,8 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		int index = columnIndex( columnLabel );
+		Object object = index < 0 ? null : row.getValue( index );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -444,7 +500,8 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
+		int index = columnIndex( columnLabel );
+		BigDecimal decimal = index < 0 ? null : row.getBigDecimal( index );
 		return (wasNull=decimal==null) ? null : decimal;
 	}
 
@@ -651,7 +708,8 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		Buffer buffer = (Buffer) row.getValue( columnLabel );
+		int index = columnIndex( columnLabel );
+		Buffer buffer = (Buffer) ( index < 0 ? null : row.getValue( index ) );
 		return ( wasNull = buffer == null )
 				? null
 				: BlobProxy.generateProxy( buffer.getBytes() );
@@ -0,0 +1,108 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import java.util.Objects;
+
+/**
+ * Specifies a page of query results using keyset pagination, also
+ * called "seek" pagination. Instead of skipping the results on the
+ * previous pages using an {@code offset}, the query is restricted to
+ * results which come after the last result of the previous page, as
+ * in {@code where (b.published, b.id) > (?, ?) order by b.published, b.id}.
+ * The cost of fetching a page therefore does not depend on how deep
+ * in the results the page is, as long as there's an index on the
+ * key.
+ * <p>
+ * The key is a list of attribute paths, written as they would be in
+ * the query, each optionally followed by {@code asc} or {@code desc}.
+ * Together, the key attributes must uniquely determine the order of
+ * the results, typically by ending with the identifier, and must not
+ * be null.
+ * <p>
+ * The first page is obtained using {@link #orderBy(String...)}. Each
+ * subsequent page is obtained using {@link #after(String)}, passing
+ * the {@linkplain KeysetPage#getNextCursor() cursor} of the previous
+ * page, or {@link #after(Object...)}, passing the values of the key
+ * attributes of the last result of the previous page.
+ *
+ * @see org.hibernate.reactive.stage.Stage.Query#getKeysetPage(Keyset, int)
+ * @see org.hibernate.reactive.mutiny.Mutiny.Query#getKeysetPage(Keyset, int)
+ */
+@Incubating
+public final class Keyset {
+
+	private final String[] paths;
+	private final String cursor;
+	private final Object[] values;
+
+	private Keyset(String[] paths, String cursor, Object[] values) {
+		this.paths = paths;
+		this.cursor = cursor;
+		this.values = values;
+	}
+
+	/**
+	 * The first page of results, ordered by the given key attributes.
+	 */
+	public static Keyset orderBy(String... paths) {
+		if ( paths.length == 0 ) {
+			throw new IllegalArgumentException( "at least one key attribute must be specified" );
+		}
+		return new Keyset( paths.clone(), null, null );
+	}
+
+	/**
+	 * The page of results which follows the page with the given
+	 * {@linkplain KeysetPage#getNextCursor() cursor}.
+	 */
+	public Keyset after(String cursor) {
+		return new Keyset( paths, Objects.requireNonNull( cursor, "cursor" ), null );
+	}
+
+	/**
+	 * The page of results which follows the result with the given
+	 * values of the key attributes.
+	 */
+	public Keyset after(Object... values) {
+		if ( values.length != paths.length ) {
+			throw new IllegalArgumentException( "expected " + paths.length + " key values" );
+		}
+		return new Keyset( paths, null, values.clone() );
+	}
+
+	/**
+	 * The key attributes, each optionally followed by {@code asc}
+	 * or {@code desc}.
+	 */
+	public String[] getPaths() {
+		return paths.clone();
+	}
+
+	/**
+	 * The cursor of the previous page, or {@code null}.
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * The values of the key attributes of the last result of the
+	 * previous page, or {@code null}.
+	 */
+	public Object[] getValues() {
+		return values == null ? null : values.clone();
+	}
+
+	/**
+	 * Is this the first page?
+	 */
+	public boolean isFirstPage() {
+		return cursor == null && values == null;
+	}
+}
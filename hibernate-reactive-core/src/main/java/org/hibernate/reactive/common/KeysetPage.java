@@ -0,0 +1,38 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import java.util.List;
+
+/**
+ * A page of query results obtained using {@linkplain Keyset keyset
+ * pagination}.
+ *
+ * @param <R> the result type of the query
+ */
+@Incubating
+public interface KeysetPage<R> {
+
+	/**
+	 * The results on this page.
+	 */
+	List<R> getResults();
+
+	/**
+	 * Is there at least one more result after this page?
+	 */
+	boolean hasNext();
+
+	/**
+	 * An opaque token identifying the position of the last result
+	 * on this page, which may be passed to {@link Keyset#after(String)}
+	 * to obtain the next page, or {@code null} if this is the last
+	 * page.
+	 */
+	String getNextCursor();
+}
@@ -0,0 +1,40 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+/**
+ * Counts lookups in the cache of compiled HQL query plans shared by
+ * all sessions of a session factory. Unlike the query plan counters
+ * of {@link org.hibernate.stat.Statistics}, these counters are always
+ * maintained.
+ * <p>
+ * A miss means that the query had to be parsed and translated to SQL,
+ * which is expensive, and, unless
+ * {@link org.hibernate.reactive.provider.Settings#QUERY_PLAN_ASYNC_COMPILATION}
+ * is enabled, blocks the calling thread.
+ */
+@Incubating
+public interface QueryPlanCacheStatistics {
+
+	/**
+	 * The number of times a query plan was found in the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of times a query plan was not found in the cache,
+	 * and had to be compiled.
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of query plans compiled on a worker thread, instead
+	 * of on the thread which created the query.
+	 */
+	long getAsyncCompilationCount();
+}
@@ -0,0 +1,34 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import java.util.List;
+
+/**
+ * A page of query results, as specified by the first result and
+ * maximum number of results of the query, along with the total
+ * number of results of the query without these limits.
+ *
+ * @see org.hibernate.reactive.stage.Stage.Query#getResultPage()
+ * @see org.hibernate.reactive.mutiny.Mutiny.Query#getResultPage()
+ *
+ * @param <R> the result type of the query
+ */
+@Incubating
+public interface ResultPage<R> {
+
+	/**
+	 * The results on this page.
+	 */
+	List<R> getResults();
+
+	/**
+	 * The total number of results of the query, on all pages.
+	 */
+	long getTotalCount();
+}
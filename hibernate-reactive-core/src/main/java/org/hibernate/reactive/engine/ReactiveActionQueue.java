@@ -17,7 +17,9 @@
 import org.hibernate.engine.spi.*;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.engine.impl.*;
@@ -550,14 +552,15 @@ public CompletionStage<Void> executeActions() {
 					"About to execute actions, but there are unresolved entity insert actions." ) );
 		}
 
-		CompletionStage<Void> ret = CompletionStages.voidFuture();
-		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
-			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
-			if ( l != null && !l.isEmpty() ) {
-				ret = ret.thenCompose( v -> executeActions( l ) );
-			}
-		}
-		return ret;
+		return CompletionStages.loop(
+				EXECUTABLE_LISTS_MAP.values(),
+				listProvider -> {
+					ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
+					return l != null && !l.isEmpty()
+							? executeActions( l )
+							: CompletionStages.voidFuture();
+				}
+		);
 	}
 
 	/**
@@ -654,18 +657,14 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
-		CompletionStage<Void> ret = CompletionStages.voidFuture();
-		for ( E e : list ) {
-			ret = ret.thenCompose( v -> e.reactiveExecute().whenComplete( (v2, x) -> {
-				if ( e.getBeforeTransactionCompletionProcess() != null ) {
-					beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
-				}
-				if ( e.getAfterTransactionCompletionProcess() != null ) {
-					afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
-				}
-			} ) );
-		}
-		return ret.whenComplete( (v, x) -> {
+		return CompletionStages.loop( list, e -> e.reactiveExecute().whenComplete( (v2, x) -> {
+			if ( e.getBeforeTransactionCompletionProcess() != null ) {
+				beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
+			}
+			if ( e.getAfterTransactionCompletionProcess() != null ) {
+				afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
+			}
+		} ) ).whenComplete( (v, x) -> {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
@@ -967,10 +966,76 @@ public CompletionStage<Void> beforeTransactionCompletion() {
 					throw new AssertionFailure( "Unable to perform beforeTransactionCompletion callback", e );
 				}
 			}
+			return doVersionProcessesInBatches()
+					.thenCompose( v -> CompletionStages.loop(
+							reactiveProcesses,
+							process -> process.doBeforeTransactionCompletion( session )
+					) )
+					.whenComplete( (v, e) -> reactiveProcesses.clear() );
+		}
+
+		/**
+		 * Verify or increment the versions of the instances locked with
+		 * {@code OPTIMISTIC} or {@code OPTIMISTIC_FORCE_INCREMENT} using
+		 * a single query, or a single batch of updates, per entity type,
+		 * instead of one statement per instance.
+		 */
+		private CompletionStage<Void> doVersionProcessesInBatches() {
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final Map<EntityPersister, List<Object>> verifications = new LinkedHashMap<>();
+			final Map<EntityPersister, List<Object>> increments = new LinkedHashMap<>();
+			final IdentitySet incremented = new IdentitySet();
+			for ( Iterator<ReactiveBeforeTransactionCompletionProcess> processes = reactiveProcesses.iterator();
+					processes.hasNext(); ) {
+				final ReactiveBeforeTransactionCompletionProcess process = processes.next();
+				final Object object;
+				final Map<EntityPersister, List<Object>> batches;
+				if ( process instanceof ReactiveEntityVerifyVersionProcess ) {
+					object = ( (ReactiveEntityVerifyVersionProcess) process ).getObject();
+					batches = verifications;
+				}
+				else if ( process instanceof ReactiveEntityIncrementVersionProcess ) {
+					object = ( (ReactiveEntityIncrementVersionProcess) process ).getObject();
+					if ( !incremented.add( object ) ) {
+						// a repeated increment is processed on its own,
+						// after the batch, using the incremented version
+						continue;
+					}
+					batches = increments;
+				}
+				else {
+					continue;
+				}
+
+				final EntityEntry entry = persistenceContext.getEntry( object );
+				if ( entry == null ) {
+					// the entity is no longer in the persistence context
+					processes.remove();
+				}
+				else {
+					final EntityPersister persister = entry.getPersister();
+					if ( persister.isVersioned() ) {
+						batches.computeIfAbsent( persister, p -> new ArrayList<>() ).add( object );
+						processes.remove();
+					}
+				}
+			}
+
 			return CompletionStages.loop(
-					reactiveProcesses,
-					process -> process.doBeforeTransactionCompletion( session )
-			).whenComplete( (v, e) -> reactiveProcesses.clear() );
+					verifications.entrySet(),
+					batch -> ReactiveEntityVerifyVersionProcess.doBeforeTransactionCompletion(
+							batch.getKey(),
+							batch.getValue(),
+							session
+					)
+			).thenCompose( v -> CompletionStages.loop(
+					increments.entrySet(),
+					batch -> ReactiveEntityIncrementVersionProcess.doBeforeTransactionCompletion(
+							batch.getKey(),
+							batch.getValue(),
+							session
+					)
+			) );
 		}
 	}
 
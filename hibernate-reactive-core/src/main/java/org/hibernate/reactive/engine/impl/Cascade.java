@@ -24,11 +24,14 @@
 import org.hibernate.type.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 /**
  * Delegate responsible for, in conjunction with the various
@@ -49,7 +52,7 @@
 	private final C context;
 	private CascadePoint cascadePoint;
 
-	private CompletionStage<Void> stage = CompletionStages.voidFuture();
+	private final List<Supplier<CompletionStage<?>>> steps = new ArrayList<>();
 
 	/**
 	 * 	@param persister The parent's entity persister
@@ -213,7 +216,7 @@ else if ( action.performOnLazyProperty() && types[ i ].isEntityType() ) {
 			}
 		}
 
-		return stage;
+		return CompletionStages.loop( steps, Supplier::get );
 	}
 
 	private void noCascade(
@@ -222,7 +225,7 @@ private void noCascade(
 			final EntityPersister persister,
 			final Type[] types,
 			final int i) {
-		stage = stage.thenCompose( v -> action.noCascade( eventSource, parent, persister, types[i], i ) );
+		steps.add( () -> action.noCascade( eventSource, parent, persister, types[i], i ) );
 	}
 
 	/**
@@ -466,9 +469,8 @@ private void cascadeToOne(
 			//not really necessary, but good for consistency...
 			final PersistenceContext persistenceContext = eventSource.getPersistenceContextInternal();
 			persistenceContext.addChildParent( child, parent );
-			stage = stage.thenCompose( v -> action.cascade( eventSource, child, entityName, context, isCascadeDeleteEnabled ) )
-					.whenComplete( (vv, e) -> persistenceContext.removeChildParent( child ) )
-					.thenAccept( vv -> {} );
+			steps.add( () -> action.cascade( eventSource, child, entityName, context, isCascadeDeleteEnabled )
+					.whenComplete( (vv, e) -> persistenceContext.removeChildParent( child ) ) );
 		}
 	}
 
@@ -10,18 +10,23 @@
 import org.hibernate.TransientObjectException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
@@ -298,13 +303,78 @@ public static CompletionStage<Boolean> isTransient(String entityName, Object ent
 			return CompletionStages.completedFuture( assumed );
 		}
 
-		// hit the database, after checking the session cache for a snapshot
+		// hit the database, after checking the session cache for a snapshot,
+		// or for the result of a previous call to resolveTransientStates()
 		ReactivePersistenceContextAdapter persistenceContext =
 				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
 		Serializable id = persister.getIdentifier(entity, session);
+		Boolean exists = persistenceContext.getCachedExistence( session.generateEntityKey( id, persister ) );
+		if ( exists != null ) {
+			return CompletionStages.completedFuture( !exists );
+		}
 		return persistenceContext.reactiveGetDatabaseSnapshot( id, persister).thenApply(Objects::isNull);
 	}
 
+	/**
+	 * Determine which of the given entities, which are referenced from
+	 * entities being flushed, already exist in the database, executing
+	 * a single query for each entity type, and remember the result in
+	 * the persistence context, so that subsequent calls to
+	 * {@link #isTransient} don't need to hit the database once for each
+	 * reference.
+	 * <p/>
+	 * Entities whose state can be determined without hitting the database
+	 * are ignored, as are entities with composite identifiers. The caller
+	 * must call {@link ReactivePersistenceContextAdapter#clearCachedExistence()}
+	 * once the result is no longer reliable.
+	 *
+	 * @param entities The referenced entity instances
+	 * @param session The session
+	 */
+	public static CompletionStage<Void> resolveTransientStates(Iterable<Object> entities, SessionImplementor session) {
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		final Map<EntityPersister, Map<EntityKey, Serializable>> idsByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			if ( entity == null
+					|| entity == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| entity instanceof HibernateProxy
+					|| persistenceContext.isEntryFor( entity )
+					|| session.getInterceptor().isTransient( entity ) != null ) {
+				continue;
+			}
+			final EntityPersister persister = session.getEntityPersister( null, entity );
+			if ( persister.isTransient( entity, session ) != null
+					|| persister.getIdentifierType().getColumnSpan( session.getFactory() ) != 1 ) {
+				continue;
+			}
+			final Serializable id = persister.getIdentifier( entity, session );
+			if ( id != null ) {
+				final EntityKey key = session.generateEntityKey( id, persister );
+				if ( persistenceContext.getCachedExistence( key ) == null ) {
+					idsByPersister.computeIfAbsent( persister, p -> new LinkedHashMap<>() ).put( key, id );
+				}
+			}
+		}
+
+		return CompletionStages.loop(
+				idsByPersister.entrySet(),
+				entry -> {
+					final EntityPersister persister = entry.getKey();
+					final Map<EntityKey, Serializable> ids = entry.getValue();
+					return ( (ReactiveEntityPersister) persister )
+							.reactiveGetExistingIdentifiers( new ArrayList<>( ids.values() ), session )
+							.thenAccept( existing -> {
+								ids.keySet().forEach( key -> persistenceContext.cacheExistence( key, false ) );
+								existing.forEach( id -> persistenceContext.cacheExistence(
+										session.generateEntityKey( id, persister ),
+										true
+								) );
+							} );
+				}
+		);
+	}
+
 	/**
 	 * Return the identifier of the persistent or transient object, or throw
 	 * an exception if the instance is "unsaved"
@@ -8,11 +8,15 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.engine.ReactiveBeforeTransactionCompletionProcess;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -34,6 +38,10 @@ public ReactiveEntityIncrementVersionProcess(Object object) {
 		this.object = object;
 	}
 
+	public Object getObject() {
+		return object;
+	}
+
 	/**
 	 * Perform whatever processing is encapsulated here before completion of the transaction.
 	 *
@@ -56,4 +64,35 @@ public CompletionStage<Void> doBeforeTransactionCompletion(ReactiveSession sessi
 						session.getSharedContract()
 				);
 	}
+
+	/**
+	 * Verify and increment the versions of several instances of the same
+	 * entity at once, using a single batch of updates.
+	 *
+	 * @param persister The persister for the instances
+	 * @param objects The entity instances, all present in the persistence context
+	 * @param session The session on which the transaction is preparing to complete.
+	 */
+	public static CompletionStage<Void> doBeforeTransactionCompletion(
+			EntityPersister persister,
+			List<Object> objects,
+			ReactiveSession session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final Serializable[] ids = new Serializable[objects.size()];
+		final Object[] versions = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityEntry entry = persistenceContext.getEntry( objects.get( i ) );
+			ids[i] = entry.getId();
+			versions[i] = entry.getVersion();
+		}
+
+		return ( (ReactiveEntityPersister) persister )
+				.lockReactive(
+						ids,
+						versions,
+						objects.toArray(),
+						new LockOptions(LockMode.PESSIMISTIC_FORCE_INCREMENT),
+						session.getSharedContract()
+				);
+	}
 }
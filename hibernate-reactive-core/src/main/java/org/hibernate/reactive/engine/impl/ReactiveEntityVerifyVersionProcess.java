@@ -5,14 +5,19 @@
  */
 package org.hibernate.reactive.engine.impl;
 
+import org.hibernate.LockOptions;
 import org.hibernate.dialect.lock.OptimisticEntityLockException;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.reactive.engine.ReactiveBeforeTransactionCompletionProcess;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -34,6 +39,10 @@ public ReactiveEntityVerifyVersionProcess(Object object) {
 		this.object = object;
 	}
 
+	public Object getObject() {
+		return object;
+	}
+
 	@Override
 	public CompletionStage<Void> doBeforeTransactionCompletion(ReactiveSession session) {
 		final EntityEntry entry = session.getPersistenceContext().getEntry( object );
@@ -55,4 +64,42 @@ public CompletionStage<Void> doBeforeTransactionCompletion(ReactiveSession sessi
 					}
 				} );
 	}
+
+	/**
+	 * Verify the versions of several instances of the same entity at once,
+	 * using a single query.
+	 *
+	 * @param persister The persister for the instances
+	 * @param objects The entity instances, all present in the persistence context
+	 * @param session The session on which the transaction is preparing to complete.
+	 */
+	public static CompletionStage<Void> doBeforeTransactionCompletion(
+			EntityPersister persister,
+			List<Object> objects,
+			ReactiveSession session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final EntityEntry[] entries = new EntityEntry[objects.size()];
+		final Serializable[] ids = new Serializable[entries.length];
+		for ( int i = 0; i < entries.length; i++ ) {
+			entries[i] = persistenceContext.getEntry( objects.get( i ) );
+			ids[i] = entries[i].getId();
+		}
+
+		return ( (ReactiveEntityPersister) persister )
+				.reactiveGetCurrentVersions( ids, LockOptions.NONE, session.getSharedContract() )
+				.thenAccept( latestVersions -> {
+					for ( int i = 0; i < entries.length; i++ ) {
+						final EntityEntry entry = entries[i];
+						final Object latestVersion = latestVersions[i];
+						if ( !entry.getVersion().equals( latestVersion ) ) {
+							throw new OptimisticEntityLockException(
+									objects.get( i ),
+									"Newer version [" + latestVersion +
+											"] of entity [" + MessageHelper.infoString( entry.getEntityName(), entry.getId() ) +
+											"] found in database"
+							);
+						}
+					}
+				} );
+	}
 }
@@ -30,6 +30,8 @@
 public class ReactivePersistenceContextAdapter extends StatefulPersistenceContext {
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
+	private HashMap<EntityKey,Boolean> existenceByKey;
+	private HashMap<EntityKey,Object> refreshTargetsByKey;
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -97,6 +99,69 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Determine if we already know whether the entity with the given key
+	 * has a row in the database, either from a cached snapshot, or from a
+	 * previous call to {@link #cacheExistence}.
+	 *
+	 * @return {@code null} if it's not known
+	 */
+	public Boolean getCachedExistence(EntityKey key) {
+		final Object[] snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		if ( snapshot != null ) {
+			return snapshot != NO_ROW;
+		}
+		return existenceByKey == null ? null : existenceByKey.get( key );
+	}
+
+	/**
+	 * Remember whether the entity with the given key has a row in the
+	 * database, until {@link #clearCachedExistence()} is called.
+	 *
+	 * @see ForeignKeys#resolveTransientStates
+	 */
+	public void cacheExistence(EntityKey key, boolean exists) {
+		if ( existenceByKey == null ) {
+			existenceByKey = new HashMap<>(8);
+		}
+		existenceByKey.put( key, exists );
+	}
+
+	public void clearCachedExistence() {
+		existenceByKey = null;
+	}
+
+	/**
+	 * Register an instance whose state is about to be reloaded from the
+	 * database, along with other instances, by a loader which accepts no
+	 * "optional object", so that the session can supply the existing
+	 * instance, instead of instantiating a new one.
+	 *
+	 * @see org.hibernate.reactive.session.impl.ReactiveSessionImpl#instantiate(EntityPersister, Serializable)
+	 */
+	public void addRefreshTarget(EntityKey key, Object entity) {
+		if ( refreshTargetsByKey == null ) {
+			refreshTargetsByKey = new HashMap<>(8);
+		}
+		refreshTargetsByKey.put( key, entity );
+	}
+
+	/**
+	 * @return the instance registered by {@link #addRefreshTarget},
+	 *         or {@code null} if there is none
+	 */
+	public Object getRefreshTarget(EntityKey key) {
+		return refreshTargetsByKey == null ? null : refreshTargetsByKey.get( key );
+	}
+
+	public boolean hasRefreshTargets() {
+		return refreshTargetsByKey != null;
+	}
+
+	public void clearRefreshTargets() {
+		refreshTargetsByKey = null;
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -115,6 +180,8 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		existenceByKey = null;
+		refreshTargetsByKey = null;
 	}
 
 	@Override
@@ -123,6 +190,9 @@ public Object removeEntity(EntityKey key) {
 		if (entitySnapshotsByKey != null ) {
 			entitySnapshotsByKey.remove(key);
 		}
+		if (existenceByKey != null ) {
+			existenceByKey.remove(key);
+		}
 		return result;
 	}
 }
@@ -24,4 +24,11 @@ public interface ReactiveLockEventListener extends Serializable {
      * @param event The lock event to be handled.
      */
 	CompletionStage<Void> reactiveOnLock(LockEvent event) throws HibernateException;
+
+	/**
+	 * Handle the given lock events, which may be processed in bulk.
+	 *
+	 * @param events The lock events to be handled.
+	 */
+	CompletionStage<Void> reactiveOnLock(LockEvent[] events) throws HibernateException;
 }
@@ -28,4 +28,11 @@ public interface ReactiveRefreshEventListener extends Serializable {
 
 	CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet refreshedAlready) throws HibernateException;
 
+	/**
+	 * Handle the given refresh events, which may be processed in bulk.
+	 *
+	 * @param events The refresh events to be handled.
+	 */
+	CompletionStage<Void> reactiveOnRefresh(RefreshEvent[] events) throws HibernateException;
+
 }
@@ -5,9 +5,13 @@
  */
 package org.hibernate.reactive.event.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
@@ -16,11 +20,13 @@
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.internal.Collections;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -36,7 +42,10 @@
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ForeignKeys;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -92,28 +101,32 @@ protected CompletionStage<Void> flushEverythingToExecutions(FlushEvent event) th
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
-		CompletionStage<Void> cascades = prepareEntityFlushes(session, persistenceContext);
-		// we could move this inside if we wanted to
-		// tolerate collection initializations during
-		// collection dirty checking:
-		prepareCollectionFlushes( persistenceContext );
-		// now, any collections that are initialized
-		// inside this block do not get updated - they
-		// are ignored until the next flush
-
-		return cascades.thenAccept( v -> {
-			persistenceContext.setFlushing(true);
-			try {
-				int entityCount = flushEntities(event, persistenceContext);
-				int collectionCount = flushCollections(session, persistenceContext);
-
-				event.setNumberOfEntitiesProcessed(entityCount);
-				event.setNumberOfCollectionsProcessed(collectionCount);
-			}
-			finally {
-				persistenceContext.setFlushing(false);
-			}
-		});
+		return resolveTransientReferences( session, persistenceContext )
+				.thenCompose( vv -> {
+					CompletionStage<Void> cascades = prepareEntityFlushes(session, persistenceContext);
+					// we could move this inside if we wanted to
+					// tolerate collection initializations during
+					// collection dirty checking:
+					prepareCollectionFlushes( persistenceContext );
+					// now, any collections that are initialized
+					// inside this block do not get updated - they
+					// are ignored until the next flush
+					return cascades;
+				} )
+				.whenComplete( (vv, x) -> ( (ReactivePersistenceContextAdapter) persistenceContext ).clearCachedExistence() )
+				.thenAccept( v -> {
+					persistenceContext.setFlushing(true);
+					try {
+						int entityCount = flushEntities(event, persistenceContext);
+						int collectionCount = flushCollections(session, persistenceContext);
+
+						event.setNumberOfEntitiesProcessed(entityCount);
+						event.setNumberOfCollectionsProcessed(collectionCount);
+					}
+					finally {
+						persistenceContext.setFlushing(false);
+					}
+				} );
 
 		//some statistics
 //		logFlushResults( event );
@@ -137,6 +150,75 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 		);
 	}
 
+	/**
+	 * Determine, using one query per entity type, which of the detached
+	 * entities referenced via non-cascaded associations of the entities
+	 * being flushed are actually transient, so that the flush-time cascade
+	 * doesn't need to hit the database once for each such reference.
+	 * <p>
+	 * Only the references of entities which are not yet inserted, and
+	 * references which changed since the entity was loaded or last
+	 * flushed, are considered, so that the cost of a flush which changed
+	 * nothing doesn't grow with the number of associations in the
+	 * persistence context.
+	 *
+	 * @see CascadingActions#PERSIST_ON_FLUSH
+	 */
+	private CompletionStage<Void> resolveTransientReferences(EventSource session, PersistenceContext persistenceContext) {
+		final org.hibernate.engine.spi.CascadingAction action = CascadingActions.PERSIST_ON_FLUSH.delegate();
+		final Map<EntityPersister, int[]> referencesByPersister = new IdentityHashMap<>();
+		final List<Object> references = new ArrayList<>();
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityEntry entityEntry = entry.getValue();
+			final Status status = entityEntry.getStatus();
+			if ( status != Status.MANAGED && status != Status.SAVING ) {
+				// read-only entities are never updated
+				continue;
+			}
+			final Object entity = entry.getKey();
+			final EntityPersister persister = entityEntry.getPersister();
+			final int[] properties = referencesByPersister.computeIfAbsent(
+					persister,
+					p -> nonCascadedReferences( p, action )
+			);
+			final boolean existsInDatabase = entityEntry.isExistsInDatabase();
+			if ( properties.length == 0
+					|| existsInDatabase
+						&& entity instanceof SelfDirtinessTracker
+						&& !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) {
+				continue;
+			}
+			final Object[] loadedState = existsInDatabase ? entityEntry.getLoadedState() : null;
+			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( entity );
+			final String[] names = persister.getPropertyNames();
+			for ( int i : properties ) {
+				if ( !( hasUninitializedLazyProperties
+						&& !persister.getBytecodeEnhancementMetadata().isAttributeLoaded( entity, names[i] ) ) ) {
+					final Object child = persister.getPropertyValue( entity, i );
+					if ( child != null && ( loadedState == null || child != loadedState[i] ) ) {
+						references.add( child );
+					}
+				}
+			}
+		}
+		return references.isEmpty()
+				? CompletionStages.voidFuture()
+				: ForeignKeys.resolveTransientStates( references, session );
+	}
+
+	/**
+	 * The indexes of the properties of the given entity which are
+	 * associations to which the given action is not cascaded.
+	 */
+	private static int[] nonCascadedReferences(EntityPersister persister,
+											   org.hibernate.engine.spi.CascadingAction action) {
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] styles = persister.getPropertyCascadeStyles();
+		return IntStream.range( 0, types.length )
+				.filter( i -> types[i].isEntityType() && !styles[i].doCascade( action ) )
+				.toArray();
+	}
+
 	private static boolean flushable(EntityEntry entry) {
 		Status status = entry.getStatus();
 		return status == Status.MANAGED
@@ -32,6 +32,7 @@
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.IdentifierProperty;
@@ -42,6 +43,7 @@
 
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
@@ -63,6 +65,25 @@ public class DefaultReactiveLoadEventListener implements LoadEventListener, Reac
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( DefaultReactiveLoadEventListener.class );
 
+	/**
+	 * The threshold for {@link #loadFromSecondLevelCache}, in
+	 * nanoseconds, or zero if detection of blocking code is disabled.
+	 */
+	private final long blockingThresholdNanos;
+
+	public DefaultReactiveLoadEventListener() {
+		this( 0 );
+	}
+
+	/**
+	 * @param blockingThresholdMillis the configured
+	 * {@link org.hibernate.reactive.provider.Settings#BLOCKING_DETECTION_THRESHOLD},
+	 * or zero if detection of blocking code is disabled
+	 */
+	public DefaultReactiveLoadEventListener(int blockingThresholdMillis) {
+		this.blockingThresholdNanos = TimeUnit.MILLISECONDS.toNanos( blockingThresholdMillis );
+	}
+
 	/**
 	 * This method is not reactive but we expect it to be called only when a proxy can be returned.
 	 * <p>
@@ -601,7 +622,7 @@ private CompletionStage<Object> doLoad(
 			return CompletionStages.completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
+		entity = loadFromSecondLevelCache( event, persister, keyToLoad );
 		if ( entity != null ) {
 			if ( traceEnabled ) {
 				LOG.tracev(
@@ -629,6 +650,27 @@ private CompletionStage<Object> doLoad(
 		}
 	}
 
+	/**
+	 * Second-level cache access is synchronous, so, if detection
+	 * of blocking code is enabled, check how long it took.
+	 */
+	private Object loadFromSecondLevelCache(LoadEvent event, EntityPersister persister, EntityKey keyToLoad) {
+		if ( !persister.canReadFromCache() ) {
+			return null;
+		}
+		if ( blockingThresholdNanos <= 0 ) {
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
+		}
+		long started = System.nanoTime();
+		Object entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
+		BlockingDetectingConnection.checkSection(
+				blockingThresholdNanos,
+				started,
+				"reading entity from second-level cache: " + persister.getEntityName()
+		);
+		return entity;
+	}
+
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -37,6 +37,10 @@
 import org.jboss.logging.Logger;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 public class DefaultReactiveLockEventListener extends AbstractReassociateEventListener
@@ -49,13 +53,7 @@ public class DefaultReactiveLockEventListener extends AbstractReassociateEventLi
 
 	@Override
 	public CompletionStage<Void> reactiveOnLock(LockEvent event) throws HibernateException {
-		if ( event.getObject() == null ) {
-			throw new NullPointerException( "attempted to lock null" );
-		}
-
-		if ( event.getLockMode() == LockMode.WRITE ) {
-			throw new HibernateException( "Invalid lock mode for lock()" );
-		}
+		validate( event );
 
 		if ( event.getLockMode() == LockMode.UPGRADE_SKIPLOCKED ) {
 			log.explicitSkipLockedLockCombo();
@@ -80,6 +78,104 @@ public CompletionStage<Void> reactiveOnLock(LockEvent event) throws HibernateExc
 				.thenCompose( entity -> reactiveOnLock( event, entity ) );
 	}
 
+	/**
+	 * Handle the given lock events, obtaining pessimistic locks on
+	 * managed instances using a single query for each entity type,
+	 * before processing each event individually.
+	 *
+	 * @param events The lock events to be handled.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveOnLock(LockEvent[] events) throws HibernateException {
+		for ( LockEvent event : events ) {
+			validate( event );
+		}
+		return lockInBatches( events )
+				.thenCompose( v -> CompletionStages.loop( events, this::reactiveOnLock ) );
+	}
+
+	private static void validate(LockEvent event) {
+		if ( event.getObject() == null ) {
+			throw new NullPointerException( "attempted to lock null" );
+		}
+
+		if ( event.getLockMode() == LockMode.WRITE ) {
+			throw new HibernateException( "Invalid lock mode for lock()" );
+		}
+	}
+
+	private CompletionStage<Void> lockInBatches(LockEvent[] events) {
+		// the LockOptions are compared by identity, and the
+		// session passes the same instance for every entity
+		final Map<LockOptions, Map<EntityPersister, List<EntityEntry>>> entriesByLockOptions = new LinkedHashMap<>();
+		for ( LockEvent event : events ) {
+			final EventSource source = event.getSession();
+			final EntityEntry entry = source.getPersistenceContextInternal().getEntry( event.getObject() );
+			if ( entry != null
+					&& entry.getStatus() == Status.MANAGED
+					&& isSelectLock( event.getLockMode() )
+					&& event.getLockMode().greaterThan( entry.getLockMode() )
+					&& !entry.getPersister().canWriteToCache() ) {
+				entriesByLockOptions.computeIfAbsent( event.getLockOptions(), lo -> new LinkedHashMap<>() )
+						.computeIfAbsent( entry.getPersister(), p -> new ArrayList<>() )
+						.add( entry );
+			}
+		}
+
+		if ( entriesByLockOptions.isEmpty() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		final EventSource source = events[0].getSession();
+		return CompletionStages.loop(
+				entriesByLockOptions.entrySet(),
+				byLockOptions -> CompletionStages.loop(
+						byLockOptions.getValue().entrySet(),
+						byPersister -> {
+							final LockOptions lockOptions = byLockOptions.getKey();
+							final List<EntityEntry> entries = byPersister.getValue();
+							if ( entries.size() == 1 ) {
+								// nothing to gain, leave it to upgradeLock()
+								return CompletionStages.voidFuture();
+							}
+							if ( log.isTraceEnabled() ) {
+								log.tracev(
+										"Locking {0} instances of {1} in mode: {2}",
+										entries.size(),
+										byPersister.getKey().getEntityName(),
+										lockOptions.getLockMode()
+								);
+							}
+							final Serializable[] ids = new Serializable[entries.size()];
+							final Object[] versions = new Object[entries.size()];
+							final Object[] objects = new Object[entries.size()];
+							for ( int i = 0; i < ids.length; i++ ) {
+								EntityEntry entry = entries.get( i );
+								ids[i] = entry.getId();
+								versions[i] = entry.getVersion();
+								objects[i] = source.getPersistenceContextInternal().getEntity( entry.getEntityKey() );
+							}
+							return ( (ReactiveEntityPersister) byPersister.getKey() )
+									.lockReactive( ids, versions, objects, lockOptions, source )
+									.thenAccept( v -> entries.forEach( entry -> entry.setLockMode( lockOptions.getLockMode() ) ) );
+						}
+				)
+		);
+	}
+
+	private static boolean isSelectLock(LockMode lockMode) {
+		switch ( lockMode ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	private CompletionStage<Void> reactiveOnLock(LockEvent event, Object entity) {
 
 		SessionImplementor source = event.getSession();
@@ -15,6 +15,7 @@
 import org.hibernate.event.spi.*;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -25,11 +26,19 @@
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -193,9 +202,11 @@ protected CompletionStage<Void> entityIsPersistent(MergeEvent event, MergeContex
 		final EventSource source = event.getSession();
 		final EntityPersister persister = source.getEntityPersister( event.getEntityName(), entity );
 
+		final boolean topLevel = copyCache.isEmpty();
 		copyCache.put( entity, entity, true );  //before cascade!
 
-		return cascadeOnMerge( source, persister, entity, copyCache )
+		return preloadDetachedGraph( topLevel, source, persister, entity, copyCache )
+				.thenCompose( v -> cascadeOnMerge( source, persister, entity, copyCache ) )
 				.thenCompose( v -> fetchAndCopyValues( persister, entity, entity, source, copyCache ) )
 				.thenAccept( v -> event.setResult( entity ) );
 	}
@@ -302,6 +313,7 @@ protected CompletionStage<Void> entityIsDetached(MergeEvent event, MergeContext
 				.reactiveGet( (Class<?>) persister.getMappedClass(), clonedIdentifier )
 				.thenCompose(result -> {
 					if ( result!=null ) {
+						final boolean topLevel = copyCache.isEmpty();
 						// before cascade!
 						copyCache.put(entity, result, true);
 
@@ -326,7 +338,8 @@ else if ( isVersionChanged(entity, source, persister, target) ) {
 
 						// cascade first, so that all unsaved objects get their
 						// copy created before we actually copy
-						return cascadeOnMerge( source, persister, entity, copyCache )
+						return preloadDetachedGraph( topLevel, source, persister, entity, copyCache )
+								.thenCompose( v -> cascadeOnMerge( source, persister, entity, copyCache ) )
 								.thenCompose( v -> fetchAndCopyValues( persister, entity, target, source, copyCache ) )
 								.thenAccept(v -> {
 									// copyValues() (called by fetchAndCopyValues) works by reflection,
@@ -350,6 +363,143 @@ else if ( isVersionChanged(entity, source, persister, target) ) {
 
 	}
 
+	/**
+	 * Walk the detached object graph reachable from the given entity by
+	 * merge cascades, and load the persistent copies of all the detached
+	 * entities it contains using one batched load per entity type, so
+	 * that the subsequent cascade finds them in the persistence context,
+	 * instead of loading them one at a time.
+	 * <p>
+	 * This is done only at the top level of the merge operation, and
+	 * after the root entity has been loaded, since the "merge" loader
+	 * of the root entity already fetches some of its associations.
+	 */
+	private CompletionStage<Void> preloadDetachedGraph(
+			boolean topLevel,
+			EventSource source,
+			EntityPersister persister,
+			Object entity,
+			MergeContext copyCache) {
+		if ( !topLevel || !persister.hasCascades() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		final Map<EntityPersister, Set<Serializable>> idsToLoad = new LinkedHashMap<>();
+		final IdentitySet visited = new IdentitySet();
+		visited.add( entity );
+		collectDetachedEntities( source, persister, entity, copyCache, visited, idsToLoad );
+		if ( idsToLoad.isEmpty() ) {
+			return CompletionStages.voidFuture();
+		}
+
+		final ReactiveSession session = source.unwrap( ReactiveSession.class );
+		return CompletionStages.loop(
+				idsToLoad.entrySet(),
+				entry -> {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.tracev(
+								"Preloading {0} persistent copies of detached instances of {1}",
+								entry.getValue().size(),
+								entry.getKey().getEntityName()
+						);
+					}
+					final Class<?> mappedClass = entry.getKey().getMappedClass();
+					return session.reactiveFind( mappedClass, entry.getValue().toArray() );
+				}
+		);
+	}
+
+	private void collectDetachedEntities(
+			EventSource source,
+			EntityPersister persister,
+			Object entity,
+			MergeContext copyCache,
+			IdentitySet visited,
+			Map<EntityPersister, Set<Serializable>> idsToLoad) {
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( cascadeStyles[i].doCascade( getCascadeReactiveAction().delegate() ) ) {
+				collectDetachedEntities(
+						source,
+						types[i],
+						persister.getPropertyValue( entity, i ),
+						copyCache,
+						visited,
+						idsToLoad
+				);
+			}
+		}
+	}
+
+	private void collectDetachedEntities(
+			EventSource source,
+			Type type,
+			Object value,
+			MergeContext copyCache,
+			IdentitySet visited,
+			Map<EntityPersister, Set<Serializable>> idsToLoad) {
+		if ( value == null || !Hibernate.isInitialized( value ) ) {
+			// uninitialized proxies and collections are not merged
+			return;
+		}
+		if ( type.isEntityType() ) {
+			final Object child = source.getPersistenceContextInternal().unproxy( value );
+			if ( visited.add( child ) ) {
+				final EntityPersister childPersister = source.getEntityPersister(
+						( (EntityType) type ).getAssociatedEntityName(),
+						child
+				);
+				addDetachedEntity( source, childPersister, child, copyCache, idsToLoad );
+				collectDetachedEntities( source, childPersister, child, copyCache, visited, idsToLoad );
+			}
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionType collectionType = (CollectionType) type;
+			final Type elementType = collectionType.getElementType( source.getFactory() );
+			if ( elementType.isEntityType() || elementType.isComponentType() ) {
+				Iterator<?> elements = collectionType.getElementsIterator( value, source );
+				while ( elements.hasNext() ) {
+					collectDetachedEntities( source, elementType, elements.next(), copyCache, visited, idsToLoad );
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType componentType = (CompositeType) type;
+			final Type[] subtypes = componentType.getSubtypes();
+			final Object[] values = componentType.getPropertyValues( value, source );
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( componentType.getCascadeStyle( i ).doCascade( getCascadeReactiveAction().delegate() ) ) {
+					collectDetachedEntities( source, subtypes[i], values[i], copyCache, visited, idsToLoad );
+				}
+			}
+		}
+	}
+
+	private void addDetachedEntity(
+			EventSource source,
+			EntityPersister persister,
+			Object entity,
+			MergeContext copyCache,
+			Map<EntityPersister, Set<Serializable>> idsToLoad) {
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		if ( copyCache.containsKey( entity ) || persistenceContext.getEntry( entity ) != null ) {
+			// already merged, or already persistent
+			return;
+		}
+		if ( !persister.hasIdentifierProperty() || Boolean.TRUE.equals( persister.isTransient( entity, source ) ) ) {
+			// definitely transient, there is nothing to load
+			return;
+		}
+		final Serializable id = persister.getIdentifier( entity, source );
+		if ( id == null || persistenceContext.getEntity( source.generateEntityKey( id, persister ) ) != null ) {
+			// the persistent copy is already in the session
+			return;
+		}
+		idsToLoad.computeIfAbsent( persister, p -> new LinkedHashSet<>() )
+				.add( (Serializable) persister.getIdentifierType().deepCopy( id, source.getFactory() ) );
+	}
+
 	private Object unproxyManagedForDetachedMerging(
 			Object incoming,
 			Object managed,
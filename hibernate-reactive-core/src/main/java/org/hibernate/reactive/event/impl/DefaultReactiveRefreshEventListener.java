@@ -21,11 +21,14 @@
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveRefreshEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.CollectionType;
@@ -33,6 +36,9 @@
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
@@ -65,15 +71,7 @@ public void onRefresh(RefreshEvent event, Map refreshedAlready) throws Hibernate
 	 */
 	public CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet refreshedAlready) {
 
-		EventSource source = event.getSession();
-
-		boolean detached = event.getEntityName() != null
-				? !source.contains( event.getEntityName(), event.getObject() )
-				: !source.contains( event.getObject() );
-		if ( detached ) {
-			// Hibernate Reactive doesn't support detached instances in refresh()
-			throw new IllegalArgumentException("unmanaged instance passed to refresh()");
-		}
+		checkManaged( event );
 
 //		if ( persistenceContext.reassociateIfUninitializedProxy( event.getObject() ) ) {
 //			if (detached) {
@@ -84,17 +82,125 @@ public CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet r
 //
 //		final Object entity = persistenceContext.unproxyAndReassociate( event.getObject() );
 
-		return ( (ReactiveSession) source ).reactiveFetch( event.getObject(), true )
+		return ( (ReactiveSession) event.getSession() ).reactiveFetch( event.getObject(), true )
 				.thenCompose( entity -> reactiveOnRefresh( event, refreshedAlready, entity ) );
 	}
 
+	/**
+	 * Handle the given refresh events, reading the state of the instances
+	 * of each entity type using a single query.
+	 *
+	 * @param events The refresh events to be handled.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveOnRefresh(RefreshEvent[] events) throws HibernateException {
+		for ( RefreshEvent event : events ) {
+			checkManaged( event );
+		}
+
+		final IdentitySet refreshedAlready = new IdentitySet( 10 );
+		final List<PendingRefresh> pending = new ArrayList<>( events.length );
+		return CompletionStages.loop(
+				events,
+				event -> ( (ReactiveSession) event.getSession() ).reactiveFetch( event.getObject(), true )
+						.thenCompose( entity -> prepareRefresh( event, refreshedAlready, entity ) )
+						.thenAccept( refresh -> {
+							if ( refresh != null ) {
+								pending.add( refresh );
+							}
+						} )
+		).thenCompose( v -> {
+			// group the instances by entity type and lock mode
+			final Map<EntityPersister, Map<LockMode, List<PendingRefresh>>> byPersister = new LinkedHashMap<>();
+			for ( PendingRefresh refresh : pending ) {
+				byPersister.computeIfAbsent( refresh.persister, p -> new LinkedHashMap<>() )
+						.computeIfAbsent( refresh.lockOptions.getLockMode(), lm -> new ArrayList<>() )
+						.add( refresh );
+			}
+			return CompletionStages.loop(
+					byPersister.values(),
+					byLockMode -> CompletionStages.loop( byLockMode.values(), this::loadAll )
+			);
+		} );
+	}
+
+	private static void checkManaged(RefreshEvent event) {
+		EventSource source = event.getSession();
+
+		boolean detached = event.getEntityName() != null
+				? !source.contains( event.getEntityName(), event.getObject() )
+				: !source.contains( event.getObject() );
+		if ( detached ) {
+			// Hibernate Reactive doesn't support detached instances in refresh()
+			throw new IllegalArgumentException("unmanaged instance passed to refresh()");
+		}
+	}
+
+	/**
+	 * Load the state of several instances of the same entity type,
+	 * with the same lock mode, using a single query.
+	 */
+	private CompletionStage<Void> loadAll(List<PendingRefresh> refreshes) {
+		if ( refreshes.size() == 1 ) {
+			return load( refreshes.get( 0 ) );
+		}
+
+		final PendingRefresh first = refreshes.get( 0 );
+		final EventSource source = first.source;
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) source.getPersistenceContextInternal();
+		final Serializable[] ids = new Serializable[refreshes.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			PendingRefresh refresh = refreshes.get( i );
+			ids[i] = refresh.id;
+			// the loader must read the state into the existing instance
+			persistenceContext.addRefreshTarget( source.generateEntityKey( refresh.id, refresh.persister ), refresh.entity );
+		}
+
+		String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
+		source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+
+		return ( (ReactiveEntityPersister) first.persister )
+				.reactiveMultiLoad( ids, source, new RefreshLoadOptions( first.lockOptions ) )
+				.thenAccept( results -> {
+					for ( int i = 0; i < ids.length; i++ ) {
+						refreshes.get( i ).complete( results.get( i ) );
+					}
+				} )
+				.whenComplete( (v, t) -> {
+					persistenceContext.clearRefreshTargets();
+					source.getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile );
+				} );
+	}
+
+	private CompletionStage<Void> load(PendingRefresh refresh) {
+		final EventSource source = refresh.source;
+		String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
+		source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+
+		return ( (ReactiveAbstractEntityPersister) refresh.persister )
+				.reactiveLoad( refresh.id, refresh.entity, refresh.lockOptions, source )
+				.thenAccept( refresh::complete )
+				.whenComplete( (vv,t) -> source.getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+	}
+
 	private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet refreshedAlready, Object entity) {
+		return prepareRefresh( event, refreshedAlready, entity )
+				.thenCompose( refresh -> refresh == null ? CompletionStages.voidFuture() : load( refresh ) );
+	}
+
+	/**
+	 * Cascade the refresh, and evict the given instance from the session
+	 * and second-level cache, returning the information needed to reload
+	 * its state, or {@code null} if it was already refreshed.
+	 */
+	private CompletionStage<PendingRefresh> prepareRefresh(RefreshEvent event, IdentitySet refreshedAlready, Object entity) {
 		EventSource source = event.getSession();
 		PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		if ( refreshedAlready.contains( entity ) ) {
 			LOG.trace( "Already refreshed" );
-			return CompletionStages.voidFuture();
+			return CompletionStages.nullFuture();
 		}
 
 		final EntityEntry e = persistenceContext.getEntry( entity );
@@ -178,9 +284,6 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 
 					evictCachedCollections( persister, id, source);
 
-					String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
-					source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
-
 					// Handle the requested lock-mode (if one) in relation to the entry's (if one) current lock-mode
 
 					LockOptions lockOptionsToUse = event.getLockOptions();
@@ -223,34 +326,103 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 						postRefreshLockMode = null;
 					}
 
-					return ( (ReactiveAbstractEntityPersister) persister ).reactiveLoad( id, entity, lockOptionsToUse, source)
-							.thenAccept(result -> {
-								if ( result!=null ) {
-
-									// apply `postRefreshLockMode`, if needed
-									if (postRefreshLockMode != null) {
-										// if we get here, there was a previous entry and we need to re-set its lock-mode
-										//		- however, the refresh operation actually creates a new entry, so get it
-										persistenceContext.getEntry(result).setLockMode(postRefreshLockMode);
-									}
-
-									// Keep the same read-only/modifiable setting for the entity that it had before refreshing;
-									// If it was transient, then set it to the default for the source.
-									if (!persister.isMutable()) {
-										// this is probably redundant; it should already be read-only
-										source.setReadOnly(result, true);
-									}
-									else {
-										source.setReadOnly(result, e == null ? source.isDefaultReadOnly() : e.isReadOnly());
-									}
-								}
-
-								UnresolvableObjectException.throwIfNull(result, id, persister.getEntityName());
-							})
-							.whenComplete( (vv,t) -> source.getLoadQueryInfluencers().setInternalFetchProfile(previousFetchProfile) );
+					return CompletionStages.completedFuture(
+							new PendingRefresh( source, persister, id, entity, e, lockOptionsToUse, postRefreshLockMode )
+					);
 				} );
 	}
 
+	/**
+	 * An instance which has been evicted, and whose state is waiting to
+	 * be reloaded from the database.
+	 */
+	private static class PendingRefresh {
+		final EventSource source;
+		final EntityPersister persister;
+		final Serializable id;
+		final Object entity;
+		final EntityEntry entry;
+		final LockOptions lockOptions;
+		final LockMode postRefreshLockMode;
+
+		PendingRefresh(EventSource source, EntityPersister persister, Serializable id, Object entity,
+					   EntityEntry entry, LockOptions lockOptions, LockMode postRefreshLockMode) {
+			this.source = source;
+			this.persister = persister;
+			this.id = id;
+			this.entity = entity;
+			this.entry = entry;
+			this.lockOptions = lockOptions;
+			this.postRefreshLockMode = postRefreshLockMode;
+		}
+
+		void complete(Object result) {
+			if ( result!=null ) {
+
+				// apply `postRefreshLockMode`, if needed
+				if (postRefreshLockMode != null) {
+					// if we get here, there was a previous entry and we need to re-set its lock-mode
+					//		- however, the refresh operation actually creates a new entry, so get it
+					source.getPersistenceContextInternal().getEntry(result).setLockMode(postRefreshLockMode);
+				}
+
+				// Keep the same read-only/modifiable setting for the entity that it had before refreshing;
+				// If it was transient, then set it to the default for the source.
+				if (!persister.isMutable()) {
+					// this is probably redundant; it should already be read-only
+					source.setReadOnly(result, true);
+				}
+				else {
+					source.setReadOnly(result, entry == null ? source.isDefaultReadOnly() : entry.isReadOnly());
+				}
+			}
+
+			UnresolvableObjectException.throwIfNull(result, id, persister.getEntityName());
+		}
+	}
+
+	/**
+	 * Options for reloading several instances at once, bypassing the
+	 * session and second-level cache.
+	 */
+	private static class RefreshLoadOptions implements MultiLoadOptions {
+		private final LockOptions lockOptions;
+
+		RefreshLoadOptions(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+	}
+
 	private CompletionStage<Void> cascadeRefresh(
 			EventSource source,
 			EntityPersister persister,
@@ -24,8 +24,6 @@
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.service.ServiceRegistry;
-import org.hibernate.type.IntegerType;
-import org.hibernate.type.LongType;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
@@ -142,10 +140,13 @@ public static Serializable assignIdIfNecessary(Object generatedId, Object entity
 			if ( generatedId instanceof Long ) {
 				Long longId = (Long) generatedId;
 				Type identifierType = persister.getIdentifierType();
-				if ( identifierType == LongType.INSTANCE ) {
+				// compare the Java types, since the basic types for Long and
+				// Integer are replaced by ReactiveTypeContributor, and are
+				// not the singleton instances
+				if ( identifierType.getReturnedClass() == Long.class ) {
 					return longId;
 				}
-				else if ( identifierType == IntegerType.INSTANCE ) {
+				else if ( identifierType.getReturnedClass() == Integer.class ) {
 					return longId.intValue();
 				}
 				else {
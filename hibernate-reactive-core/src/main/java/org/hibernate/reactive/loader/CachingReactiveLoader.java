@@ -11,7 +11,9 @@
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -180,10 +182,17 @@ default CacheableResultTransformer cacheableResultTransformer(QueryParameters qu
 
 	@Override
 	default Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
-		return PreparedStatementAdaptor.bind( adaptor -> bindToPreparedStatement(
+		final RowSelection selection = queryParameters.getRowSelection();
+		final LimitHandler limitHandler = limitHandler( selection, session );
+		final String sql = queryParameters.getFilteredSQL();
+		// count the parameters of the limit clause along with the rest
+		final int parameterCount = sql == null ? 0 : PreparedStatementAdaptor.parameterCount(
+				limitHandler == NoopLimitHandler.INSTANCE ? sql : limitHandler.processSql( sql, selection )
+		);
+		return PreparedStatementAdaptor.bind( parameterCount, adaptor -> bindToPreparedStatement(
 				adaptor,
 				queryParameters,
-				limitHandler( queryParameters.getRowSelection(), session ),
+				limitHandler,
 				session
 		) );
 	}
@@ -21,6 +21,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Defines common reactive operations inherited by all kinds of loaders.
@@ -44,6 +45,25 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
 			final ResultTransformer forcedResultTransformer) {
+		return doReactiveQueryAndInitializeNonLazyCollections(
+				session,
+				queryParameters,
+				returnProxies,
+				forcedResultTransformer,
+				afterLoadActions -> executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session )
+		);
+	}
+
+	/**
+	 * Process the results of the given execution of the query, which
+	 * is passed the list of actions to perform after loading.
+	 */
+	default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer,
+			final Function<List<AfterLoadAction>, CompletionStage<ResultSet>> execution) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		if ( queryParameters.isReadOnlyInitialized() ) {
@@ -60,12 +80,7 @@ default CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollect
 
 		final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
 
-		return executeReactiveQueryStatement(
-				sql,
-				queryParameters,
-				afterLoadActions,
-				session
-		)
+		return execution.apply( afterLoadActions )
 				.thenCompose( resultSet -> {
 							discoverTypes( queryParameters, resultSet );
 							return reactiveProcessResultSet(
@@ -103,7 +118,15 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 		sql = preprocessSQL( sql, queryParameters, session.getFactory(), afterLoadActions );
 
 		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
-				.selectJdbc( sql, toParameterArray(queryParameters, session) );
+				.selectJdbc( sql, toParameterArray(queryParameters, session), getStatementOrigin() );
+	}
+
+	/**
+	 * Identifies the entity name or collection role loaded by this
+	 * loader, or the query it executes, for use in diagnostics.
+	 */
+	default String getStatementOrigin() {
+		return getClass().getSimpleName();
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
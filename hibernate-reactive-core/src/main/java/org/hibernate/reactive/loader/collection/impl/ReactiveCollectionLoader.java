@@ -135,6 +135,11 @@ public ReactiveResultSetProcessor getReactiveResultSetProcessor() {
 		return reactiveResultSetProcessor;
 	}
 
+	@Override
+	public String getStatementOrigin() {
+		return collectionPersister().getRole();
+	}
+
 	@Override
 	public String preprocessSQL(String sql,
 								QueryParameters queryParameters,
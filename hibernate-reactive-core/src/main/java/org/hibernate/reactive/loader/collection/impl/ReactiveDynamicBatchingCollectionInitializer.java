@@ -10,11 +10,13 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.collection.BasicCollectionJoinWalker;
 import org.hibernate.loader.collection.OneToManyJoinWalker;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.Type;
 
@@ -31,12 +33,19 @@
  *
  * Used when for {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC} is selected.
  *
+ * On PostgreSQL, a batch of single-column keys is bound as one array
+ * parameter, using {@code = any (?)}, so that every batch size shares
+ * the same SQL, and the same prepared statement. Elsewhere, if
+ * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+ * is enabled, the batch is padded to the next power of two.
+ *
  * @see org.hibernate.loader.collection.DynamicBatchingCollectionInitializerBuilder.DynamicBatchingCollectionLoader
  */
 class ReactiveDynamicBatchingCollectionInitializer extends ReactiveCollectionLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingCollectionInitializer(
 			QueryableCollection collectionPersister,
@@ -48,6 +57,11 @@ public ReactiveDynamicBatchingCollectionInitializer(
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
 		this.alias = StringHelper.generateAlias( collectionPersister.getRole(), 0 );
+		this.arrayParameter = QueryParametersAdaptor.supportsArrayParameter(
+				factory,
+				collectionPersister.getKeyType(),
+				collectionPersister.getKeyColumnNames().length
+		);
 		postInstantiate();
 
 		if ( LOG.isDebugEnabled() ) {
@@ -90,6 +104,20 @@ protected StringBuilder whereString(String alias, String[] columnNames, String s
 		}
 	}
 
+	/**
+	 * Filters add their own parameters, which can't be mixed with
+	 * the single array argument.
+	 */
+	private boolean useArrayParameter(SharedSessionContractImplementor session) {
+		return arrayParameter && !session.getLoadQueryInfluencers().hasEnabledFilters();
+	}
+
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		Object[] arguments = super.toParameterArray( queryParameters, session );
+		return useArrayParameter( session ) ? QueryParametersAdaptor.arrayArgument( arguments ) : arguments;
+	}
+
 	public final CompletionStage<Void> doBatchedCollectionLoad(
 			final SessionImplementor session,
 			final Serializable[] ids,
@@ -102,17 +130,25 @@ public final CompletionStage<Void> doBatchedCollectionLoad(
 			);
 		}
 
-		final Type[] idTypes = new Type[ids.length];
+		final boolean arrayParameter = useArrayParameter( session );
+		final Serializable[] boundIds =
+				!arrayParameter && session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+						? QueryParametersAdaptor.padToPowerOfTwo( ids )
+						: ids;
+
+		final Type[] idTypes = new Type[boundIds.length];
 		Arrays.fill( idTypes, type );
-		final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
-
-		final String sql = StringHelper.expandBatchIdPlaceholder(
-				sqlTemplate,
-				ids,
-				alias,
-				collectionPersister().getKeyColumnNames(),
-				session.getJdbcServices().getJdbcEnvironment().getDialect()
-		);
+		final QueryParameters queryParameters = new QueryParameters( idTypes, boundIds, ids );
+
+		final String sql = arrayParameter
+				? QueryParametersAdaptor.expandBatchIdArrayPlaceholder( sqlTemplate )
+				: StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						boundIds,
+						alias,
+						collectionPersister().getKeyColumnNames(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
 
 		return doReactiveQueryAndInitializeNonLazyCollections( sql, session, queryParameters )
 				.handle( (list, err) -> {
@@ -10,6 +10,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 
 /**
  * A {@link ReactiveBatchingCollectionInitializerBuilder} that is enabled when
@@ -17,6 +18,11 @@
  *
  * A factory for {@link ReactivePaddedBatchingCollectionInitializer}s.
  *
+ * When a batch of keys can be bound as a single array parameter,
+ * padding is pointless, since any batch size shares the same SQL,
+ * and so a {@link ReactiveDynamicBatchingCollectionDelegator} is
+ * used instead.
+ *
  * @see org.hibernate.loader.collection.PaddedBatchingCollectionInitializerBuilder
  */
 public class ReactivePaddedBatchingCollectionInitializerBuilder extends ReactiveBatchingCollectionInitializerBuilder {
@@ -44,6 +50,12 @@ public ReactiveCollectionLoader createRealBatchingOneToManyInitializer(
 			int maxBatchSize,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		if ( QueryParametersAdaptor.supportsArrayParameter(
+				factory,
+				persister.getKeyType(),
+				persister.getKeyColumnNames().length ) ) {
+			return new ReactiveDynamicBatchingCollectionDelegator( persister, maxBatchSize, factory, loadQueryInfluencers );
+		}
 		final int[] batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
 		final ReactiveCollectionLoader[] loaders = new ReactiveCollectionLoader[ batchSizes.length ];
 		for ( int i = 0; i < batchSizes.length; i++ ) {
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.loader.custom.impl;
 
 import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
 import org.hibernate.QueryException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
@@ -16,17 +17,23 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedLoader;
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.session.impl.ReactiveQueryPlanCache;
 import org.hibernate.transform.ResultTransformer;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.Type;
+import org.hibernate.type.spi.TypeConfiguration;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -51,6 +58,72 @@ public CompletionStage<List<Object>> reactiveList(
 		return reactiveListIgnoreQueryCache( getSQLString(), getQueryIdentifier(), session, queryParameters );
 	}
 
+	/**
+	 * Execute the query, and map each row of the result directly to an
+	 * instance of a class which is not an entity, bypassing the usual
+	 * processing of the result set.
+	 * <p>
+	 * If the query is cacheable, the constructor arguments for each row
+	 * are stored in the query cache, and the constructor itself in the
+	 * {@link ReactiveQueryPlanCache}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletionStage<List<T>> reactiveList(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			ConstructorRowMapper<T> mapper) throws HibernateException {
+		final String sql = getSQLString();
+		final boolean cacheable = getFactory().getSessionFactoryOptions().isQueryCacheEnabled()
+				&& queryParameters.isCacheable();
+		if ( !cacheable ) {
+			return executeReactiveQueryStatement( sql, queryParameters, new ArrayList<>(), session )
+					.thenApply( resultSet -> {
+						try {
+							return mapper.map( resultSet );
+						}
+						catch (SQLException sqle) {
+							throw new JDBCException( "could not map query result", sqle );
+						}
+					} );
+		}
+
+		final TypeConfiguration typeConfiguration = getFactory().getMetamodel().getTypeConfiguration();
+		final QueryResultsCache queryCache = getFactory().getCache()
+				.getQueryResultsCache( queryParameters.getCacheRegion() );
+		final QueryKey key = queryKey( sql, session, queryParameters );
+		@SuppressWarnings("deprecation")
+		final ReactiveQueryPlanCache queryPlanCache = (ReactiveQueryPlanCache) getFactory().getQueryPlanCache();
+
+		// the constructor is only known if the query was executed before
+		final Constructor<?> constructor = queryPlanCache.getResultConstructor( sql, mapper.getResultClass() );
+		final Type[] cachedTypes = constructor == null
+				? null
+				: ConstructorRowMapper.argumentTypes( constructor, typeConfiguration );
+		if ( cachedTypes != null ) {
+			final List<?> cached = queryCache.get( key, getQuerySpaces(), cachedTypes, session );
+			if ( cached != null ) {
+				return CompletionStages.completedFuture( mapper.instantiate( constructor, cached ) );
+			}
+		}
+
+		return executeReactiveQueryStatement( sql, queryParameters, new ArrayList<>(), session )
+				.thenApply( resultSet -> {
+					final ConstructorRowMapper.Arguments arguments;
+					try {
+						arguments = mapper.arguments( resultSet );
+					}
+					catch (SQLException sqle) {
+						throw new JDBCException( "could not map query result", sqle );
+					}
+					queryPlanCache.putResultConstructor( sql, arguments.getConstructor() );
+					final Type[] types = ConstructorRowMapper.argumentTypes( arguments.getConstructor(), typeConfiguration );
+					if ( types != null ) {
+						queryCache.put( key, arguments.getArguments(), types, session );
+					}
+					return mapper.instantiate( arguments.getConstructor(), arguments.getArguments() );
+				} );
+	}
+
 	@Override
 	public List<Object> processResultSet(ResultSet resultSet,
 										 QueryParameters queryParameters,
@@ -66,6 +139,11 @@ public ReactiveResultSetProcessor getReactiveResultSetProcessor() {
 		return resultSetProcessor;
 	}
 
+	@Override
+	public String getStatementOrigin() {
+		return getQueryIdentifier();
+	}
+
 	@Override
 	public String preprocessSQL(String sql,
 								QueryParameters queryParameters,
@@ -199,6 +199,11 @@ public ReactiveResultSetProcessor getReactiveResultSetProcessor() {
 		return resultSetProcessor;
 	}
 
+	@Override
+	public String getStatementOrigin() {
+		return entityName;
+	}
+
 	@Override
 	public boolean isSubselectLoadingEnabled() {
 		return super.isSubselectLoadingEnabled();
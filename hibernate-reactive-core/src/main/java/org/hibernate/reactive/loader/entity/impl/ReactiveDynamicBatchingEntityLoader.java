@@ -12,9 +12,11 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.entity.EntityJoinWalker;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import java.io.Serializable;
@@ -29,6 +31,12 @@
  *
  * Used when for {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC} is selected.
  *
+ * On PostgreSQL, a batch of single-column ids is bound as one array
+ * parameter, using {@code = any (?)}, so that every batch size shares
+ * the same SQL, and the same prepared statement. Elsewhere, if
+ * {@value org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+ * is enabled, the batch is padded to the next power of two.
+ *
  * @see org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder.DynamicEntityLoader
  * @see ReactiveDynamicBatchingEntityDelegator
  */
@@ -36,6 +44,7 @@ class ReactiveDynamicBatchingEntityLoader extends ReactiveEntityLoader {
 
 	private final String sqlTemplate;
 	private final String alias;
+	private final boolean arrayParameter;
 
 	public ReactiveDynamicBatchingEntityLoader(
 			OuterJoinLoadable persister,
@@ -74,6 +83,11 @@ protected StringBuilder whereString(String alias, String[] columnNames, int batc
 		initFromWalker( walker );
 		this.sqlTemplate = walker.getSQLString();
 		this.alias = walker.getAlias();
+		this.arrayParameter = QueryParametersAdaptor.supportsArrayParameter(
+				factory,
+				persister.getIdentifierType(),
+				persister.getIdentifierColumnNames().length
+		);
 		postInstantiate();
 
 		if ( LOG.isDebugEnabled() ) {
@@ -101,13 +115,27 @@ public CompletionStage<List<Object>> doEntityBatchFetch(
 			QueryParameters queryParameters,
 			Serializable[] ids) {
 
-		final String sql = expandBatchIdPlaceholder(
-				sqlTemplate,
-				ids,
-				alias,
-				persister.getKeyColumnNames(),
-				getDialect()
-		);
+		final String sql;
+		if ( useArrayParameter( session ) ) {
+			sql = QueryParametersAdaptor.expandBatchIdArrayPlaceholder( sqlTemplate );
+		}
+		else {
+			Serializable[] boundIds = ids;
+			if ( session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+				boundIds = QueryParametersAdaptor.padToPowerOfTwo( ids );
+				queryParameters.setPositionalParameterTypes(
+						QueryParametersAdaptor.padToPowerOfTwo( queryParameters.getPositionalParameterTypes() )
+				);
+				queryParameters.setPositionalParameterValues( boundIds );
+			}
+			sql = expandBatchIdPlaceholder(
+					sqlTemplate,
+					boundIds,
+					alias,
+					persister.getKeyColumnNames(),
+					getDialect()
+			);
+		}
 
 		return doReactiveQueryAndInitializeNonLazyCollections( sql, session, queryParameters )
 				.handle( (results, err) -> {
@@ -123,6 +151,20 @@ public CompletionStage<List<Object>> doEntityBatchFetch(
 				} );
 	}
 
+	/**
+	 * Filters add their own parameters, which can't be mixed with
+	 * the single array argument.
+	 */
+	private boolean useArrayParameter(SharedSessionContractImplementor session) {
+		return arrayParameter && !session.getLoadQueryInfluencers().hasEnabledFilters();
+	}
+
+	@Override
+	public Object[] toParameterArray(QueryParameters queryParameters, SharedSessionContractImplementor session) {
+		Object[] arguments = super.toParameterArray( queryParameters, session );
+		return useArrayParameter( session ) ? QueryParametersAdaptor.arrayArgument( arguments ) : arguments;
+	}
+
 	private static StringBuilder buildBatchFetchRestrictionFragment(
 			String alias,
 			String[] columnNames,
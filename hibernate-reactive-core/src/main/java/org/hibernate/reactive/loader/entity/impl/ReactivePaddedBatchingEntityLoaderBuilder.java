@@ -11,6 +11,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 
 /**
  * A {@link ReactiveBatchingEntityLoaderBuilder} that is enabled when
@@ -18,6 +19,11 @@
  *
  * A factory for {@link ReactivePaddedBatchingEntityLoader}s.
  *
+ * When a batch of ids can be bound as a single array parameter,
+ * padding is pointless, since any batch size shares the same SQL,
+ * and so a {@link ReactiveDynamicBatchingEntityDelegator} is used
+ * instead.
+ *
  * @see org.hibernate.loader.entity.PaddedBatchingEntityLoaderBuilder
 */
 public class ReactivePaddedBatchingEntityLoaderBuilder extends ReactiveBatchingEntityLoaderBuilder {
@@ -31,6 +37,9 @@ protected UniqueEntityLoader buildBatchingLoader(
 			LockMode lockMode,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
+		if ( supportsArrayParameter( persister, factory ) ) {
+			return new ReactiveDynamicBatchingEntityDelegator( persister, batchSize, lockMode, factory, influencers );
+		}
 		return new ReactivePaddedBatchingEntityLoader( persister, batchSize, lockMode, factory, influencers );
 	}
 
@@ -41,7 +50,18 @@ protected UniqueEntityLoader buildBatchingLoader(
 			LockOptions lockOptions,
 			SessionFactoryImplementor factory,
 			LoadQueryInfluencers influencers) {
+		if ( supportsArrayParameter( persister, factory ) ) {
+			return new ReactiveDynamicBatchingEntityDelegator( persister, batchSize, lockOptions, factory, influencers );
+		}
 		return new ReactivePaddedBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
 	}
 
+	private static boolean supportsArrayParameter(OuterJoinLoadable persister, SessionFactoryImplementor factory) {
+		return QueryParametersAdaptor.supportsArrayParameter(
+				factory,
+				persister.getIdentifierType(),
+				persister.getIdentifierColumnNames().length
+		);
+	}
+
 }
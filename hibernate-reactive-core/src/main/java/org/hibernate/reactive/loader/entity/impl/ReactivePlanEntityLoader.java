@@ -244,6 +244,11 @@ public ReactiveResultSetProcessor getReactiveResultSetProcessor() {
 		return reactiveResultSetProcessor;
 	}
 
+	@Override
+	public String getStatementOrigin() {
+		return persister.getEntityName();
+	}
+
 	@Override
 	public String preprocessSQL(String sql,
 								QueryParameters queryParameters,
@@ -423,7 +428,7 @@ public CompletionStage<Void> reactivePerformTwoPhaseLoad(
 					hydratedEntityRegistrations,
 					registration -> resultSetProcessor.initializeEntity(
 							registration.getInstance(),
-							false,
+							context.isReadOnly(),
 							session,
 							preLoadEvent,
 							listeners
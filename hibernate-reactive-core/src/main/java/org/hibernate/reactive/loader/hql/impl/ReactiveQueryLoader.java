@@ -5,26 +5,42 @@
  */
 package org.hibernate.reactive.loader.hql.impl;
 
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
 import org.hibernate.HibernateException;
+import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
 import org.hibernate.QueryException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDB102Dialect;
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.engine.spi.*;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.hql.internal.ast.tree.AggregatedSelectExpression;
+import org.hibernate.hql.internal.ast.tree.ConstructorNode;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.loader.plan.exec.query.spi.NamedParameterContext;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedLoader;
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -37,10 +53,16 @@
  */
 public class ReactiveQueryLoader extends QueryLoader implements CachingReactiveLoader, ReactiveLoaderBasedLoader {
 
+	private static final String SELECT = "select ";
+	private static final String SELECT_DISTINCT = "select distinct ";
+	private static final String TOTAL_COUNT_ALIAS = "total_count_";
+
 	private final QueryTranslatorImpl queryTranslator;
 	private final SessionFactoryImplementor factory;
 	private final SelectClause selectClause;
 	private final ReactiveResultSetProcessor resultSetProcessor;
+	// the constructor called by 'select new', or null
+	private final Constructor<?> selectNewConstructor;
 
 	public ReactiveQueryLoader(
 			QueryTranslatorImpl queryTranslator,
@@ -50,6 +72,7 @@ public ReactiveQueryLoader(
 		this.queryTranslator = queryTranslator;
 		this.factory = factory;
 		this.selectClause = selectClause;
+		this.selectNewConstructor = selectNewConstructor( selectClause );
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this ) {
 			public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 																		SharedSessionContractImplementor session,
@@ -92,6 +115,120 @@ public CompletionStage<List<Object>> reactiveList(
 		);
 	}
 
+	/**
+	 * Return a page of results, as specified by the {@link RowSelection},
+	 * along with the total number of results, ignoring the query cache.
+	 * <p>
+	 * If the database supports window functions, the total is obtained
+	 * from a {@code count(*) over()} column added to the beginning of
+	 * the select list, so that a single statement is executed. The
+	 * column is ignored when the rows are hydrated, since columns are
+	 * read by alias. Otherwise, or if the query is {@code distinct},
+	 * or has a lock mode, a second statement counting the rows of the
+	 * query is sent along with the query itself, without waiting for
+	 * the query results.
+	 */
+	public CompletionStage<ResultPage<Object>> reactiveResultPage(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		checkQuery( queryParameters );
+		final String sql = getSQLString();
+		final long[] total = new long[1];
+		return doReactiveQueryAndInitializeNonLazyCollections(
+				session,
+				queryParameters,
+				true,
+				null,
+				afterLoadActions -> executeReactiveCountingQueryStatement( sql, queryParameters, afterLoadActions, session )
+						.thenApply( result -> {
+							total[0] = result.count;
+							return result.resultSet;
+						} )
+		)
+				.handle( (list, err) -> {
+					CompletionStages.logSqlException( err, () -> "could not execute query", sql );
+					return CompletionStages.returnOrRethrow( err, list );
+				} )
+				.thenApply( list -> ResultPages.of( getResultList( list, queryParameters.getResultTransformer() ), total[0] ) );
+	}
+
+	private CompletionStage<CountedResultSet> executeReactiveCountingQueryStatement(
+			String sql,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session) {
+		if ( isCountOverSupported( sql, queryParameters, session ) ) {
+			String countingSql = "select count(*) over() as " + TOTAL_COUNT_ALIAS + ", " + sql.substring( SELECT.length() );
+			return executeReactiveQueryStatement( countingSql, queryParameters, afterLoadActions, session )
+					.thenCompose( resultSet -> {
+						final RowSet<Row> rows = rows( resultSet );
+						if ( rows.size() > 0 ) {
+							Number count = (Number) rows.iterator().next().getValue( 0 );
+							return CompletionStages.completedFuture( new CountedResultSet( resultSet, count.longValue() ) );
+						}
+						else if ( !queryParameters.getRowSelection().definesLimits() ) {
+							return CompletionStages.completedFuture( new CountedResultSet( resultSet, 0 ) );
+						}
+						else {
+							// the page is beyond the last result
+							return executeReactiveCountStatement( sql, queryParameters, session )
+									.thenApply( count -> new CountedResultSet( resultSet, count ) );
+						}
+					} );
+		}
+		else {
+			CompletionStage<Long> count = executeReactiveCountStatement( sql, queryParameters, session );
+			return executeReactiveQueryStatement( sql, queryParameters, afterLoadActions, session )
+					.thenCombine( count, CountedResultSet::new );
+		}
+	}
+
+	private CompletionStage<Long> executeReactiveCountStatement(
+			String sql,
+			QueryParameters queryParameters,
+			SharedSessionContractImplementor session) {
+		// count every result, not just the page
+		final QueryParameters countParameters = queryParameters.createCopyUsing( new RowSelection() );
+		countParameters.processFilters( sql, session );
+		String countSql = "select count(*) from (" + countParameters.getFilteredSQL() + ") " + TOTAL_COUNT_ALIAS;
+		return ( (ReactiveConnectionSupplier) session ).getReactiveConnection()
+				.selectLong( countSql, toParameterArray( countParameters, session ) );
+	}
+
+	private static boolean isCountOverSupported(String sql,
+												QueryParameters queryParameters,
+												SharedSessionContractImplementor session) {
+		final Dialect dialect = session.getJdbcServices().getDialect();
+		return ( dialect instanceof PostgreSQL81Dialect
+						|| dialect instanceof MySQL8Dialect
+						|| dialect instanceof MariaDB102Dialect
+						|| dialect instanceof DB2Dialect )
+				&& sql.regionMatches( true, 0, SELECT, 0, SELECT.length() )
+				&& !sql.regionMatches( true, 0, SELECT_DISTINCT, 0, SELECT_DISTINCT.length() )
+				// window functions can't be used with 'for update'
+				&& !queryParameters.getLockOptions().findGreatestLockMode().greaterThan( LockMode.READ );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RowSet<Row> rows(ResultSet resultSet) {
+		try {
+			return resultSet.unwrap( RowSet.class );
+		}
+		catch (SQLException sqle) {
+			throw new JDBCException( "could not count query results", sqle );
+		}
+	}
+
+	private static class CountedResultSet {
+		final ResultSet resultSet;
+		final long count;
+
+		CountedResultSet(ResultSet resultSet, long count) {
+			this.resultSet = resultSet;
+			this.count = count;
+		}
+	}
+
 	/**
 	 * Return the query results, using the query cache, called
 	 * by subclasses that implement cacheable queries
@@ -129,6 +266,11 @@ public ReactiveResultSetProcessor getReactiveResultSetProcessor() {
 		return resultSetProcessor;
 	}
 
+	@Override
+	public String getStatementOrigin() {
+		return getQueryIdentifier();
+	}
+
 	@Override
 	public String preprocessSQL(String sql,
 								QueryParameters queryParameters,
@@ -167,9 +309,25 @@ public boolean areResultSetRowsTransformedImmediately() {
 		return super.areResultSetRowsTransformedImmediately();
 	}
 
+	/**
+	 * If the query has a {@code select new} with a constructor, the rows
+	 * are instantiated by the {@link ConstructorRowMapper} of the class,
+	 * instead of by reflection.
+	 */
 	@Override @SuppressWarnings("unchecked")
 	public List<Object> getResultList(List results, ResultTransformer resultTransformer) throws QueryException {
-		return super.getResultList(results, resultTransformer);
+		return selectNewConstructor == null
+				? super.getResultList( results, resultTransformer )
+				: (List<Object>) ConstructorRowMapper.forClass( selectNewConstructor.getDeclaringClass() )
+						.instantiateTuples( selectNewConstructor, results );
+	}
+
+	private static Constructor<?> selectNewConstructor(SelectClause selectClause) {
+		final AggregatedSelectExpression expression = selectClause.getAggregatedSelectExpression();
+		// the constructor is null for 'select new map' and 'select new list'
+		return expression instanceof ConstructorNode
+				? ( (ConstructorNode) expression ).getConstructor()
+				: null;
 	}
 
 	@Override
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.hql.impl;
+
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.common.ResultPage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility methods for working with {@link ResultPage}s.
+ */
+public final class ResultPages {
+
+	private ResultPages() {
+	}
+
+	public static <T> ResultPage<T> of(List<T> results, long totalCount) {
+		return new Page<>( results, totalCount );
+	}
+
+	/**
+	 * Obtain the page specified by the given selection from the given
+	 * list of all results of a query, which is paginated in memory,
+	 * optionally ignoring duplicate results.
+	 */
+	public static <T> ResultPage<T> slice(List<T> allResults, RowSelection selection, boolean distinct) {
+		// NOTE : firstRow is zero-based
+		final int first = selection == null || selection.getFirstRow() == null ? 0 : selection.getFirstRow();
+		final int max = selection == null || selection.getMaxRows() == null ? -1 : selection.getMaxRows();
+		final IdentitySet distinction = distinct ? new IdentitySet( allResults.size() ) : null;
+		final List<T> results = new ArrayList<>();
+		int count = 0;
+		for ( T result : allResults ) {
+			if ( distinction == null || distinction.add( result ) ) {
+				if ( count >= first && ( max < 0 || count - first < max ) ) {
+					results.add( result );
+				}
+				count++;
+			}
+		}
+		return of( results, count );
+	}
+
+	private static class Page<T> implements ResultPage<T> {
+		private final List<T> results;
+		private final long totalCount;
+
+		Page(List<T> results, long totalCount) {
+			this.results = results;
+			this.totalCount = totalCount;
+		}
+
+		@Override
+		public List<T> getResults() {
+			return results;
+		}
+
+		@Override
+		public long getTotalCount() {
+			return totalCount;
+		}
+	}
+}
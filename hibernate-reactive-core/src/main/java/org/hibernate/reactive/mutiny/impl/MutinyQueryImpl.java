@@ -11,6 +11,9 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.session.ReactiveQuery;
 
 import javax.persistence.Parameter;
@@ -160,17 +163,27 @@ public FlushMode getFlushMode() {
 
 	@Override
 	public Uni<Integer> executeUpdate() {
-		return Uni.createFrom().completionStage( delegate.executeReactiveUpdate() );
+		return Uni.createFrom().completionStage( () -> delegate.executeReactiveUpdate() );
 	}
 
 	@Override
 	public Uni<R> getSingleResult() {
-		return Uni.createFrom().completionStage( delegate.getReactiveSingleResult() );
+		return Uni.createFrom().completionStage( () -> delegate.getReactiveSingleResult() );
 	}
 
 	@Override
 	public Uni<List<R>> getResultList() {
-		return Uni.createFrom().completionStage( delegate.getReactiveResultList() );
+		return Uni.createFrom().completionStage( () -> delegate.getReactiveResultList() );
+	}
+
+	@Override
+	public Uni<KeysetPage<R>> getKeysetPage(Keyset keyset, int pageSize) {
+		return Uni.createFrom().completionStage( () -> delegate.getReactiveKeysetPage( keyset, pageSize ) );
+	}
+
+	@Override
+	public Uni<ResultPage<R>> getResultPage() {
+		return Uni.createFrom().completionStage( () -> delegate.getReactiveResultPage() );
 	}
 
 }
@@ -7,9 +7,11 @@
 
 import io.smallrye.mutiny.Uni;
 import org.hibernate.Cache;
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.common.QueryPlanCacheStatistics;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
@@ -51,17 +53,29 @@ public Mutiny.Session openSession(String tenantId) {
 		);
 	}
 
-	Uni<Mutiny.Session> newSession() throws HibernateException {
+	CompletionStage<Mutiny.Session> newSession() throws HibernateException {
 		SessionCreationOptions options = options();
-		return Uni.createFrom().completionStage( connection( options.getTenantIdentifier() ) )
-				.map( reactiveConnection -> new ReactiveSessionImpl( delegate, options, reactiveConnection ) )
-				.map( MutinySessionImpl::new );
+		return connection( options.getTenantIdentifier() )
+				.thenApply( reactiveConnection -> new MutinySessionImpl( new ReactiveSessionImpl( delegate, options, reactiveConnection ) ) );
 	}
 
-	Uni<Mutiny.Session> newSession(String tenantId) throws HibernateException {
-		return Uni.createFrom().completionStage( connection( tenantId ) )
-				.map( reactiveConnection -> new ReactiveSessionImpl( delegate, options(), reactiveConnection ) )
-				.map( MutinySessionImpl::new );
+	CompletionStage<Mutiny.Session> newSession(String tenantId) throws HibernateException {
+		return connection( tenantId )
+				.thenApply( reactiveConnection -> new MutinySessionImpl( new ReactiveSessionImpl( delegate, options(), reactiveConnection ) ) );
+	}
+
+	@Override
+	public Mutiny.Session openReadOnlySession() {
+		SessionCreationOptions options = options();
+		return new MutinySessionImpl(
+				readOnly( new ReactiveSessionImpl( delegate, options, proxyConnection( options.getTenantIdentifier() ) ) )
+		);
+	}
+
+	CompletionStage<Mutiny.Session> newReadOnlySession() throws HibernateException {
+		SessionCreationOptions options = options();
+		return connection( options.getTenantIdentifier() )
+				.thenApply( reactiveConnection -> new MutinySessionImpl( readOnly( new ReactiveSessionImpl( delegate, options, reactiveConnection ) ) ) );
 	}
 
 	@Override
@@ -72,17 +86,22 @@ public Mutiny.StatelessSession openStatelessSession() {
 		);
 	}
 
-	Uni<Mutiny.StatelessSession> newStatelessSession() throws HibernateException {
+	CompletionStage<Mutiny.StatelessSession> newStatelessSession() throws HibernateException {
 		SessionCreationOptions options = options();
-		return Uni.createFrom().completionStage( connection( options.getTenantIdentifier() ) )
-				.map( reactiveConnection -> new ReactiveStatelessSessionImpl( delegate, options, reactiveConnection ) )
-				.map( MutinyStatelessSessionImpl::new );
+		return connection( options.getTenantIdentifier() )
+				.thenApply( reactiveConnection -> new MutinyStatelessSessionImpl( new ReactiveStatelessSessionImpl( delegate, options, reactiveConnection ) ) );
 	}
 
 	private SessionCreationOptions options() {
 		return new SessionFactoryImpl.SessionBuilderImpl<>( delegate );
 	}
 
+	private static ReactiveSessionImpl readOnly(ReactiveSessionImpl session) {
+		session.setDefaultReadOnly( true );
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		return session;
+	}
+
 	private ReactiveConnectionPool pool() {
 		return delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
 	}
@@ -101,16 +120,26 @@ private ReactiveConnection proxyConnection(String tenantId) {
 
 	@Override
 	public <T> Uni<T> withSession(Function<Mutiny.Session, Uni<T>> work) {
-		return newSession().chain(
-				session -> work.apply( session ).eventually( session::close )
-		);
+		// the work is composed as a Uni, so that cancellation
+		// reaches it, and rolls back its transaction, if any
+		return Uni.createFrom().completionStage( () -> newSession() )
+				.chain( session -> work.apply( session ).eventually( session::close ) );
 	}
 
 	@Override
 	public <T> Uni<T> withSession(String tenantId, Function<Mutiny.Session, Uni<T>> work) {
-		return newSession( tenantId ).chain(
-				session -> work.apply( session ).eventually( session::close )
-		);
+		// the work is composed as a Uni, so that cancellation
+		// reaches it, and rolls back its transaction, if any
+		return Uni.createFrom().completionStage( () -> newSession( tenantId ) )
+				.chain( session -> work.apply( session ).eventually( session::close ) );
+	}
+
+	@Override
+	public <T> Uni<T> withReadOnlySession(Function<Mutiny.Session, Uni<T>> work) {
+		// the work is composed as a Uni, so that cancellation
+		// reaches it, and rolls back its transaction, if any
+		return Uni.createFrom().completionStage( () -> newReadOnlySession() )
+				.chain( session -> work.apply( session ).eventually( session::close ) );
 	}
 
 	@Override
@@ -138,6 +167,11 @@ public Cache getCache() {
 		return delegate.getCache();
 	}
 
+	@Override
+	public QueryPlanCacheStatistics getQueryPlanCacheStatistics() {
+		return (QueryPlanCacheStatistics) delegate.getQueryPlanCache();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -15,8 +15,11 @@
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.impl.ReactiveExecution;
+import org.hibernate.reactive.session.impl.SessionUtil;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import javax.persistence.EntityGraph;
@@ -45,22 +48,22 @@ public MutinySessionImpl(ReactiveSession session) {
 	@Override
 	public Uni<Void> flush() {
 //		checkOpen();
-		return Uni.createFrom().completionStage( delegate.reactiveFlush() );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFlush() );
 	}
 
 	@Override
 	public <T> Uni<T> fetch(T association) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(association, false) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFetch(association, false) );
 	}
 
 	@Override
 	public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(entity, field) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFetch(entity, field) );
 	}
 
 	@Override
 	public <T> Uni<T> unproxy(T association) {
-		return Uni.createFrom().completionStage( delegate.reactiveFetch(association, true) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFetch(association, true) );
 	}
 
 	@Override
@@ -87,88 +90,93 @@ public boolean contains(Object entity) {
 
 	@Override
 	public <T> Uni<T> find(Class<T> entityClass, Object primaryKey) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, null, null ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFind( entityClass, primaryKey, null, null ) );
 	}
 
 	@Override
 	public <T> Uni<List<T>> find(Class<T> entityClass, Object... ids) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, ids ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFind( entityClass, ids ) );
 	}
 
 	@Override
 	public <T> Uni<T> find(Class<T> entityClass, Object primaryKey, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, new LockOptions(lockMode), null ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFind( entityClass, primaryKey, new LockOptions(lockMode), null ) );
 	}
 
 //	@Override
 	public <T> Uni<T> find(Class<T> entityClass, Object primaryKey, LockOptions lockOptions) {
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, primaryKey, lockOptions, null ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFind( entityClass, primaryKey, lockOptions, null ) );
 	}
 
 	@Override
 	public <T> Uni<T> find(EntityGraph<T> entityGraph, Object id) {
 		Class<T> entityClass = ((RootGraphImplementor<T>) entityGraph).getGraphedType().getJavaType();
-		return Uni.createFrom().completionStage( delegate.reactiveFind( entityClass, id, null, entityGraph ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveFind( entityClass, id, null, entityGraph ) );
 	}
 
 	@Override
 	public Uni<Void> persist(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactivePersist( entity ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactivePersist( entity ) );
 	}
 
 	@Override
 	public Uni<Void> persistAll(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactivePersist, entity ) );
+		return Uni.createFrom().completionStage( () -> applyToAll( delegate::reactivePersist, entity ) );
 	}
 
 	@Override
 	public Uni<Void> remove(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveRemove( entity ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveRemove( entity ) );
 	}
 
 	@Override
 	public Uni<Void> removeAll(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactiveRemove, entity ) );
+		return Uni.createFrom().completionStage( () -> applyToAll( delegate::reactiveRemove, entity ) );
 	}
 
 	@Override
 	public <T> Uni<T> merge(T entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveMerge( entity ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveMerge( entity ) );
 	}
 
 	@Override @SafeVarargs
 	public final <T> Uni<Void> mergeAll(T... entity) {
-		return Uni.createFrom().completionStage( applyToAll( delegate::reactiveMerge, entity ) );
+		return Uni.createFrom().completionStage( () -> applyToAll( delegate::reactiveMerge, entity ) );
 	}
 
 	@Override
 	public Uni<Void> refresh(Object entity) {
-		return Uni.createFrom().completionStage( delegate.reactiveRefresh( entity, LockOptions.NONE ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveRefresh( entity, LockOptions.NONE ) );
 	}
 
 	@Override
 	public Uni<Void> refresh(Object entity, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveRefresh( entity, new LockOptions(lockMode) ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveRefresh( entity, new LockOptions(lockMode) ) );
 	}
 
 //	@Override
 	public Uni<Void> refresh(Object entity, LockOptions lockOptions) {
-		return Uni.createFrom().completionStage( delegate.reactiveRefresh( entity, lockOptions ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveRefresh( entity, lockOptions ) );
 	}
 
 	@Override
 	public Uni<Void> refreshAll(Object... entity) {
-		return Uni.createFrom().completionStage( applyToAll( e -> delegate.reactiveRefresh( e, LockOptions.NONE ), entity ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveRefreshAll( entity, LockOptions.NONE ) );
 	}
 
 	@Override
 	public Uni<Void> lock(Object entity, LockMode lockMode) {
-		return Uni.createFrom().completionStage( delegate.reactiveLock( entity, new LockOptions(lockMode) ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveLock( entity, new LockOptions(lockMode) ) );
+	}
+
+	@Override
+	public Uni<Void> lockAll(LockMode lockMode, Object... entity) {
+		return Uni.createFrom().completionStage( () -> delegate.reactiveLockAll( entity, new LockOptions(lockMode) ) );
 	}
 
 //	@Override
 	public Uni<Void> lock(Object entity, LockOptions lockOptions) {
-		return Uni.createFrom().completionStage( delegate.reactiveLock( entity, lockOptions ) );
+		return Uni.createFrom().completionStage( () -> delegate.reactiveLock( entity, lockOptions ) );
 	}
 
 	@Override
@@ -185,7 +193,8 @@ public <R> Mutiny.Query<R> createQuery(String jpql) {
 	public <R> Mutiny.Query<R> createNativeQuery(String sql, Class<R> resultType) {
 		final String typeName = resultType.getName();
 		final MetamodelImplementor metamodel = delegate.getFactory().getMetamodel();
-		final boolean knownType = metamodel.entityPersisters().containsKey( typeName );
+		final boolean knownType = metamodel.entityPersisters().containsKey( typeName )
+				|| SessionUtil.isConstructorResult( resultType, delegate.getFactory() );
 		if ( knownType ) {
 			return new MutinyQueryImpl<>( delegate.createReactiveNativeQuery( sql, resultType ) );
 		}
@@ -372,52 +381,14 @@ public Filter getEnabledFilter(String filterName) {
 
 	@Override
 	public <T> Uni<T> withTransaction(Function<Mutiny.Transaction, Uni<T>> work) {
-		return new Transaction<T>().execute( work );
-	}
-
-	private class Transaction<T> implements Mutiny.Transaction {
-		boolean rollback;
-
-		Uni<T> execute(Function<Mutiny.Transaction, Uni<T>> work) {
-			//noinspection Convert2MethodRef
-			return begin()
-					.chain( () -> work.apply( this ) )
-					// only flush() if the work completed with no exception
-					.call( result -> flush() )
-					// in the case of an exception or cancellation
-					// we need to rollback the transaction
-					.onFailure().call( () -> rollback() )
-					.onCancellation().call( () -> rollback() )
-					// finally, when there was no exception,
-					// commit or rollback the transaction
-					.onItem().call( () -> rollback ? rollback() : commit() );
-		}
-
-		Uni<Void> flush() {
-			return Uni.createFrom().completionStage( delegate.reactiveAutoflush() );
-		}
-
-		Uni<Void> begin() {
-			return Uni.createFrom().completionStage( delegate.getReactiveConnection().beginTransaction() );
-		}
-
-		Uni<Void> rollback() {
-			return Uni.createFrom().completionStage( delegate.getReactiveConnection().rollbackTransaction() );
-		}
-
-		Uni<Void> commit() {
-			return Uni.createFrom().completionStage( delegate.getReactiveConnection().commitTransaction() );
-		}
-
-		@Override
-		public void markForRollback() {
-			rollback = true;
-		}
-
-		@Override
-		public boolean isMarkedForRollback() {
-			return rollback;
-		}
+		return Uni.createFrom().deferred( () -> {
+			ReactiveExecution.Transaction<T> transaction = new ReactiveExecution.Transaction<>( delegate );
+			return Uni.createFrom()
+					.completionStage( transaction.execute( t -> work.apply( t ).subscribeAsCompletionStage() ) )
+					// in the case of cancellation we need
+					// to rollback the transaction
+					.onCancellation().call( () -> Uni.createFrom().completionStage( transaction::cancel ) );
+		} );
 	}
 
 	@Override
@@ -425,6 +396,11 @@ public void close() {
 		delegate.close();
 	}
 
+	@Override
+	public StatementStatistics getStatementStatistics() {
+		return delegate.getStatementStatistics();
+	}
+
 	@Override
 	public boolean isOpen() {
 		return delegate.isOpen();
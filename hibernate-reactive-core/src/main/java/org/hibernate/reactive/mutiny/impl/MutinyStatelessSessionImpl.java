@@ -9,6 +9,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 
 /**
@@ -26,12 +27,12 @@ public MutinyStatelessSessionImpl(ReactiveStatelessSession delegate) {
 
     @Override
     public <T> Uni<T> get(Class<T> entityClass, Object id) {
-        return Uni.createFrom().completionStage( delegate.reactiveGet(entityClass, id) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveGet(entityClass, id) );
     }
 
     @Override
     public <T> Uni<T> get(Class<T> entityClass, Object id, LockMode lockMode) {
-        return Uni.createFrom().completionStage( delegate.reactiveGet(entityClass, id, lockMode) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveGet(entityClass, id, lockMode) );
     }
 
     @Override
@@ -61,27 +62,27 @@ public <R> Mutiny.Query<R> createNativeQuery(String queryString, ResultSetMappin
 
     @Override
     public Uni<Mutiny.StatelessSession> insert(Object entity) {
-        return Uni.createFrom().completionStage( delegate.reactiveInsert(entity).thenApply( v -> this ) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveInsert(entity).thenApply( v -> this ) );
     }
 
     @Override
     public Uni<Mutiny.StatelessSession> delete(Object entity) {
-        return Uni.createFrom().completionStage( delegate.reactiveDelete(entity).thenApply( v -> this ) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveDelete(entity).thenApply( v -> this ) );
     }
 
     @Override
     public Uni<Mutiny.StatelessSession> update(Object entity) {
-        return Uni.createFrom().completionStage( delegate.reactiveUpdate(entity).thenApply( v -> this ) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveUpdate(entity).thenApply( v -> this ) );
     }
 
     @Override
     public Uni<Mutiny.StatelessSession> refresh(Object entity) {
-        return Uni.createFrom().completionStage( delegate.reactiveRefresh(entity).thenApply( v -> this ) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveRefresh(entity).thenApply( v -> this ) );
     }
 
     @Override
     public Uni<Mutiny.StatelessSession> refresh(Object entity, LockMode lockMode) {
-        return Uni.createFrom().completionStage( delegate.reactiveRefresh(entity, lockMode).thenApply( v -> this ) );
+        return Uni.createFrom().completionStage( () -> delegate.reactiveRefresh(entity, lockMode).thenApply( v -> this ) );
     }
 
     @Override
@@ -94,6 +95,11 @@ public void close() {
         delegate.close();
     }
 
+    @Override
+    public StatementStatistics getStatementStatistics() {
+        return delegate.getStatementStatistics();
+    }
+
     @Override
     public boolean isOpen() {
         return delegate.isOpen();
@@ -0,0 +1,87 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the SQL strings a {@link ReactiveAbstractEntityPersister}
+ * generates on the fly for entities with {@code dynamic-update="true"} or
+ * with {@code optimistic-lock="all"} or {@code "dirty"}.
+ * <p>
+ * The generated SQL depends only on the table, on which properties are
+ * included, and on the nullness of the columns that occur in the where
+ * clause, so each string is keyed by a bitmask of these inputs. Reusing
+ * the very same string also means that the Vert.x prepared statement
+ * cache, which is keyed by SQL, hits for repeated updates of the same
+ * fields.
+ * <p>
+ * It also remembers the number of JDBC parameters of each SQL string,
+ * static or generated, that the persister executes, so that the
+ * parameters are always collected into an array of the exact size.
+ *
+ * @see org.hibernate.reactive.provider.Settings#DYNAMIC_SQL_CACHE_MAX_SIZE
+ */
+public final class DynamicSqlStringCache {
+
+	public static final int DEFAULT_MAX_SIZE = 128;
+
+	private final Map<Key, String> updateStrings;
+	private final Map<Key, String[]> deleteStrings;
+	private final Map<String, Integer> parameterCounts;
+
+	public DynamicSqlStringCache(int maxSize) {
+		updateStrings = new BoundedConcurrentHashMap<>( maxSize, 4, BoundedConcurrentHashMap.Eviction.LIRS );
+		deleteStrings = new BoundedConcurrentHashMap<>( maxSize, 4, BoundedConcurrentHashMap.Eviction.LIRS );
+		// room for the generated strings, and for the static ones
+		parameterCounts = new BoundedConcurrentHashMap<>( 2 * maxSize, 4, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	String getUpdateString(int table, BitSet mask, Supplier<String> generator) {
+		return updateStrings.computeIfAbsent( new Key( table, mask ), key -> generator.get() );
+	}
+
+	String[] getDeleteStrings(BitSet mask, Supplier<String[]> generator) {
+		return deleteStrings.computeIfAbsent( new Key( -1, mask ), key -> generator.get() );
+	}
+
+	int getParameterCount(String sql) {
+		return parameterCounts.computeIfAbsent( sql, PreparedStatementAdaptor::parameterCount );
+	}
+
+	private static final class Key {
+		private final int table;
+		private final BitSet mask;
+
+		private Key(int table, BitSet mask) {
+			this.table = table;
+			this.mask = mask;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof Key ) ) {
+				return false;
+			}
+			Key key = (Key) object;
+			return table == key.table
+					&& mask.equals( key.mask );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * table + mask.hashCode();
+		}
+	}
+}
@@ -25,6 +25,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.persister.entity.AbstractEntityPersister;
@@ -35,9 +37,11 @@
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
 import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.Delete;
+import org.hibernate.sql.Select;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Update;
 import org.hibernate.tuple.InMemoryValueGenerationStrategy;
@@ -51,8 +55,12 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
@@ -222,7 +230,7 @@ default CompletionStage<?> insertReactive(
 		boolean useBatch = expectation.canBeBatched() && getIdentifierGenerator().supportsJdbcBatchInserts();
 //		final boolean callable = delegate.isInsertCallable( j );
 
-		Object[] params = PreparedStatementAdaptor.bind( insert -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount( sql ), insert -> {
 			boolean[][] insertable = delegate().getPropertyColumnInsertable();
 			int index = delegate().dehydrate( null, fields, notNull, insertable, j, insert, session, false );
 			delegate().getIdentifierType().nullSafeSet( insert, id, index, session );
@@ -250,7 +258,7 @@ default CompletionStage<Serializable> insertReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( insert -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount( sql ), insert -> {
 			boolean[][] insertable = delegate().getPropertyColumnInsertable();
 			delegate().dehydrate( null, fields, notNull, insertable, 0, insert, session, false );
 		} );
@@ -313,7 +321,7 @@ default CompletionStage<?> deleteReactive(
 		}
 
 		//Render the SQL query
-		Object[] params = PreparedStatementAdaptor.bind( delete -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount( sql ), delete -> {
 			int index = 1;
 
 			index += expectation.prepare( delete );
@@ -369,7 +377,7 @@ default CompletionStage<?> deleteReactive(
 		final String[] deleteStrings;
 		if ( isImpliedOptimisticLocking && loadedState != null ) {
 			// we need to utilize dynamic delete statements
-			deleteStrings = generateSQLDeleteStrings( loadedState );
+			deleteStrings = getDynamicSQLDeleteStrings( loadedState );
 		}
 		else {
 			// otherwise, utilize the static delete statements
@@ -397,6 +405,102 @@ default boolean isAllOrDirtyOptimisticLocking() {
 				|| optimisticLockStyle == OptimisticLockStyle.ALL;
 	}
 
+	/**
+	 * The cache of dynamically generated SQL for this persister.
+	 */
+	DynamicSqlStringCache getDynamicSqlStringCache();
+
+	/**
+	 * Create the {@link #getDynamicSqlStringCache() cache} of dynamically
+	 * generated SQL, of the configured size, when the persister is built.
+	 *
+	 * @see Settings#DYNAMIC_SQL_CACHE_MAX_SIZE
+	 */
+	default DynamicSqlStringCache createDynamicSqlStringCache() {
+		return new DynamicSqlStringCache( ConfigurationHelper.getInt(
+				Settings.DYNAMIC_SQL_CACHE_MAX_SIZE,
+				getFactory().getProperties(),
+				DynamicSqlStringCache.DEFAULT_MAX_SIZE
+		) );
+	}
+
+	/**
+	 * The number of JDBC parameters of the given SQL, which is one of
+	 * the statements of this persister, from the
+	 * {@link #getDynamicSqlStringCache() cache}.
+	 */
+	default int parameterCount(String sql) {
+		return getDynamicSqlStringCache().getParameterCount( sql );
+	}
+
+	/**
+	 * Obtain the delete statements for the given loaded state from the
+	 * {@link #getDynamicSqlStringCache() cache}, generating them if
+	 * necessary. The statements depend only on the nullness of the
+	 * versionable columns.
+	 */
+	default String[] getDynamicSQLDeleteStrings(Object[] loadedState) {
+		BitSet mask = new BitSet();
+		int bit = 0;
+		boolean[] versionability = delegate().getPropertyVersionability();
+		Type[] types = delegate().getPropertyTypes();
+		for ( int i = 0; i < delegate().getEntityMetamodel().getPropertySpan(); i++ ) {
+			if ( versionability[i] ) {
+				bit = appendColumnNullness( mask, bit, types[i], loadedState[i] );
+			}
+		}
+		return getDynamicSqlStringCache()
+				.getDeleteStrings( mask, () -> generateSQLDeleteStrings( loadedState ) );
+	}
+
+	/**
+	 * Obtain the update statement for the given table from the
+	 * {@link #getDynamicSqlStringCache() cache}, generating it if
+	 * necessary. The statement depends on the included properties,
+	 * on whether the row is identified by its rowid and, for "all"
+	 * or "dirty" optimistic locking, on the nullness of the old
+	 * values of the columns in the where clause.
+	 *
+	 * @see AbstractEntityPersister#generateUpdateString(boolean[], int, Object[], boolean)
+	 */
+	default String getDynamicUpdateString(boolean[] includeProperty, int j, Object[] oldFields, boolean useRowId) {
+		final int propertySpan = delegate().getEntityMetamodel().getPropertySpan();
+		BitSet mask = new BitSet();
+		for ( int i = 0; i < propertySpan; i++ ) {
+			if ( includeProperty[i] ) {
+				mask.set( i );
+			}
+		}
+		int bit = propertySpan;
+		mask.set( bit++, useRowId );
+		boolean optimisticLockingByColumns = !( j == 0 && delegate().isVersioned()
+				&& delegate().getEntityMetamodel().getOptimisticLockStyle() == OptimisticLockStyle.VERSION )
+				&& isAllOrDirtyOptimisticLocking() && oldFields != null;
+		mask.set( bit++, optimisticLockingByColumns );
+		if ( optimisticLockingByColumns ) {
+			boolean[] includeInWhere = delegate().getEntityMetamodel().getOptimisticLockStyle() == OptimisticLockStyle.ALL
+					? delegate().getPropertyUpdateability()
+					: includeProperty;
+			boolean[] versionability = delegate().getPropertyVersionability();
+			Type[] types = delegate().getPropertyTypes();
+			for ( int i = 0; i < propertySpan; i++ ) {
+				if ( includeInWhere[i] && delegate().isPropertyOfTable( i, j ) && versionability[i] ) {
+					bit = appendColumnNullness( mask, bit, types[i], oldFields[i] );
+				}
+			}
+		}
+		return getDynamicSqlStringCache()
+				.getUpdateString( j, mask, () -> delegate().generateUpdateString( includeProperty, j, oldFields, useRowId ) );
+	}
+
+	default int appendColumnNullness(BitSet mask, int bit, Type type, Object value) {
+		boolean[] nullness = type.toColumnNullness( value, delegate().getFactory() );
+		for ( boolean notNull : nullness ) {
+			mask.set( bit++, notNull );
+		}
+		return bit;
+	}
+
 	default String[] generateSQLDeleteStrings(Object[] loadedState) {
 		int span = delegate().getTableSpan();
 		String[] deleteStrings = new String[span];
@@ -418,7 +522,7 @@ default String[] generateSQLDeleteStrings(Object[] loadedState) {
 					boolean[] propertyNullness = types[i].toColumnNullness( loadedState[i], delegate().getFactory() );
 					for ( int k = 0; k < propertyNullness.length; k++ ) {
 						if ( propertyNullness[k] ) {
-							delete.addWhereFragment( propertyColumnNames[k] + " = $" + ( k + 1 ) );
+							delete.addWhereFragment( propertyColumnNames[k] + " = ?" );
 						}
 						else {
 							delete.addWhereFragment( propertyColumnNames[k] + " is null" );
@@ -454,7 +558,7 @@ default CompletionStage<Boolean> updateReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( update -> {
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount( sql ), update -> {
 			int index = 1;
 			index += expectation.prepare( update );
 
@@ -574,7 +678,7 @@ default CompletionStage<?> updateReactive(
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						delegate().generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -594,7 +698,7 @@ else if ( !delegate().isModifiableEntity( entry ) ) {
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						delegate().generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -772,7 +876,7 @@ default CompletionStage<Void> lockReactive(
 				throw new AssertionFailure("illegal lock mode");
 		}
 
-		Object[] arguments = PreparedStatementAdaptor.bind( statement -> {
+		Object[] arguments = PreparedStatementAdaptor.bind( parameterCount( sql ), statement -> {
 			int offset = 1;
 			if ( writeLock ) {
 				getVersionType().nullSafeSet( statement, nextVersion, offset, session );
@@ -804,6 +908,215 @@ default CompletionStage<Void> lockReactive(
 		} );
 	}
 
+	default String generateSelectVersionsString(LockOptions lockOptions, int count) {
+		final SessionFactoryImplementor factory = getFactory();
+		Dialect dialect = factory.getJdbcServices().getDialect();
+		final String[] idColumns = getRootTableIdentifierColumnNames();
+		final SimpleSelect select = new SimpleSelect(dialect)
+				.setLockOptions( lockOptions )
+				.setTableName( getRootTableName() )
+				.addColumns( idColumns, getIdentifierAliases( "" ) )
+				.addWhereToken( identifiersWhereString( idColumns, count ) );
+		if ( isVersioned() ) {
+			select.addColumn( getVersionColumnName(), getVersionAlias() );
+		}
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( lockOptions.getLockMode() == LockMode.NONE
+					? "get versions " + getEntityName()
+					: lockOptions.getLockMode() + " lock " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
+	/**
+	 * A restriction matching the given number of identifiers, modelled on
+	 * {@link org.hibernate.loader.JoinWalker#whereString(String, String[], int)}:
+	 * {@code id in (?, ?)} for a single-column identifier, and
+	 * {@code ((id1 = ? and id2 = ?) or (id1 = ? and id2 = ?))} for a
+	 * composite identifier.
+	 */
+	static String identifiersWhereString(String[] columns, int count) {
+		StringBuilder where = new StringBuilder();
+		if ( columns.length == 1 ) {
+			where.append( columns[0] ).append( " in (" );
+			for ( int i = 0; i < count; i++ ) {
+				if ( i > 0 ) {
+					where.append( ", " );
+				}
+				where.append( '?' );
+			}
+			return where.append( ')' ).toString();
+		}
+		else {
+			String condition = String.join( "=? and ", columns ) + "=?";
+			where.append( '(' );
+			for ( int i = 0; i < count; i++ ) {
+				if ( i > 0 ) {
+					where.append( " or " );
+				}
+				where.append( '(' ).append( condition ).append( ')' );
+			}
+			return where.append( ')' ).toString();
+		}
+	}
+
+	/**
+	 * The column alias of the version in the result of
+	 * {@link #generateSelectVersionsString(LockOptions, int)}.
+	 */
+	default String getVersionAlias() {
+		return delegate().getPropertyAliases( "", getVersionProperty() )[0];
+	}
+
+	/**
+	 * Obtain a pessimistic lock on several rows at once. For lock modes
+	 * which are obtained using a select statement, a single
+	 * {@code select ... for update} (or similar) is executed, and the
+	 * versions are then checked in memory. For forced version increments,
+	 * the updates are executed as a single batch.
+	 */
+	@Override
+	default CompletionStage<Void> lockReactive(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session)
+			throws HibernateException {
+
+		switch ( lockOptions.getLockMode() ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+				return reactiveGetCurrentVersions( ids, lockOptions, session )
+						.thenAccept( currentVersions -> {
+							for ( int i = 0; i < ids.length; i++ ) {
+								if ( currentVersions[i] == null
+										|| isVersioned() && !getVersionType().isEqual( versions[i], currentVersions[i] ) ) {
+									throw new StaleObjectStateException( getEntityName(), ids[i] );
+								}
+							}
+						} );
+			case PESSIMISTIC_FORCE_INCREMENT:
+			case FORCE:
+				return updateLockReactive( ids, versions, objects, lockOptions, session );
+			default:
+				throw new AssertionFailure("lock mode is not supported for multiple instances");
+		}
+	}
+
+	default CompletionStage<Void> updateLockReactive(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+
+		String sql = generateUpdateLockString( lockOptions );
+
+		int parameterCount = parameterCount( sql );
+		List<Object[]> arguments = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			Serializable id = ids[i];
+			Object version = versions[i];
+			Object nextVersion = nextVersionForLock( lockOptions.getLockMode(), id, version, objects[i], session );
+			arguments.add( PreparedStatementAdaptor.bind( parameterCount, statement -> {
+				getVersionType().nullSafeSet( statement, nextVersion, 1, session );
+				getIdentifierType().nullSafeSet( statement, id, 2, session );
+				getVersionType().nullSafeSet( statement, version, 2 + getIdentifierType().getColumnSpan( getFactory() ), session );
+			} ) );
+		}
+
+		return getReactiveConnection( session )
+				.update( sql, arguments )
+				.thenAccept( rowCounts -> {
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						if ( rowCounts[i] == 0 ) {
+							throw new StaleObjectStateException( getEntityName(), ids[i] );
+						}
+					}
+				} )
+				.handle( (r ,e) -> {
+					CompletionStages.logSqlException( e,
+							() -> "could not lock: "
+									+ ids.length + " instances of " + getEntityName(),
+							sql
+					);
+					return CompletionStages.returnOrRethrow( e, r );
+				} );
+	}
+
+	/**
+	 * Read the current versions of several instances at once, using a
+	 * single query, and optionally obtaining a pessimistic lock.
+	 *
+	 * @return the current versions, in the order of the given identifiers,
+	 *         with {@code null} for instances which don't exist, or
+	 *         {@link #UNVERSIONED} for unversioned instances which do exist
+	 */
+	@Override
+	default CompletionStage<Object[]> reactiveGetCurrentVersions(
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Getting versions of {0} instances of: {1}",
+					ids.length,
+					getEntityName()
+			);
+		}
+
+		String sql = generateSelectVersionsString( lockOptions, ids.length );
+
+		final int span = getIdentifierType().getColumnSpan( getFactory() );
+		Object[] arguments = PreparedStatementAdaptor.bind( ids.length * span, statement -> {
+			for ( int i = 0; i < ids.length; i++ ) {
+				getIdentifierType().nullSafeSet( statement, ids[i], i * span + 1, session );
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( sql, arguments )
+				.thenApply( resultSet -> {
+					Map<EntityKey, Object> currentVersions = new HashMap<>();
+					try {
+						while ( resultSet.next() ) {
+							Serializable id = (Serializable) getIdentifierType().nullSafeGet(
+									resultSet,
+									getIdentifierAliases( "" ),
+									session,
+									null
+							);
+							Object version = isVersioned()
+									? getVersionType().nullSafeGet( resultSet, getVersionAlias(), session, null )
+									: UNVERSIONED;
+							currentVersions.put( session.generateEntityKey( id, this ), version );
+						}
+					}
+					catch (SQLException sqle) {
+						//can never happen
+						throw new JDBCException( "error reading version", sqle );
+					}
+					Object[] result = new Object[ids.length];
+					for ( int i = 0; i < ids.length; i++ ) {
+						result[i] = currentVersions.get( session.generateEntityKey( ids[i], this ) );
+					}
+					return result;
+				} )
+				.handle( (r ,e) -> {
+					CompletionStages.logSqlException( e,
+							() -> "could not get versions: "
+									+ ids.length + " instances of " + getEntityName(),
+							sql
+					);
+					return CompletionStages.returnOrRethrow( e, r );
+				} );
+	}
+
 	@Override
 	VersionType<Object> getVersionType();
 
@@ -883,6 +1196,7 @@ default CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 		}
 
 		Object[] params = PreparedStatementAdaptor.bind(
+				delegate().getIdentifierColumnSpan(),
 				statement -> getIdentifierType().nullSafeSet(statement, id, 1, session)
 		);
 
@@ -891,6 +1205,103 @@ default CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 				.thenApply( (resultSet) -> processSnapshot(session, resultSet) );
 	}
 
+	@Override
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(List<Serializable> ids,
+																			   SharedSessionContractImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Checking existence of {0} instances of: {1}",
+					ids.size(),
+					getEntityName()
+			);
+		}
+
+		final int batchSize = existingIdentifiersBatchSize( ids.size() );
+		final List<Serializable> existing = new ArrayList<>( ids.size() );
+		return CompletionStages.loop(
+				0, ( ids.size() + batchSize - 1 ) / batchSize,
+				batch -> selectExistingIdentifiers(
+						ids.subList( batch * batchSize, Math.min( ids.size(), ( batch + 1 ) * batchSize ) ),
+						session
+				).thenAccept( existing::addAll )
+		).thenApply( v -> existing );
+	}
+
+	/**
+	 * The maximum number of identifiers to check in one query, as
+	 * determined by the dialect's batch load sizing strategy, but never
+	 * more than the dialect's limit on the length of an in list.
+	 */
+	default int existingIdentifiersBatchSize(int count) {
+		Dialect dialect = getFactory().getJdbcServices().getDialect();
+		int batchSize = dialect.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( delegate().getIdentifierColumnSpan(), count );
+		int limit = dialect.getInExpressionCountLimit();
+		if ( limit > 0 ) {
+			batchSize = Math.min( batchSize, limit );
+		}
+		return Math.max( batchSize, 1 );
+	}
+
+	default CompletionStage<List<Serializable>> selectExistingIdentifiers(List<Serializable> ids,
+																		  SharedSessionContractImplementor session) {
+		Object[] params = PreparedStatementAdaptor.bind( ids.size() * delegate().getIdentifierColumnSpan(), statement -> {
+			int index = 1;
+			for ( Serializable id : ids ) {
+				getIdentifierType().nullSafeSet( statement, id, index, session );
+				index += delegate().getIdentifierColumnSpan();
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( generateExistingIdentifiersSelectString( ids.size() ), params )
+				.thenApply( resultSet -> {
+					try {
+						List<Serializable> existing = new ArrayList<>( ids.size() );
+						while ( resultSet.next() ) {
+							existing.add( (Serializable) getIdentifierType()
+									.nullSafeGet( resultSet, getIdentifierAliases( "" ), session, null ) );
+						}
+						return existing;
+					}
+					catch (SQLException sqle) {
+						//can never happen
+						throw new JDBCException( "error reading identifiers", sqle );
+					}
+				} );
+	}
+
+	/**
+	 * A query returning the identifiers of the given number of instances
+	 * that have a row in the database, modelled on
+	 * {@link AbstractEntityPersister#generateSnapshotSelectString()}.
+	 * Only supported for entities with single-column identifiers.
+	 */
+	default String generateExistingIdentifiersSelectString(int count) {
+		String rootAlias = StringHelper.generateAlias( getEntityName() );
+		String idColumn = StringHelper.qualify( rootAlias, getIdentifierColumnNames()[0] );
+		StringBuilder whereClause = new StringBuilder( idColumn ).append( " in (" );
+		for ( int i = 0; i < count; i++ ) {
+			if ( i > 0 ) {
+				whereClause.append( ", " );
+			}
+			whereClause.append( '?' );
+		}
+		whereClause.append( ')' )
+				.append( delegate().whereJoinFragment( rootAlias, true, false ) );
+
+		Select select = new Select( getFactory().getJdbcServices().getDialect() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "check existence " + getEntityName() );
+		}
+		return select.setSelectClause( idColumn + " as " + getIdentifierAliases( "" )[0] )
+				.setFromClause( delegate().fromTableFragment( rootAlias )
+						+ delegate().fromJoinFragment( rootAlias, true, false ) )
+				.setOuterJoins( "", "" )
+				.setWhereClause( whereClause.toString() )
+				.toStatementString();
+	}
+
 	@Override
 	default CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 															  SharedSessionContractImplementor session) {
@@ -902,6 +1313,7 @@ default CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 		}
 
 		Object[] params = PreparedStatementAdaptor.bind(
+				delegate().getIdentifierColumnSpan(),
 				statement -> getIdentifierType().nullSafeSet( statement, id, 1, session )
 		);
 
@@ -1008,6 +1420,7 @@ default CompletionStage<?> reactiveInitializeLazyPropertiesFromDatastore(
 		Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
 
 		Object[] arguments = PreparedStatementAdaptor.bind(
+				delegate().getIdentifierColumnSpan(),
 				statement -> getIdentifierType().nullSafeSet( statement, id, 1, session )
 		);
 
@@ -9,6 +9,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.MarkerObject;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
@@ -27,6 +28,12 @@
  */
 public interface ReactiveEntityPersister extends EntityPersister {
 
+	/**
+	 * The "version" returned by {@link #reactiveGetCurrentVersions}
+	 * for an instance of an unversioned entity which exists.
+	 */
+	Object UNVERSIONED = new MarkerObject( "UNVERSIONED" );
+
 	/**
 	 * Insert the given instance state without blocking.
 	 *
@@ -86,6 +93,29 @@ CompletionStage<Void> lockReactive(
 			SharedSessionContractImplementor session)
 			throws HibernateException;
 
+	/**
+	 * Obtain a pessimistic lock on several instances at once, without
+	 * blocking, checking that they have the given versions
+	 */
+	CompletionStage<Void> lockReactive(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session)
+			throws HibernateException;
+
+	/**
+	 * Get the current versions of several instances at once, without
+	 * blocking, with {@code null} for instances which don't exist, and
+	 * {@link #UNVERSIONED} for instances of an unversioned entity which
+	 * do exist
+	 */
+	CompletionStage<Object[]> reactiveGetCurrentVersions(
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session);
+
 	CompletionStage<List<Object>> reactiveMultiLoad(
 	 		Serializable[] ids,
 			SessionImplementor session,
@@ -117,6 +147,16 @@ CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 	CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id,
 														  SharedSessionContractImplementor session);
 
+	/**
+	 * Determine which of the given instances have a row in the database,
+	 * using a single query. Only supported for entities with single-column
+	 * identifiers.
+	 *
+	 * @return the identifiers of the instances which exist in the database
+	 */
+	CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(List<Serializable> ids,
+																	   SharedSessionContractImplementor session);
+
 	default <E,T> CompletionStage<T> reactiveInitializeLazyProperty(Attribute<E,T> field, E entity,
 																	SharedSessionContractImplementor session) {
 		return CompletionStages.nullFuture();
@@ -37,12 +37,20 @@
 public class ReactiveSingleTableEntityPersister extends SingleTableEntityPersister
 		implements ReactiveAbstractEntityPersister {
 
+	private final DynamicSqlStringCache dynamicSqlStringCache;
+
 	public ReactiveSingleTableEntityPersister(
 			PersistentClass persistentClass,
 			EntityDataAccess cacheAccessStrategy,
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		dynamicSqlStringCache = createDynamicSqlStringCache();
+	}
+
+	@Override
+	public DynamicSqlStringCache getDynamicSqlStringCache() {
+		return dynamicSqlStringCache;
 	}
 
 	@Override
@@ -35,12 +35,20 @@
 public class ReactiveUnionSubclassEntityPersister extends UnionSubclassEntityPersister
 		implements ReactiveAbstractEntityPersister {
 
+	private final DynamicSqlStringCache dynamicSqlStringCache;
+
 	public ReactiveUnionSubclassEntityPersister(
 			PersistentClass persistentClass,
 			EntityDataAccess cacheAccessStrategy,
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		dynamicSqlStringCache = createDynamicSqlStringCache();
+	}
+
+	@Override
+	public DynamicSqlStringCache getDynamicSqlStringCache() {
+		return dynamicSqlStringCache;
 	}
 
 	@Override
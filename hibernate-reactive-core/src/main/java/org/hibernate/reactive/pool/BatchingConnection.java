@@ -155,6 +155,13 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
                 delegate.selectJdbc(sql, paramValues);
     }
 
+    @Override
+    public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, String origin) {
+        return hasBatch() ?
+                executeBatch().thenCompose( v -> delegate.selectJdbc(sql, paramValues, origin) ) :
+                delegate.selectJdbc(sql, paramValues, origin);
+    }
+
     public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
         return hasBatch() ?
                 executeBatch().thenCompose( v -> delegate.selectLong(sql, paramValues) ) :
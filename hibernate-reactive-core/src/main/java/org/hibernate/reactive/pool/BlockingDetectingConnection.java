@@ -0,0 +1,218 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import io.vertx.core.Context;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReactiveConnection} which detects code that blocks the
+ * Vert.x event loop, for use during development. It measures, on
+ * event loop threads only:
+ * <ul>
+ * <li>the time taken to submit each SQL statement to the given
+ * {@link ReactiveConnection}, and
+ * <li>the time taken to process the result of each SQL statement,
+ * that is, to run every operation chained to the statement up to
+ * the next non-blocking call, including the processing performed
+ * by Hibernate and by the program itself.
+ * </ul>
+ * When a section takes longer than
+ * {@link Settings#BLOCKING_DETECTION_THRESHOLD the configured threshold},
+ * a warning identifying the SQL statement, and the entity, collection
+ * role, or query it was generated for, is logged.
+ * <p>
+ * Since this connection sits directly on top of the connection
+ * obtained from the {@link ReactiveConnectionPool}, the time spent
+ * in any other decorators is included in the measurement.
+ */
+public class BlockingDetectingConnection implements ReactiveConnection {
+
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( BlockingDetectingConnection.class );
+
+	private static final LongAdder blockedSections = new LongAdder();
+
+	private final ReactiveConnection delegate;
+	private final long thresholdNanos;
+
+	public BlockingDetectingConnection(ReactiveConnection delegate, long thresholdMillis) {
+		this.delegate = delegate;
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos( thresholdMillis );
+	}
+
+	/**
+	 * Wrap the given connection, obtained for a new session, if
+	 * detection of blocking code is enabled, that is, if the given
+	 * threshold is positive, or return it unchanged.
+	 *
+	 * @param thresholdMillis the threshold obtained once from the
+	 *                        configuration by {@link #thresholdMillis}
+	 */
+	public static ReactiveConnection forSession(ReactiveConnection delegate, int thresholdMillis) {
+		return thresholdMillis > 0 ? new BlockingDetectingConnection( delegate, thresholdMillis ) : delegate;
+	}
+
+	/**
+	 * The configured threshold, in milliseconds, or zero if the
+	 * detection of blocking code is disabled. It is read once, when
+	 * the session factory is built.
+	 */
+	public static int thresholdMillis(SessionFactoryImplementor factory) {
+		return ConfigurationHelper.getInt( Settings.BLOCKING_DETECTION_THRESHOLD, factory.getProperties(), 0 );
+	}
+
+	/**
+	 * Log a warning if the current thread is a Vert.x event loop
+	 * thread, and the section which started at the given time, as
+	 * measured by {@link System#nanoTime()}, took longer than the
+	 * given threshold.
+	 *
+	 * @param operation a description of what the section did
+	 */
+	public static void checkSection(long thresholdNanos, long startNanos, String operation) {
+		long elapsed = System.nanoTime() - startNanos;
+		if ( elapsed > thresholdNanos && Context.isOnEventLoopThread() ) {
+			blockedSections.increment();
+			log.warnf(
+					"HRX000023: Vert.x event loop thread [%s] blocked for %d ms while %s",
+					Thread.currentThread().getName(),
+					TimeUnit.NANOSECONDS.toMillis( elapsed ),
+					operation
+			);
+		}
+	}
+
+	/**
+	 * The number of sections reported so far, by every session
+	 * factory, for testing.
+	 */
+	public static long getBlockedSectionCount() {
+		return blockedSections.sum();
+	}
+
+	private static String describe(String sql, String origin) {
+		return origin == null ? sql : sql + " (loading [" + origin + "])";
+	}
+
+	private <T> CompletionStage<T> detect(String sql, String origin, Supplier<CompletionStage<T>> operation) {
+		long submitted = System.nanoTime();
+		CompletionStage<T> stage = operation.get();
+		checkSection( thresholdNanos, submitted, "submitting SQL: " + describe( sql, origin ) );
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		stage.whenComplete( (value, error) -> {
+			// completing the future runs every chained operation
+			// up to the next non-blocking call on this thread
+			long started = System.nanoTime();
+			if ( error != null ) {
+				result.completeExceptionally( error );
+			}
+			else {
+				result.complete( value );
+			}
+			checkSection( thresholdNanos, started, "processing the result of SQL: " + describe( sql, origin ) );
+		} );
+		return result;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return detect( sql, null, () -> delegate.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return detect( sql, null, () -> delegate.executeOutsideTransaction( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return detect( sql, null, () -> delegate.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return detect( sql, null, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		return detect( sql, null, () -> delegate.update( sql, paramValues, allowBatching, expectation ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return detect( sql, null, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		return detect( sql, null, () -> delegate.updateReturning( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return detect( sql, null, () -> delegate.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return detect( sql, null, () -> delegate.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return detect( sql, null, () -> delegate.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, String origin) {
+		return detect( sql, origin, () -> delegate.selectJdbc( sql, paramValues, origin ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		return detect( sql, null, () -> delegate.selectLong( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return detect( "begin", null, delegate::beginTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return detect( "commit", null, delegate::commitTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return detect( "rollback", null, delegate::rollbackTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
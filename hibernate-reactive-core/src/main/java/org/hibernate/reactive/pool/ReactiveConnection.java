@@ -48,6 +48,15 @@ CompletionStage<Void> update(String sql, Object[] paramValues,
 	CompletionStage<Result> select(String sql);
 	CompletionStage<Result> select(String sql, Object[] paramValues);
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
+
+	/**
+	 * Execute a query, where the given origin identifies the entity or
+	 * collection role, or the query, for which the SQL was generated,
+	 * for use in diagnostics.
+	 */
+	default CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, String origin) {
+		return selectJdbc( sql, paramValues );
+	}
 	CompletionStage<Long> selectLong(String sql, Object[] paramValues);
 
 	interface Result extends Iterator<Object[]> {
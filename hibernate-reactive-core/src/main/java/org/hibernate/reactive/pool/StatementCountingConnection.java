@@ -0,0 +1,291 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link ReactiveConnection} that keeps the {@link StatementStatistics}
+ * of the session which owns it, delegating actual SQL statements to a
+ * given {@link ReactiveConnection}. It sits underneath any
+ * {@link BatchingConnection}, so that a batch is counted as a single
+ * round trip.
+ * <p>
+ * Optionally, it detects "N+1 selects": when the same SQL query, with
+ * possibly different parameters, is executed
+ * {@link Settings#REPEATED_STATEMENT_THRESHOLD a given number of times}
+ * within the session, a warning is logged, identifying the entity or
+ * collection role which the query loads. If
+ * {@link Settings#FAIL_ON_REPEATED_STATEMENT} is enabled, the query
+ * fails instead, which is useful in tests.
+ *
+ * @see StatementStatistics
+ */
+public class StatementCountingConnection implements ReactiveConnection, StatementStatistics {
+
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( StatementCountingConnection.class );
+
+	private final ReactiveConnection delegate;
+	private final int repeatedStatementThreshold;
+	private final boolean failOnRepeatedStatement;
+
+	private long statementCount;
+	private long rowCount;
+	private long roundTripCount;
+
+	//Lazily initialized
+	private Map<String, Integer> queryCounts;
+	private Set<String> distinctStatements;
+
+	public StatementCountingConnection(ReactiveConnection delegate,
+									   int repeatedStatementThreshold,
+									   boolean failOnRepeatedStatement) {
+		this.delegate = delegate;
+		this.repeatedStatementThreshold = repeatedStatementThreshold;
+		this.failOnRepeatedStatement = failOnRepeatedStatement;
+	}
+
+	/**
+	 * Wrap the given connection, obtained for a new session, with the
+	 * settings of its session factory.
+	 *
+	 * @see #repeatedStatementThreshold(SessionFactoryImplementor)
+	 * @see #failOnRepeatedStatement(SessionFactoryImplementor)
+	 */
+	public static StatementCountingConnection forSession(ReactiveConnection delegate,
+														 int repeatedStatementThreshold,
+														 boolean failOnRepeatedStatement) {
+		return new StatementCountingConnection( delegate, repeatedStatementThreshold, failOnRepeatedStatement );
+	}
+
+	/**
+	 * The configured {@link Settings#REPEATED_STATEMENT_THRESHOLD}, or
+	 * zero if the detection of repeated statements is disabled. It is
+	 * read once, when the session factory is built.
+	 */
+	public static int repeatedStatementThreshold(SessionFactoryImplementor factory) {
+		return ConfigurationHelper.getInt( Settings.REPEATED_STATEMENT_THRESHOLD, factory.getProperties(), 0 );
+	}
+
+	/**
+	 * The configured {@link Settings#FAIL_ON_REPEATED_STATEMENT}. It is
+	 * read once, when the session factory is built.
+	 */
+	public static boolean failOnRepeatedStatement(SessionFactoryImplementor factory) {
+		return ConfigurationHelper.getBoolean( Settings.FAIL_ON_REPEATED_STATEMENT, factory.getProperties(), false );
+	}
+
+	@Override
+	public long getStatementCount() {
+		return statementCount;
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public long getRoundTripCount() {
+		return roundTripCount;
+	}
+
+	@Override
+	public long getDistinctStatementCount() {
+		return distinctStatements == null ? 0 : distinctStatements.size();
+	}
+
+	private void count(int statements) {
+		statementCount += statements;
+		roundTripCount++;
+	}
+
+	private void count(String sql, int statements) {
+		count( statements );
+		if ( distinctStatements == null ) {
+			distinctStatements = new HashSet<>();
+		}
+		distinctStatements.add( sql );
+	}
+
+	/**
+	 * Count an execution of the given query, returning an exception
+	 * if it is repeated too many times and this should be an error.
+	 */
+	private HibernateException countQuery(String sql, String origin) {
+		count( sql, 1 );
+		if ( repeatedStatementThreshold > 0 ) {
+			if ( queryCounts == null ) {
+				queryCounts = new HashMap<>();
+			}
+			int executions = queryCounts.merge( sql, 1, Integer::sum );
+			if ( executions == repeatedStatementThreshold ) {
+				String message = String.format(
+						"HRX000022: Possible N+1 selects: the same query was executed %d times in one session, loading [%s]: %s",
+						executions,
+						origin == null ? "unknown" : origin,
+						sql
+				);
+				if ( failOnRepeatedStatement ) {
+					return new HibernateException( message );
+				}
+				log.warn( message );
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		count( sql, 1 );
+		return delegate.execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		count( sql, 1 );
+		return delegate.executeOutsideTransaction( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		count( sql, 1 );
+		return delegate.update( sql ).thenApply( rows -> {
+			rowCount += rows;
+			return rows;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		count( sql, 1 );
+		return delegate.update( sql, paramValues ).thenApply( rows -> {
+			rowCount += rows;
+			return rows;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues,
+										boolean allowBatching, Expectation expectation) {
+		count( sql, 1 );
+		return delegate.update( sql, paramValues, allowBatching, (rows, batchPosition, s) -> {
+			rowCount += rows;
+			expectation.verifyOutcome( rows, batchPosition, s );
+		} );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		count( sql, paramValues.size() );
+		return delegate.update( sql, paramValues ).thenApply( rows -> {
+			for ( int row : rows ) {
+				rowCount += row;
+			}
+			return rows;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Long> updateReturning(String sql, Object[] paramValues) {
+		count( sql, 1 );
+		rowCount++;
+		return delegate.updateReturning( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return select( sql, null, null );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return select( sql, paramValues, null );
+	}
+
+	private CompletionStage<Result> select(String sql, Object[] paramValues, String origin) {
+		HibernateException repeated = countQuery( sql, origin );
+		if ( repeated != null ) {
+			return CompletionStages.failedFuture( repeated );
+		}
+		CompletionStage<Result> result = paramValues == null
+				? delegate.select( sql )
+				: delegate.select( sql, paramValues );
+		return result.thenApply( rows -> {
+			rowCount += rows.size();
+			return rows;
+		} );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return selectJdbc( sql, paramValues, null );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, String origin) {
+		HibernateException repeated = countQuery( sql, origin );
+		if ( repeated != null ) {
+			return CompletionStages.failedFuture( repeated );
+		}
+		return delegate.selectJdbc( sql, paramValues ).thenApply( resultSet -> {
+			if ( resultSet instanceof ResultSetAdaptor ) {
+				rowCount += ( (ResultSetAdaptor) resultSet ).getRowCount();
+			}
+			return resultSet;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Long> selectLong(String sql, Object[] paramValues) {
+		count( sql, 1 );
+		rowCount++;
+		return delegate.selectLong( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		count( 0 );
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		count( 0 );
+		return delegate.commitTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		count( 0 );
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
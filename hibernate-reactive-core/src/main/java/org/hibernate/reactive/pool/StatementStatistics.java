@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+
+/**
+ * Counts the SQL statements executed by a single reactive session,
+ * the rows they read or wrote, and the number of round trips to the
+ * database.
+ * <p>
+ * A high number of statements per unit of work, especially when the
+ * number of round trips is similar, often indicates an "N+1 selects"
+ * problem. A detector for such problems may be enabled by setting
+ * {@link org.hibernate.reactive.provider.Settings#REPEATED_STATEMENT_THRESHOLD}.
+ */
+@Incubating
+public interface StatementStatistics {
+
+	/**
+	 * The number of SQL statements executed, where each statement
+	 * in a batch is counted separately.
+	 */
+	long getStatementCount();
+
+	/**
+	 * The number of rows returned by queries, plus the number of rows
+	 * affected by inserts, updates, and deletes.
+	 */
+	long getRowCount();
+
+	/**
+	 * The number of requests sent to the database, where a batch of
+	 * statements, or a transaction demarcation, is counted as a single
+	 * request.
+	 */
+	long getRoundTripCount();
+
+	/**
+	 * The number of distinct SQL strings executed, which is also the
+	 * number of statements the database had to prepare, assuming the
+	 * prepared statement cache is large enough.
+	 */
+	long getDistinctStatementCount();
+}
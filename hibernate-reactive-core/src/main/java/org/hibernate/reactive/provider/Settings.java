@@ -60,6 +60,86 @@ public interface Settings extends AvailableSettings {
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
 
+	/**
+	 * Property for configuring the maximum number of dynamically
+	 * generated SQL strings cached by each entity persister, for
+	 * entities with dynamic update or "all"/"dirty" optimistic
+	 * locking.
+	 *
+	 * @see org.hibernate.reactive.persister.entity.impl.DynamicSqlStringCache
+	 */
+	String DYNAMIC_SQL_CACHE_MAX_SIZE = "hibernate.reactive.dynamic_sql_cache.max_size";
+
+	/**
+	 * Property for enabling detection of "N+1 selects": the number of
+	 * times the same SQL query may be executed within one session
+	 * before a warning is logged. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.StatementCountingConnection
+	 */
+	String REPEATED_STATEMENT_THRESHOLD = "hibernate.reactive.repeated_statement.threshold";
+
+	/**
+	 * Property specifying that a query which crosses the
+	 * {@link #REPEATED_STATEMENT_THRESHOLD} should fail, instead
+	 * of just logging a warning. Intended for use in tests.
+	 */
+	String FAIL_ON_REPEATED_STATEMENT = "hibernate.reactive.repeated_statement.fail";
+
+	/**
+	 * Property for enabling detection of code which blocks the Vert.x
+	 * event loop: the number of milliseconds a section of a reactive
+	 * operation may run on an event loop thread before a warning is
+	 * logged. Disabled by default, and intended for use during
+	 * development.
+	 *
+	 * @see org.hibernate.reactive.pool.BlockingDetectingConnection
+	 */
+	String BLOCKING_DETECTION_THRESHOLD = "hibernate.reactive.blocking_detection.threshold";
+
+	/**
+	 * Property for configuring the maximum number of connections used
+	 * to concurrently create tables and indexes during schema export.
+	 * Default 4. A value of 1 means that every DDL command is executed
+	 * on the same connection.
+	 *
+	 * @see org.hibernate.reactive.provider.service.ReactiveGenerationTarget
+	 */
+	String SCHEMA_EXPORT_CONNECTIONS = "hibernate.reactive.schema_export.connections";
+
+	/**
+	 * Property specifying that the schema export performed at startup
+	 * should be skipped if the generated DDL is identical to the DDL
+	 * executed by a previous schema export, as determined by comparing
+	 * a hash stored in the database. Applies when the schema is dropped
+	 * and created, or just created. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.provider.service.ReactiveGenerationTarget
+	 */
+	String SCHEMA_FINGERPRINT = "hibernate.reactive.schema_export.fingerprint";
+
+	/**
+	 * Property specifying that an HQL query created on a Vert.x event
+	 * loop thread, whose query plan is not already cached, should be
+	 * compiled on a worker thread, with execution of the query delayed
+	 * until the plan is ready. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.session.impl.ReactiveQueryPlanCache
+	 */
+	String QUERY_PLAN_ASYNC_COMPILATION = "hibernate.reactive.query_plan.async_compilation";
+
+	/**
+	 * Property specifying that, on PostgreSQL, a batch of single-column
+	 * keys loaded by a batch fetch should be bound as a single array
+	 * parameter, using {@code = any (?)}, instead of being expanded to
+	 * {@code in (?, ?, ...)}. Enabled by default. When disabled, the
+	 * batch is padded if {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING}
+	 * is enabled.
+	 *
+	 * @see org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor#supportsArrayParameter
+	 */
+	String BATCH_FETCH_ARRAY_PARAMETER = "hibernate.reactive.batch_fetch.array_parameter";
+
 	/**
 	 * Temporary, until this setting is added in Hibernate ORM
 	 */
@@ -11,13 +11,16 @@
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.boot.spi.SessionFactoryBuilderImplementor;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
 import org.hibernate.reactive.provider.service.ReactiveSessionFactoryBuilder;
 
 import javax.persistence.EntityManagerFactory;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Heavily inspired by org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl
@@ -27,7 +30,25 @@
 public final class ReactiveEntityManagerFactoryBuilder extends EntityManagerFactoryBuilderImpl {
 
     public ReactiveEntityManagerFactoryBuilder(PersistenceUnitDescriptor persistenceUnitDescriptor, Map integration) {
-        super( persistenceUnitDescriptor, integration );
+        super( persistenceUnitDescriptor, withSnapshotScanner( persistenceUnitDescriptor, integration ) );
+    }
+
+    //Use the scan snapshot generated at build time, if any, unless
+    //the program specifies its own Scanner or ArchiveDescriptorFactory
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> withSnapshotScanner(PersistenceUnitDescriptor persistenceUnitDescriptor, Map<?, ?> integration) {
+        Properties properties = persistenceUnitDescriptor.getProperties();
+        for ( String setting : new String[] { AvailableSettings.SCANNER, AvailableSettings.SCANNER_ARCHIVE_INTERPRETER } ) {
+            if ( integration != null && integration.containsKey( setting )
+                    || properties != null && properties.containsKey( setting ) ) {
+                return (Map<String, Object>) integration;
+            }
+        }
+        Map<String, Object> result = integration == null
+                ? new HashMap<>()
+                : new HashMap<>( (Map<String, Object>) integration );
+        result.put( AvailableSettings.SCANNER, new SnapshotScanner() );
+        return result;
     }
 
     //Overridden so to use a customized serviceregistry: see ReactiveServiceRegistryBuilder
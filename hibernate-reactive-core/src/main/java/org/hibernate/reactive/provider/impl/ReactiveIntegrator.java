@@ -12,6 +12,7 @@
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.reactive.event.impl.*;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
 /**
@@ -29,7 +30,7 @@ public void integrate(
 			Metadata metadata,
 			SessionFactoryImplementor sessionFactory,
 			SessionFactoryServiceRegistry serviceRegistry) {
-		attachEventContextManagingListenersIfRequired( serviceRegistry );
+		attachEventContextManagingListenersIfRequired( sessionFactory, serviceRegistry );
 	}
 
 	@Override
@@ -37,7 +38,9 @@ public void disintegrate(
 			SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
 	}
 
-	private void attachEventContextManagingListenersIfRequired(SessionFactoryServiceRegistry serviceRegistry) {
+	private void attachEventContextManagingListenersIfRequired(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryServiceRegistry serviceRegistry) {
 		if ( ReactiveModeCheck.isReactiveRegistry( serviceRegistry ) ) {
 
 			CoreLogging.messageLogger(ReactiveIntegrator.class).info("HRX000001: Hibernate Reactive Preview");
@@ -54,7 +57,9 @@ private void attachEventContextManagingListenersIfRequired(SessionFactoryService
 			eventListenerRegistry.getEventListenerGroup( EventType.DELETE ).appendListener( new DefaultReactiveDeleteEventListener() );
 			eventListenerRegistry.getEventListenerGroup( EventType.REFRESH ).appendListener( new DefaultReactiveRefreshEventListener() );
 			eventListenerRegistry.getEventListenerGroup( EventType.LOCK ).appendListener( new DefaultReactiveLockEventListener() );
-			eventListenerRegistry.getEventListenerGroup( EventType.LOAD ).appendListener( new DefaultReactiveLoadEventListener() );
+			eventListenerRegistry.getEventListenerGroup( EventType.LOAD ).appendListener(
+					new DefaultReactiveLoadEventListener( BlockingDetectingConnection.thresholdMillis( sessionFactory ) )
+			);
 			eventListenerRegistry.getEventListenerGroup( EventType.INIT_COLLECTION ).appendListener( new DefaultReactiveInitializeCollectionEventListener() );
 			eventListenerRegistry.getEventListenerGroup( EventType.POST_LOAD ).appendListener( new DefaultReactivePostLoadEventListener() );
 		}
@@ -5,31 +5,84 @@
  */
 package org.hibernate.reactive.provider.impl;
 
+import io.vertx.sqlclient.Row;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.TypeContributor;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LocalDateTimeType;
+import org.hibernate.type.LocalDateType;
+import org.hibernate.type.LocalTimeType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.PostgresUUIDType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.PrimitiveByteArrayTypeDescriptor;
 import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BasicBinder;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 import org.hibernate.type.descriptor.sql.VarbinaryTypeDescriptor;
 import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
 
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Overrides Hibernate's built-in `materialized_blob` and `materialized_clob`
  * type mappings and replaces them with the same handling as regular byte
  * arrays and strings, since the {@link io.vertx.sqlclient.SqlClient} doesn't
  * support any special handling for LOBs.
+ * <p>
+ * Also overrides the mappings of {@code java.time} types, of UUIDs on
+ * PostgreSQL, and of the wrappers of primitive types, so that values of
+ * these types are bound and read as they are, since that's how the
+ * SqlClient represents them, instead of being converted to and from the
+ * JDBC types, {@link java.sql.Timestamp} and friends, and boxed again.
+ * <p>
  * This is only applied if the Hibernate ORM instance we're registering with
  * is marked as being reactive.
  */
 public class ReactiveTypeContributor implements TypeContributor {
 
+	private static final Map<Class<?>, ResultSetAdaptor.ColumnReader<?>> READERS = new HashMap<>();
+	static {
+		READERS.put( LocalDateTime.class, ReactiveTypeContributor::getLocalDateTime );
+		READERS.put( LocalDate.class, Row::getLocalDate );
+		READERS.put( LocalTime.class, Row::getLocalTime );
+		READERS.put( Integer.class, Row::getInteger );
+		READERS.put( Long.class, Row::getLong );
+		READERS.put( Short.class, Row::getShort );
+		READERS.put( Double.class, Row::getDouble );
+		READERS.put( Float.class, Row::getFloat );
+		READERS.put( Boolean.class, Row::getBoolean );
+		READERS.put( UUID.class, Row::getUUID );
+	}
+
 	@Override
 	public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		if ( ReactiveModeCheck.isReactiveRegistry( serviceRegistry ) ) {
@@ -42,6 +95,51 @@ private void registerReactiveChanges(TypeContributions typeContributions, Servic
 		Dialect dialect = serviceRegistry.getService(JdbcEnvironment.class).getDialect();
 		basicTypeRegistry.register( new BlobType(dialect) );
 		basicTypeRegistry.register( new ClobType(dialect) );
+
+		register( basicTypeRegistry, new LocalDateTimeType(), Types.TIMESTAMP, LocalDateTime.class );
+		register( basicTypeRegistry, new LocalDateType(), Types.DATE, LocalDate.class );
+		register( basicTypeRegistry, new LocalTimeType(), Types.TIME, LocalTime.class );
+		register( basicTypeRegistry, new IntegerType(), Types.INTEGER, Integer.class );
+		register( basicTypeRegistry, new LongType(), Types.BIGINT, Long.class );
+		register( basicTypeRegistry, new ShortType(), Types.SMALLINT, Short.class );
+		register( basicTypeRegistry, new DoubleType(), Types.DOUBLE, Double.class );
+		register( basicTypeRegistry, new FloatType(), Types.FLOAT, Float.class );
+		register( basicTypeRegistry, new BooleanType(), Types.BOOLEAN, Boolean.class );
+		if ( dialect instanceof PostgreSQL81Dialect ) {
+			register( basicTypeRegistry, new PostgresUUIDType(), Types.OTHER, UUID.class );
+		}
+	}
+
+	private static void register(BasicTypeRegistry basicTypeRegistry, AbstractStandardBasicType<?> type,
+			int sqlType, Class<?> nativeType) {
+		type.setSqlTypeDescriptor( new NativeTypeDescriptor<>( sqlType, nativeType ) );
+		basicTypeRegistry.register( type );
+	}
+
+	/**
+	 * The typed accessor of {@link Row} which reads a value of the given
+	 * Java type without conversion.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <N> ResultSetAdaptor.ColumnReader<N> reader(Class<N> nativeType) {
+		ResultSetAdaptor.ColumnReader<?> reader = READERS.get( nativeType );
+		if ( reader == null ) {
+			throw new IllegalArgumentException( "Not a native type: " + nativeType.getName() );
+		}
+		return (ResultSetAdaptor.ColumnReader<N>) reader;
+	}
+
+	/**
+	 * Read a {@code timestamp}, or a {@code timestamp with time zone},
+	 * which the SqlClient returns as an {@link OffsetDateTime}, as a
+	 * {@link LocalDateTime}, as {@link ResultSetAdaptor#getTimestamp(String)}
+	 * does.
+	 */
+	private static LocalDateTime getLocalDateTime(Row row, int index) {
+		Object value = row.getValue( index );
+		return value instanceof OffsetDateTime
+				? ( (OffsetDateTime) value ).toLocalDateTime()
+				: value == null ? null : row.getLocalDateTime( index );
 	}
 
 	private static class ClobType extends AbstractSingleColumnStandardBasicType<String> {
@@ -91,4 +189,82 @@ public String getName() {
 			return "materialized_blob";
 		}
 	}
+
+	/**
+	 * Binds and reads values of a Java type which is natively supported
+	 * by the {@link io.vertx.sqlclient.SqlClient}, without conversion.
+	 * It may still be remapped by the dialect, for example, booleans are
+	 * mapped to {@code smallint}s on DB2.
+	 */
+	static class NativeTypeDescriptor<N> implements SqlTypeDescriptor {
+		private static final long serialVersionUID = 1L;
+
+		private final int sqlType;
+		private final Class<N> nativeType;
+		// a method reference isn't serializable, so it's looked up again
+		// when the descriptor is deserialized, in readResolve()
+		private final transient ResultSetAdaptor.ColumnReader<N> reader;
+
+		NativeTypeDescriptor(int sqlType, Class<N> nativeType) {
+			this.sqlType = sqlType;
+			this.nativeType = nativeType;
+			this.reader = reader( nativeType );
+		}
+
+		private Object readResolve() {
+			return new NativeTypeDescriptor<>( sqlType, nativeType );
+		}
+
+		@Override
+		public int getSqlType() {
+			return sqlType;
+		}
+
+		@Override
+		public boolean canBeRemapped() {
+			return true;
+		}
+
+		@Override
+		public <X> ValueBinder<X> getBinder(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			return new BasicBinder<X>( javaTypeDescriptor, this ) {
+				@Override
+				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+						throws SQLException {
+					st.setObject( index, javaTypeDescriptor.unwrap( value, nativeType, options ) );
+				}
+
+				@Override
+				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+						throws SQLException {
+					st.setObject( name, javaTypeDescriptor.unwrap( value, nativeType, options ) );
+				}
+			};
+		}
+
+		@Override
+		public <X> ValueExtractor<X> getExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+				@Override
+				protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
+					N value = rs instanceof ResultSetAdaptor
+							? ( (ResultSetAdaptor) rs ).getValue( name, reader )
+							: rs.getObject( name, nativeType );
+					return javaTypeDescriptor.wrap( value, options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
+						throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getObject( index, nativeType ), options );
+				}
+
+				@Override
+				protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
+						throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getObject( name, nativeType ), options );
+				}
+			};
+		}
+	}
 }
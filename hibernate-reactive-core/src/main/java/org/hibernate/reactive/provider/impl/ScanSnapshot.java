@@ -0,0 +1,350 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * The result of scanning a persistence unit root for annotated
+ * classes, packages, and mapping files, computed at build time
+ * and stored in the resource {@value #RESOURCE}, together with a
+ * fingerprint of the names, sizes, and CRC-32 checksums of every
+ * file in the root.
+ * <p>
+ * At runtime, the {@link SnapshotScanner} uses the snapshot
+ * instead of reading every class file in the root, unless the
+ * fingerprint no longer matches the root.
+ * <p>
+ * To generate a snapshot, run this class with the output
+ * directory, followed by the directories or jars which will
+ * make up the persistence unit root, usually, the classes and
+ * resources directories of the build. For example, in Gradle:
+ * <pre>
+ * task scanSnapshot(type: JavaExec) {
+ *     classpath = sourceSets.main.runtimeClasspath
+ *     main = 'org.hibernate.reactive.provider.impl.ScanSnapshot'
+ *     args = ["$buildDir/scan-snapshot"] + sourceSets.main.output.files
+ * }
+ * jar { from scanSnapshot }
+ * </pre>
+ */
+public final class ScanSnapshot {
+
+	public static final String RESOURCE = "META-INF/hibernate-reactive/scan-snapshot";
+
+	private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+	private final String fingerprint;
+	private final Map<String, ClassDescriptor.Categorization> classes;
+	private final List<String> packages;
+	private final List<String> mappingFiles;
+
+	private ScanSnapshot(String fingerprint,
+						 Map<String, ClassDescriptor.Categorization> classes,
+						 List<String> packages,
+						 List<String> mappingFiles) {
+		this.fingerprint = fingerprint;
+		this.classes = classes;
+		this.packages = packages;
+		this.mappingFiles = mappingFiles;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public Map<String, ClassDescriptor.Categorization> getClasses() {
+		return classes;
+	}
+
+	public List<String> getPackages() {
+		return packages;
+	}
+
+	public List<String> getMappingFiles() {
+		return mappingFiles;
+	}
+
+	/**
+	 * Generate a snapshot.
+	 *
+	 * @param args the output directory, followed by the directories
+	 *             and jars which make up the persistence unit root
+	 */
+	public static void main(String[] args) throws IOException {
+		if ( args.length < 2 ) {
+			throw new IllegalArgumentException( "usage: ScanSnapshot outputDirectory root..." );
+		}
+		List<File> roots = new ArrayList<>();
+		for ( int i = 1; i < args.length; i++ ) {
+			File root = new File( args[i] );
+			if ( root.exists() ) {
+				roots.add( root );
+			}
+		}
+		File output = new File( args[0], RESOURCE );
+		output.getParentFile().mkdirs();
+		try ( Writer writer = Files.newBufferedWriter( output.toPath(), StandardCharsets.UTF_8 ) ) {
+			generate( roots ).write( writer );
+		}
+	}
+
+	/**
+	 * Scan the given directories and jars, which together make up a
+	 * persistence unit root, detecting every class and mapping file.
+	 */
+	public static ScanSnapshot generate(List<File> roots) throws IOException {
+		Map<String, ClassDescriptor.Categorization> classes = new TreeMap<>();
+		TreeSet<String> packages = new TreeSet<>();
+		TreeSet<String> mappingFiles = new TreeSet<>();
+		for ( File root : roots ) {
+			ScanResult result = new StandardScanner().scan(
+					environment( root.toURI().toURL() ),
+					new StandardScanOptions(),
+					StandardScanParameters.INSTANCE
+			);
+			for ( ClassDescriptor descriptor : result.getLocatedClasses() ) {
+				classes.put( descriptor.getName(), descriptor.getCategorization() );
+			}
+			for ( PackageDescriptor descriptor : result.getLocatedPackages() ) {
+				packages.add( descriptor.getName() );
+			}
+			for ( MappingFileDescriptor descriptor : result.getLocatedMappingFiles() ) {
+				mappingFiles.add( descriptor.getName() );
+			}
+		}
+		return new ScanSnapshot(
+				fingerprint( roots ),
+				classes,
+				new ArrayList<>( packages ),
+				new ArrayList<>( mappingFiles )
+		);
+	}
+
+	private static ScanEnvironment environment(URL root) {
+		return new ScanEnvironment() {
+			@Override
+			public URL getRootUrl() {
+				return root;
+			}
+			@Override
+			public List<URL> getNonRootUrls() {
+				return Collections.emptyList();
+			}
+			@Override
+			public List<String> getExplicitlyListedClassNames() {
+				return Collections.emptyList();
+			}
+			@Override
+			public List<String> getExplicitlyListedMappingFiles() {
+				return Collections.emptyList();
+			}
+		};
+	}
+
+	/**
+	 * A hash of the name and size of every file in the given directories
+	 * and jars, except for the snapshot itself and the manifest, along
+	 * with the time a file in a directory was last modified, or the
+	 * CRC-32 checksum of a jar entry.
+	 * <p>
+	 * The checksum of a jar entry is read from the jar directory, since
+	 * packaging the classes in a jar might not preserve the time they
+	 * were modified. No file is read in full unless the jar directory
+	 * does not record its checksum.
+	 */
+	public static String fingerprint(List<File> roots) throws IOException {
+		Map<String, String> files = new TreeMap<>();
+		for ( File root : roots ) {
+			if ( root.isDirectory() ) {
+				Path base = root.toPath();
+				List<Path> paths;
+				try ( Stream<Path> walk = Files.walk( base ) ) {
+					paths = walk.filter( Files::isRegularFile ).collect( Collectors.toList() );
+				}
+				for ( Path path : paths ) {
+					files.put(
+							base.relativize( path ).toString().replace( File.separatorChar, '/' ),
+							Files.size( path ) + ":" + Files.getLastModifiedTime( path ).toMillis()
+					);
+				}
+			}
+			else {
+				try ( JarFile jar = new JarFile( root ) ) {
+					Enumeration<JarEntry> entries = jar.entries();
+					while ( entries.hasMoreElements() ) {
+						JarEntry entry = entries.nextElement();
+						if ( !entry.isDirectory() ) {
+							long crc = entry.getCrc();
+							if ( crc < 0 ) {
+								// not known from the jar directory
+								try ( InputStream stream = jar.getInputStream( entry ) ) {
+									crc = checksum( readAll( stream ) );
+								}
+							}
+							files.put( entry.getName(), entry.getSize() + ":" + crc );
+						}
+					}
+				}
+			}
+		}
+		files.remove( RESOURCE );
+		files.remove( MANIFEST );
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			files.forEach( (name, signature) -> digest.update(
+					( name + ':' + signature + '\n' ).getBytes( StandardCharsets.UTF_8 )
+			) );
+			StringBuilder hex = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				hex.append( String.format( "%02x", b ) );
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( e );
+		}
+	}
+
+	private static long checksum(byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update( content );
+		return crc.getValue();
+	}
+
+	private static byte[] readAll(InputStream stream) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ( ( read = stream.read( buffer ) ) >= 0 ) {
+			bytes.write( buffer, 0, read );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * The snapshot stored in the given root, or null if there is
+	 * no snapshot.
+	 */
+	public static ScanSnapshot read(File root) throws IOException {
+		if ( root.isDirectory() ) {
+			File file = new File( root, RESOURCE );
+			return file.exists() ? read( file.toURI().toURL() ) : null;
+		}
+		else {
+			try ( JarFile jar = new JarFile( root ) ) {
+				if ( jar.getEntry( RESOURCE ) == null ) {
+					return null;
+				}
+			}
+			return read( resource( root, RESOURCE ) );
+		}
+	}
+
+	/**
+	 * The URL of the given resource in the given root directory or jar.
+	 */
+	static URL resource(File root, String name) throws MalformedURLException {
+		return root.isDirectory()
+				? new File( root, name ).toURI().toURL()
+				: new URL( "jar:" + root.toURI().toURL() + "!/" + name );
+	}
+
+	private static ScanSnapshot read(URL url) throws IOException {
+		String fingerprint = null;
+		Map<String, ClassDescriptor.Categorization> classes = new TreeMap<>();
+		List<String> packages = new ArrayList<>();
+		List<String> mappingFiles = new ArrayList<>();
+		try ( InputStream stream = url.openStream();
+				BufferedReader reader = new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) ) ) {
+			String line;
+			while ( ( line = reader.readLine() ) != null ) {
+				int equals = line.indexOf( '=' );
+				if ( line.startsWith( "#" ) || equals < 0 ) {
+					continue;
+				}
+				String value = line.substring( equals + 1 );
+				switch ( line.substring( 0, equals ) ) {
+					case "fingerprint":
+						fingerprint = value;
+						break;
+					case "class":
+						int colon = value.indexOf( ':' );
+						classes.put(
+								value.substring( colon + 1 ),
+								ClassDescriptor.Categorization.valueOf( value.substring( 0, colon ) )
+						);
+						break;
+					case "package":
+						packages.add( value );
+						break;
+					case "mapping":
+						mappingFiles.add( value );
+						break;
+				}
+			}
+		}
+		return fingerprint == null ? null : new ScanSnapshot( fingerprint, classes, packages, mappingFiles );
+	}
+
+	private void write(Writer out) throws IOException {
+		BufferedWriter writer = new BufferedWriter( out );
+		writer.write( "# Generated by " + ScanSnapshot.class.getName() );
+		writer.newLine();
+		writer.write( "fingerprint=" + fingerprint );
+		writer.newLine();
+		for ( Map.Entry<String, ClassDescriptor.Categorization> entry : classes.entrySet() ) {
+			writer.write( "class=" + entry.getValue() + ':' + entry.getKey() );
+			writer.newLine();
+		}
+		for ( String name : packages ) {
+			writer.write( "package=" + name );
+			writer.newLine();
+		}
+		for ( String name : mappingFiles ) {
+			writer.write( "mapping=" + name );
+			writer.newLine();
+		}
+		writer.flush();
+	}
+}
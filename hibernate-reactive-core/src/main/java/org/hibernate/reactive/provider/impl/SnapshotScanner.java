@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.impl;
+
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.jboss.logging.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A {@link Scanner} which uses the {@link ScanSnapshot} stored in
+ * the persistence unit root, if there is one, and if its fingerprint
+ * matches the root, falling back to the {@link StandardScanner}
+ * otherwise.
+ * <p>
+ * The snapshot is only used for a root which is a directory or jar
+ * in the file system, and when there are no other jars listed in the
+ * persistence unit.
+ */
+public class SnapshotScanner implements Scanner {
+
+	private static final Logger log = Logger.getLogger( SnapshotScanner.class );
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+		File root = root( environment );
+		if ( root != null ) {
+			try {
+				ScanSnapshot snapshot = ScanSnapshot.read( root );
+				if ( snapshot != null ) {
+					if ( snapshot.getFingerprint().equals( ScanSnapshot.fingerprint( Collections.singletonList( root ) ) ) ) {
+						log.debugf( "Using scan snapshot for persistence unit root: %s", root );
+						return fromSnapshot( snapshot, root, environment, options, parameters );
+					}
+					log.debugf( "Ignoring stale scan snapshot for persistence unit root: %s", root );
+				}
+			}
+			catch (IOException e) {
+				log.debugf( "Unable to read scan snapshot for persistence unit root: %s (%s)", root, e.getMessage() );
+			}
+		}
+		return new StandardScanner().scan( environment, options, parameters );
+	}
+
+	private static File root(ScanEnvironment environment) {
+		URL url = environment.getRootUrl();
+		if ( url == null || !"file".equals( url.getProtocol() )
+				|| environment.getNonRootUrls() != null && !environment.getNonRootUrls().isEmpty() ) {
+			return null;
+		}
+		try {
+			File root = new File( url.toURI() );
+			return root.exists() ? root : null;
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static ScanResult fromSnapshot(ScanSnapshot snapshot, File root,
+										   ScanEnvironment environment, ScanOptions options,
+										   ScanParameters parameters) throws IOException {
+		// the collector applies the same filtering as the StandardScanner
+		ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
+		for ( Map.Entry<String, ClassDescriptor.Categorization> entry : snapshot.getClasses().entrySet() ) {
+			String name = entry.getKey();
+			collector.handleClass(
+					new ClassDescriptorImpl( name, entry.getValue(), access( root, name.replace( '.', '/' ) + ".class" ) ),
+					true
+			);
+		}
+		for ( String name : snapshot.getPackages() ) {
+			collector.handlePackage(
+					new PackageDescriptorImpl( name, access( root, name.replace( '.', '/' ) + "/package-info.class" ) ),
+					true
+			);
+		}
+		for ( String name : snapshot.getMappingFiles() ) {
+			collector.handleMappingFile( new MappingFileDescriptorImpl( name, access( root, name ) ), true );
+		}
+		return collector.toScanResult();
+	}
+
+	private static UrlInputStreamAccess access(File root, String name) throws IOException {
+		return new UrlInputStreamAccess( ScanSnapshot.resource( root, name ) );
+	}
+}
@@ -5,29 +5,110 @@
  */
 package org.hibernate.reactive.provider.service;
 
+import io.vertx.core.Context;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.schema.Action;
 import org.hibernate.tool.schema.internal.exec.GenerationTarget;
 import org.hibernate.tool.schema.internal.exec.GenerationTargetToDatabase;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
 
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Adaptor that redirects DDL generated by the schema export
- * tool to the reactive connection.
+ * tool to reactive connections.
+ * <p>
+ * The DDL commands are grouped into consecutive phases, which
+ * are executed one after the other:
+ * <ul>
+ * <li>creation of tables and sequences,
+ * <li>creation of indexes and unique keys, and
+ * <li>creation of foreign keys,
+ * </ul>
+ * with any other commands, including every {@code drop}, forming
+ * additional phases. The commands in a phase of table or index
+ * creation are executed concurrently using up to
+ * {@link Settings#SCHEMA_EXPORT_CONNECTIONS several connections}
+ * from the pool, with any command following a {@code create table}
+ * in the same phase, for example, a {@code comment} on the table,
+ * executed after it, on the same connection. The commands of every
+ * other phase are executed serially on a single connection. In
+ * particular, foreign keys are not created concurrently, since
+ * doing so might lead to a deadlock between two connections.
+ * <p>
+ * A {@code set} command, for example, {@code set foreign_key_checks = 0}
+ * on MySQL, only affects the connection on which it is executed, so
+ * if there is such a command, every phase is executed serially on the
+ * same connection, in the order in which the commands were generated.
+ * <p>
+ * A failure is logged for each failed command, in the order
+ * in which the commands were generated.
+ * <p>
+ * If {@link Settings#SCHEMA_FINGERPRINT} is enabled, and the schema
+ * is dropped and created, or just created, at startup, a hash of
+ * the DDL is stored in the table {@value #FINGERPRINT_TABLE}, and
+ * the whole schema export is skipped at the next startup if the DDL
+ * has the same hash. The drop commands are therefore deferred until
+ * the create commands are known. The hash is only stored if every
+ * create command succeeds, since the failure of a drop command is
+ * expected when the schema does not exist yet. Any other schema
+ * export, including the drop at shutdown for {@code create-drop},
+ * removes the stored hash. Changes made to the schema by other means
+ * are not detected.
  *
  * @author Gavin King
  */
 public class ReactiveGenerationTarget implements GenerationTarget {
+
+	private static final int DEFAULT_CONNECTIONS = 4;
+
+	public static final String FINGERPRINT_TABLE = "hibernate_reactive_schema";
+
+	private enum Kind { TABLES, INDEXES, FOREIGN_KEYS, OTHER }
+
+	private static class Phase {
+		final Kind kind;
+		final List<List<String>> units = new ArrayList<>();
+
+		Phase(Kind kind) {
+			this.kind = kind;
+		}
+
+		boolean isConcurrent() {
+			return kind == Kind.TABLES || kind == Kind.INDEXES;
+		}
+	}
+
 	private final ServiceRegistry registry;
-	private CompletionStage<ReactiveConnection> commands;
+	private List<Phase> phases;
 	private Set<String> statements;
 
+	//for fingerprinting: the drop commands at startup,
+	//deferred until the create commands are known
+	private List<Phase> deferredPhases;
+	private List<String> deferredStatements;
+	private boolean created;
+
 	CoreMessageLogger log = CoreLogging.messageLogger( GenerationTargetToDatabase.class );
 
 	public ReactiveGenerationTarget(ServiceRegistry registry) {
@@ -36,8 +117,32 @@ public ReactiveGenerationTarget(ServiceRegistry registry) {
 
 	@Override
 	public void prepare() {
-		commands = registry.getService( ReactiveConnectionPool.class ).getConnection();
-		statements = new HashSet<>();
+		phases = new ArrayList<>();
+		statements = new LinkedHashSet<>();
+	}
+
+	private static boolean isSessionScoped(String command) {
+		return command.trim().toLowerCase( Locale.ROOT ).startsWith( "set " );
+	}
+
+	private static boolean isCreate(String command) {
+		return command.trim().toLowerCase( Locale.ROOT ).startsWith( "create " );
+	}
+
+	private static Kind kind(String command) {
+		String ddl = command.trim().toLowerCase( Locale.ROOT );
+		if ( ddl.startsWith( "create table" ) || ddl.startsWith( "create sequence" ) ) {
+			return Kind.TABLES;
+		}
+		else if ( ddl.startsWith( "create index" ) || ddl.startsWith( "create unique index" ) ) {
+			return Kind.INDEXES;
+		}
+		else if ( ddl.startsWith( "alter table" ) && ddl.contains( " add constraint " ) ) {
+			return ddl.contains( " foreign key" ) ? Kind.FOREIGN_KEYS : Kind.INDEXES;
+		}
+		else {
+			return Kind.OTHER;
+		}
 	}
 
 	@Override
@@ -46,26 +151,287 @@ public void accept(String command) {
 		// (hack specifically to avoid multiple
 		// inserts into a sequence emulation table)
 		if ( statements.add( command ) ) {
-			commands = commands.thenCompose(
-					connection -> connection.execute( command )
-							.handle( (r, e) -> {
-								if ( e != null ) {
-									log.warnf("HRX000021: DDL command failed [%s]", e.getMessage() );
-								}
-								return null;
-							} )
-							.thenApply( v -> connection )
-			);
+			Kind kind = kind( command );
+			Phase current = phases.isEmpty() ? null : phases.get( phases.size() - 1 );
+			if ( current != null && current.kind == Kind.TABLES && kind == Kind.OTHER ) {
+				// a command like 'comment on' or 'insert into'
+				// must be executed after the preceding table
+				lastUnit( current ).add( command );
+			}
+			else if ( current != null && current.kind == kind ) {
+				if ( current.isConcurrent() ) {
+					current.units.add( unit( command ) );
+				}
+				else {
+					lastUnit( current ).add( command );
+				}
+			}
+			else {
+				Phase phase = new Phase( kind );
+				phase.units.add( unit( command ) );
+				phases.add( phase );
+			}
 		}
 	}
 
+	private static List<String> unit(String command) {
+		List<String> unit = new ArrayList<>();
+		unit.add( command );
+		return unit;
+	}
+
+	private static List<String> lastUnit(Phase phase) {
+		return phase.units.get( phase.units.size() - 1 );
+	}
+
 	@Override
 	public void release() {
+		List<String> commands = new ArrayList<>( statements );
 		statements = null;
-		if ( commands != null ) {
-			commands.whenComplete( (c, e) -> c.close() )
-					.toCompletableFuture()
-					.join();
+		if ( isFingerprintEnabled() ) {
+			Action action = SchemaManagementToolCoordinator.ActionGrouping
+					.interpret( configuration() )
+					.getDatabaseAction();
+			boolean dropAndCreate = action == Action.CREATE || action == Action.CREATE_DROP;
+			// the schema tool does not tell us what it's doing, but
+			// only the creation of the schema has create commands,
+			// and the drop at startup always comes before it
+			boolean create = commands.stream().anyMatch( ReactiveGenerationTarget::isCreate );
+			if ( dropAndCreate && !create && !created ) {
+				// the drop at startup, defer it until we
+				// know if the schema needs to be recreated
+				deferredPhases = phases;
+				deferredStatements = commands;
+			}
+			else if ( create && !created && ( dropAndCreate || action == Action.CREATE_ONLY ) ) {
+				created = true;
+				List<String> allCommands = new ArrayList<>();
+				if ( deferredStatements != null ) {
+					allCommands.addAll( deferredStatements );
+				}
+				allCommands.addAll( commands );
+				String fingerprint = fingerprint( allCommands );
+				List<Phase> dropPhases = deferredPhases == null ? new ArrayList<>() : deferredPhases;
+				List<Phase> createPhases = phases;
+				deferredPhases = null;
+				deferredStatements = null;
+				join( readFingerprint().thenCompose( stored -> {
+					if ( fingerprint.equals( stored ) ) {
+						log.infof( "HRX000025: Schema export skipped since the schema fingerprint [%s] is unchanged", fingerprint );
+						return CompletionStages.voidFuture();
+					}
+					return execute( dropPhases )
+							.thenCompose( dropped -> execute( createPhases ) )
+							.thenCompose( created -> writeFingerprint( created ? fingerprint : null ) );
+				} ) );
+			}
+			else {
+				join( writeFingerprint( null ).thenCompose( v -> execute( phases ) ) );
+			}
+		}
+		else {
+			join( execute( phases ) );
+		}
+		phases = null;
+	}
+
+	private void join(CompletionStage<?> stage) {
+		if ( Context.isOnEventLoopThread() ) {
+			// the schema export tool is synchronous, so we have
+			// no choice but to wait, which might even deadlock
+			log.warn( "HRX000024: Schema export is blocking a Vert.x event loop thread (build the SessionFactory on a worker thread)" );
+		}
+		stage.toCompletableFuture().join();
+	}
+
+	/**
+	 * Execute the given phases, one after the other, returning
+	 * {@code true} if every command succeeded.
+	 */
+	private CompletionStage<Boolean> execute(List<Phase> phases) {
+		for ( Phase phase : phases ) {
+			for ( List<String> unit : phase.units ) {
+				for ( String command : unit ) {
+					if ( isSessionScoped( command ) ) {
+						return withConnection( connection -> execute( phases, 1, connection ) )
+								.exceptionally( e -> {
+									log.warnf( "HRX000021: DDL command failed [%s]", e.getMessage() );
+									return false;
+								} );
+					}
+				}
+			}
+		}
+		return execute( phases, connections(), null );
+	}
+
+	/**
+	 * Execute the given phases, one after the other, using the given
+	 * connection, or, if it is null, new connections from the pool.
+	 */
+	private CompletionStage<Boolean> execute(List<Phase> phases, int connections, ReactiveConnection connection) {
+		CompletionStage<Boolean> result = CompletableFuture.completedFuture( true );
+		for ( Phase phase : phases ) {
+			result = result.thenCompose( succeeded -> execute( phase, connections, connection )
+					.thenApply( phaseSucceeded -> succeeded && phaseSucceeded ) );
+		}
+		return result;
+	}
+
+	private Map<?, ?> configuration() {
+		return registry.getService( ConfigurationService.class ).getSettings();
+	}
+
+	private boolean isFingerprintEnabled() {
+		return ConfigurationHelper.getBoolean( Settings.SCHEMA_FINGERPRINT, configuration(), false );
+	}
+
+	private static String fingerprint(List<String> commands) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			for ( String command : commands ) {
+				digest.update( command.getBytes( StandardCharsets.UTF_8 ) );
+				digest.update( (byte) '\n' );
+			}
+			StringBuilder hex = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				hex.append( String.format( "%02x", b ) );
+			}
+			return hex.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( e );
+		}
+	}
+
+	/**
+	 * The stored fingerprint, or null if there is no stored
+	 * fingerprint, or if the table does not exist.
+	 */
+	private CompletionStage<String> readFingerprint() {
+		return withConnection( connection -> connection.select( "select fingerprint from " + FINGERPRINT_TABLE )
+				.handle( (result, e) -> e == null && result.hasNext() ? (String) result.next()[0] : null ) );
+	}
+
+	/**
+	 * Replace the stored fingerprint with the given fingerprint,
+	 * or just remove it, if the given fingerprint is null.
+	 */
+	private CompletionStage<Void> writeFingerprint(String fingerprint) {
+		return withConnection( connection -> {
+			CompletionStage<Void> result = fingerprint == null
+					? CompletionStages.voidFuture()
+					: connection.execute( "create table " + FINGERPRINT_TABLE + " (fingerprint varchar(64) not null)" )
+							.handle( (v, e) -> null ); //the table might already exist
+			return result
+					.thenCompose( v -> connection.execute( "delete from " + FINGERPRINT_TABLE ) )
+					.thenCompose( v -> fingerprint == null
+							? CompletionStages.voidFuture()
+							: connection.update(
+									"insert into " + FINGERPRINT_TABLE + " (fingerprint) values (?)",
+									new Object[] { fingerprint }
+							).thenApply( rows -> null ) )
+					.handle( (v, e) -> {
+						if ( e != null && fingerprint != null ) {
+							log.warnf( "HRX000026: Could not store schema fingerprint [%s]", e.getMessage() );
+						}
+						return null;
+					} );
+		} );
+	}
+
+	private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> work) {
+		return registry.getService( ReactiveConnectionPool.class ).getConnection()
+				.thenCompose( connection -> work.apply( connection )
+						.whenComplete( (v, e) -> connection.close() ) );
+	}
+
+	private int connections() {
+		int connections = ConfigurationHelper.getInt(
+				Settings.SCHEMA_EXPORT_CONNECTIONS,
+				configuration(),
+				DEFAULT_CONNECTIONS
+		);
+		return Math.max( connections, 1 );
+	}
+
+	/**
+	 * Execute the commands of the given phase, distributing its units
+	 * between up to the given number of connections, or using just the
+	 * given connection, if it is not null, and log failures once every
+	 * command has completed, returning {@code true} if there were none.
+	 */
+	private CompletionStage<Boolean> execute(Phase phase, int maxConnections, ReactiveConnection connection) {
+		int connections = phase.isConcurrent() && connection == null
+				? Math.min( maxConnections, phase.units.size() )
+				: 1;
+		List<String> commands = new ArrayList<>();
+		List<List<Integer>> buckets = new ArrayList<>( connections );
+		for ( int i = 0; i < connections; i++ ) {
+			buckets.add( new ArrayList<>() );
+		}
+		for ( int i = 0; i < phase.units.size(); i++ ) {
+			for ( String command : phase.units.get( i ) ) {
+				buckets.get( i % connections ).add( commands.size() );
+				commands.add( command );
+			}
+		}
+
+		String[] failures = new String[commands.size()];
+		CompletableFuture<?>[] executions = new CompletableFuture<?>[connections];
+		for ( int i = 0; i < connections; i++ ) {
+			List<Integer> bucket = buckets.get( i );
+			executions[i] = connection == null
+					? execute( bucket, commands, failures ).toCompletableFuture()
+					: execute( connection, bucket, commands, failures ).toCompletableFuture();
+		}
+		return CompletableFuture.allOf( executions ).thenApply( v -> {
+			boolean succeeded = true;
+			for ( int i = 0; i < failures.length; i++ ) {
+				if ( failures[i] != null ) {
+					log.warnf( "HRX000021: DDL command failed [%s] executing: %s", failures[i], commands.get( i ) );
+					succeeded = false;
+				}
+			}
+			return succeeded;
+		} );
+	}
+
+	/**
+	 * Execute the commands at the given positions serially, on a new
+	 * connection, recording the failure of each failed command by its
+	 * position. If no connection could be obtained, every command is
+	 * recorded as failed.
+	 */
+	private CompletionStage<Void> execute(List<Integer> bucket, List<String> commands, String[] failures) {
+		return withConnection( connection -> execute( connection, bucket, commands, failures ) )
+				.handle( (v, e) -> {
+					if ( e != null ) {
+						for ( int position : bucket ) {
+							failures[position] = e.getMessage();
+						}
+					}
+					return null;
+				} );
+	}
+
+	/**
+	 * Execute the commands at the given positions serially, on the
+	 * given connection, recording the failure of each failed command
+	 * by its position.
+	 */
+	private static CompletionStage<Void> execute(ReactiveConnection connection,
+			List<Integer> bucket, List<String> commands, String[] failures) {
+		CompletionStage<Void> result = CompletionStages.voidFuture();
+		for ( int position : bucket ) {
+			result = result.thenCompose( v -> connection.execute( commands.get( position ) )
+					.handle( (r, e) -> {
+						if ( e != null ) {
+							failures[position] = e.getMessage();
+						}
+						return null;
+					} ) );
 		}
+		return result;
 	}
 }
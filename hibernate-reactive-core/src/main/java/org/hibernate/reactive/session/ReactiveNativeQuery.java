@@ -21,4 +21,12 @@
 	ReactiveNativeQuery<R> setResultTransformer(ResultTransformer resultTransformer);
 	ReactiveNativeQuery<R> addEntity(String alias, String name, LockMode read);
 	ReactiveNativeQuery<R> setResultSetMapping(String resultSetMapping);
+
+	/**
+	 * Map each row of the result directly to an instance of the given
+	 * class, which is not an entity.
+	 *
+	 * @see org.hibernate.reactive.adaptor.impl.ConstructorRowMapper
+	 */
+	ReactiveNativeQuery<R> setConstructorResult(Class<R> resultClass);
 }
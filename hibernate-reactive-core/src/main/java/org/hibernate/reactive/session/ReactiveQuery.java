@@ -15,6 +15,9 @@
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.AbstractProducedQuery;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
@@ -41,6 +44,10 @@
 
 	CompletionStage<List<R>> getReactiveResultList();
 
+	CompletionStage<KeysetPage<R>> getReactiveKeysetPage(Keyset keyset, int pageSize);
+
+	CompletionStage<ResultPage<R>> getReactiveResultPage();
+
 	CompletionStage<Integer> executeReactiveUpdate();
 
 	ReactiveQuery<R> setParameter(int position, Object value);
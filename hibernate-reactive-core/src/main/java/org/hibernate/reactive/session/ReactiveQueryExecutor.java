@@ -12,7 +12,10 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.pool.StatementStatistics;
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -32,7 +35,10 @@ public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
     Dialect getDialect();
 
     <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters);
+    <T> CompletionStage<ResultPage<T>> reactiveResultPage(String query, QueryParameters parameters);
     <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
+    <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters,
+                                              ConstructorRowMapper<T> mapper);
 
     CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
     CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
@@ -41,4 +47,6 @@ CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification speci
     <T> ResultSetMapping<T> getResultSetMapping(Class<T> resultType, String mappingName);
 
     void addBulkCleanupAction(BulkOperationCleanupAction action);
+
+    StatementStatistics getStatementStatistics();
 }
@@ -72,6 +72,10 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveLock(Object entity, LockOptions lockMode);
 
+	CompletionStage<Void> reactiveRefreshAll(Object[] entities, LockOptions lockMode);
+
+	CompletionStage<Void> reactiveLockAll(Object[] entities, LockOptions lockMode);
+
 	<T> ReactiveQuery<T> createReactiveNativeQuery(String sqlString);
 
 	<T> ReactiveNativeQuery<T> createReactiveNativeQuery(String sqlString, String resultSetMapping);
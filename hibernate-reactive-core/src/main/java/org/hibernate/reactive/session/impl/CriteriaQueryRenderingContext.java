@@ -32,6 +32,13 @@
  * A {@link RenderingContext} used when compiling criteria queries for
  * reactive execution. Implementation based on an inner class belonging to
  * {@link org.hibernate.query.criteria.internal.compile.CriteriaCompiler}.
+ * <p>
+ * Literals are bound as parameters according to the configured
+ * {@link LiteralHandlingMode}, and aliases and parameter names are
+ * generated in order, so that criteria queries with the same shape
+ * render to the same JPQL, no matter what values they contain. The
+ * JPQL is then the key for the cached {@link ReactiveHQLQueryPlan},
+ * and only a query with a new shape is parsed and translated.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -41,11 +48,6 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 	private final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
 	private final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
 
-	//TODO: roll this back once we have parameters?
-//		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
-//				.getSessionFactoryOptions()
-//				.getCriteriaLiteralHandlingMode();
-
 	private int aliasCount;
 	private int explicitParameterCount;
 
@@ -55,10 +57,12 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 
 	private final Dialect dialect;
 	private final TypeResolver typeResolver;
+	private final LiteralHandlingMode criteriaLiteralHandlingMode;
 
 	public CriteriaQueryRenderingContext(SessionFactoryImplementor sessionFactory) {
 		dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 		typeResolver = sessionFactory.getTypeResolver();
+		criteriaLiteralHandlingMode = sessionFactory.getSessionFactoryOptions().getCriteriaLiteralHandlingMode();
 	}
 
 	@Override
@@ -68,8 +72,7 @@ public Dialect getDialect() {
 
 	@Override
 	public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
-		return LiteralHandlingMode.INLINE;
-//				return criteriaLiteralHandlingMode;
+		return criteriaLiteralHandlingMode;
 	}
 	@Override
 	public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
@@ -0,0 +1,280 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
+import org.hibernate.reactive.session.ReactiveQuery;
+import org.hibernate.transform.ResultTransformer;
+import org.hibernate.type.Type;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReactiveQuery} whose plan is being compiled on a worker
+ * thread. Calls to setters are recorded, and replayed on the actual
+ * query once the plan is ready, when the query is executed, back on
+ * the event loop thread which created the query.
+ * <p>
+ * A call to a getter creates the actual query immediately, compiling
+ * the plan on the calling thread if it's not ready yet.
+ *
+ * @see ReactiveQueryPlanCache#compile(String, Context)
+ */
+class DeferredReactiveQuery<R> implements ReactiveQuery<R> {
+
+	private final CompletionStage<Void> compilation;
+	private final Context context;
+	private final Supplier<ReactiveQuery<R>> creator;
+
+	private List<Consumer<ReactiveQuery<R>>> operations = new ArrayList<>();
+	private ReactiveQuery<R> query;
+
+	private DeferredReactiveQuery(CompletionStage<Void> compilation, Context context,
+								  Supplier<ReactiveQuery<R>> creator) {
+		this.compilation = compilation;
+		this.context = context;
+		this.creator = creator;
+	}
+
+	/**
+	 * Create a query using the given function, unless we're on an
+	 * event loop thread, the plan for the query is not cached, and
+	 * {@link org.hibernate.reactive.provider.Settings#QUERY_PLAN_ASYNC_COMPILATION}
+	 * is enabled, in which case the plan is compiled on a worker thread,
+	 * and a {@code DeferredReactiveQuery} is returned.
+	 */
+	static <R> ReactiveQuery<R> create(SharedSessionContractImplementor session, String queryString,
+									   Supplier<ReactiveQuery<R>> creator) {
+		@SuppressWarnings("deprecation")
+		QueryPlanCache queryPlanCache = session.getFactory().getQueryPlanCache();
+		if ( queryPlanCache instanceof ReactiveQueryPlanCache
+				&& Context.isOnEventLoopThread()
+				&& session.getLoadQueryInfluencers().getEnabledFilters().isEmpty() ) {
+			ReactiveQueryPlanCache reactiveQueryPlanCache = (ReactiveQueryPlanCache) queryPlanCache;
+			Context context = Vertx.currentContext();
+			if ( context != null && reactiveQueryPlanCache.isAsyncCompilationRequired( queryString ) ) {
+				return new DeferredReactiveQuery<>(
+						reactiveQueryPlanCache.compile( queryString, context ),
+						context,
+						creator
+				);
+			}
+		}
+		return creator.get();
+	}
+
+	private ReactiveQuery<R> query() {
+		if ( query == null ) {
+			ReactiveQuery<R> created = creator.get();
+			for ( Consumer<ReactiveQuery<R>> operation : operations ) {
+				operation.accept( created );
+			}
+			operations = null;
+			query = created;
+		}
+		return query;
+	}
+
+	private ReactiveQuery<R> record(Consumer<ReactiveQuery<R>> operation) {
+		if ( query == null ) {
+			operations.add( operation );
+		}
+		else {
+			operation.accept( query );
+		}
+		return this;
+	}
+
+	private <T> CompletionStage<T> execute(Function<ReactiveQuery<R>, CompletionStage<T>> execution) {
+		if ( query != null ) {
+			return execution.apply( query );
+		}
+		CompletableFuture<ReactiveQuery<R>> ready = new CompletableFuture<>();
+		compilation.thenRun( () -> context.runOnContext( v -> {
+			try {
+				ready.complete( query() );
+			}
+			catch (Throwable e) {
+				ready.completeExceptionally( e );
+			}
+		} ) );
+		return ready.thenCompose( execution );
+	}
+
+	@Override
+	public CompletionStage<R> getReactiveSingleResult() {
+		return execute( ReactiveQuery::getReactiveSingleResult );
+	}
+
+	@Override
+	public CompletionStage<List<R>> getReactiveResultList() {
+		return execute( ReactiveQuery::getReactiveResultList );
+	}
+
+	@Override
+	public CompletionStage<KeysetPage<R>> getReactiveKeysetPage(Keyset keyset, int pageSize) {
+		return execute( q -> q.getReactiveKeysetPage( keyset, pageSize ) );
+	}
+
+	@Override
+	public CompletionStage<ResultPage<R>> getReactiveResultPage() {
+		return execute( ReactiveQuery::getReactiveResultPage );
+	}
+
+	@Override
+	public CompletionStage<Integer> executeReactiveUpdate() {
+		return execute( ReactiveQuery::executeReactiveUpdate );
+	}
+
+	@Override
+	public void setParameterMetadata(InterpretedParameterMetadata parameterMetadata) {
+		record( q -> q.setParameterMetadata( parameterMetadata ) );
+	}
+
+	@Override
+	public void setPlan(EntityGraph<R> entityGraph) {
+		record( q -> q.setPlan( entityGraph ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setParameter(int position, Object value) {
+		return record( q -> q.setParameter( position, value ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setParameter(String name, Object value) {
+		return record( q -> q.setParameter( name, value ) );
+	}
+
+	@Override
+	public <T> ReactiveQuery<R> setParameter(Parameter<T> parameter, T value) {
+		return record( q -> q.setParameter( parameter, value ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setMaxResults(int maxResults) {
+		return record( q -> q.setMaxResults( maxResults ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setFirstResult(int firstResult) {
+		return record( q -> q.setFirstResult( firstResult ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setReadOnly(boolean readOnly) {
+		return record( q -> q.setReadOnly( readOnly ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setComment(String comment) {
+		return record( q -> q.setComment( comment ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setQueryHint(String hintName, Object value) {
+		return record( q -> q.setQueryHint( hintName, value ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setLockMode(LockMode lockMode) {
+		return record( q -> q.setLockMode( lockMode ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setLockMode(String alias, LockMode lockMode) {
+		return record( q -> q.setLockMode( alias, lockMode ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setLockOptions(LockOptions lockOptions) {
+		return record( q -> q.setLockOptions( lockOptions ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setCacheMode(CacheMode cacheMode) {
+		return record( q -> q.setCacheMode( cacheMode ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setHibernateFlushMode(FlushMode flushMode) {
+		return record( q -> q.setHibernateFlushMode( flushMode ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setResultTransformer(ResultTransformer resultTransformer) {
+		return record( q -> q.setResultTransformer( resultTransformer ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setCacheable(boolean cacheable) {
+		return record( q -> q.setCacheable( cacheable ) );
+	}
+
+	@Override
+	public ReactiveQuery<R> setCacheRegion(String cacheRegion) {
+		return record( q -> q.setCacheRegion( cacheRegion ) );
+	}
+
+	@Override
+	public int getMaxResults() {
+		return query().getMaxResults();
+	}
+
+	@Override
+	public int getFirstResult() {
+		return query().getFirstResult();
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return query().isReadOnly();
+	}
+
+	@Override
+	public CacheMode getCacheMode() {
+		return query().getCacheMode();
+	}
+
+	@Override
+	public FlushMode getHibernateFlushMode() {
+		return query().getHibernateFlushMode();
+	}
+
+	@Override
+	public Type[] getReturnTypes() {
+		return query().getReturnTypes();
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return query().isCacheable();
+	}
+
+	@Override
+	public String getCacheRegion() {
+		return query().getCacheRegion();
+	}
+}
@@ -0,0 +1,348 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.query.ParameterMetadata;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Rewrites an HQL query to fetch a page of results using keyset
+ * pagination, binds the key values of the previous page, and
+ * computes the cursor of the next page.
+ * <p>
+ * Since not every database supports row value comparisons like
+ * {@code (a, b) > (?, ?)}, the restriction is expanded to the
+ * equivalent {@code a > ? or (a = ? and b > ?)}. The rendered
+ * query depends only on the key, and not on the key values,
+ * so its plan is cached and reused for every page.
+ * <p>
+ * A cursor is the base 64 encoding of the string representations
+ * of the key values, as produced by the Hibernate types of the
+ * key attributes. It doesn't need to be trusted, since it's only
+ * ever decoded into parameter bindings of those types. The types
+ * are those the query translator infers for the parameters of the
+ * restriction, so they're the same for every page, including the
+ * first.
+ *
+ * @see Keyset
+ */
+final class KeysetQuery {
+
+	private static final String PARAMETER_PREFIX = "keyset_";
+
+	private final Keyset keyset;
+	private final String[] paths;
+	private final boolean[] descending;
+	private Type[] types;
+
+	KeysetQuery(Keyset keyset) {
+		this.keyset = keyset;
+		String[] keys = keyset.getPaths();
+		paths = new String[keys.length];
+		descending = new boolean[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			String[] tokens = keys[i].trim().split( "\\s+" );
+			paths[i] = tokens[0];
+			if ( tokens.length == 2 && tokens[1].equalsIgnoreCase( "desc" ) ) {
+				descending[i] = true;
+			}
+			else if ( tokens.length > 2 || tokens.length == 2 && !tokens[1].equalsIgnoreCase( "asc" ) ) {
+				throw new IllegalArgumentException( "Illegal key attribute: " + keys[i] );
+			}
+		}
+	}
+
+	/**
+	 * Add the restriction to the results after the previous page, if
+	 * any, and the order by clause, to the given HQL query, which may
+	 * not already have an {@code order by}, {@code group by}, or
+	 * {@code having} clause.
+	 */
+	String render(String hql) {
+		return render( hql, !keyset.isFirstPage() );
+	}
+
+	/**
+	 * Render the query for a page after the first page, whose
+	 * parameters determine the types of the key attributes, even
+	 * when the current page is the first page.
+	 */
+	String renderRestricted(String hql) {
+		return render( hql, true );
+	}
+
+	private String render(String hql, boolean restricted) {
+		int where = whereClause( hql );
+		StringBuilder query = new StringBuilder( hql.length() + 100 );
+		if ( !restricted ) {
+			query.append( hql );
+		}
+		else if ( where < 0 ) {
+			query.append( hql ).append( " where " );
+			restriction( query );
+		}
+		else {
+			int conditions = where + "where".length();
+			query.append( hql, 0, conditions )
+					.append( " (" ).append( hql, conditions, hql.length() ).append( " ) and (" );
+			restriction( query );
+			query.append( ')' );
+		}
+		query.append( " order by " );
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( i > 0 ) {
+				query.append( ", " );
+			}
+			query.append( paths[i] );
+			if ( descending[i] ) {
+				query.append( " desc" );
+			}
+		}
+		return query.toString();
+	}
+
+	/**
+	 * Render {@code a > :keyset_0 or (a = :keyset_0 and b > :keyset_1)}.
+	 */
+	private void restriction(StringBuilder query) {
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( i > 0 ) {
+				query.append( " or " );
+			}
+			query.append( '(' );
+			for ( int j = 0; j < i; j++ ) {
+				query.append( paths[j] ).append( " = :" ).append( PARAMETER_PREFIX ).append( j ).append( " and " );
+			}
+			query.append( paths[i] ).append( descending[i] ? " < :" : " > :" ).append( PARAMETER_PREFIX ).append( i );
+			query.append( ')' );
+		}
+	}
+
+	/**
+	 * The position of the {@code where} keyword of the outermost query,
+	 * or -1 if there's no where clause.
+	 */
+	private static int whereClause(String hql) {
+		int where = -1;
+		int depth = 0;
+		boolean quoted = false;
+		final int length = hql.length();
+		for ( int i = 0; i < length; i++ ) {
+			char c = hql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+				}
+				else if ( depth == 0 && Character.isLetter( c ) && ( i == 0 || !isWordPart( hql.charAt( i - 1 ) ) ) ) {
+					int end = wordEnd( hql, i );
+					switch ( hql.substring( i, end ).toLowerCase( Locale.ROOT ) ) {
+						case "where":
+							where = i;
+							break;
+						case "order":
+						case "group":
+							if ( nextWord( hql, end ).equals( "by" ) ) {
+								throw new IllegalArgumentException(
+										"Keyset pagination is not supported for a query with an order by or group by clause: " + hql
+								);
+							}
+							break;
+						case "having":
+							throw new IllegalArgumentException(
+									"Keyset pagination is not supported for a query with a having clause: " + hql
+							);
+					}
+					i = end - 1;
+				}
+			}
+		}
+		return where;
+	}
+
+	private static boolean isWordPart(char c) {
+		return Character.isJavaIdentifierPart( c ) || c == '.' || c == ':';
+	}
+
+	private static int wordEnd(String hql, int start) {
+		int end = start;
+		while ( end < hql.length() && isWordPart( hql.charAt( end ) ) ) {
+			end++;
+		}
+		return end;
+	}
+
+	private static String nextWord(String hql, int from) {
+		int start = from;
+		while ( start < hql.length() && Character.isWhitespace( hql.charAt( start ) ) ) {
+			start++;
+		}
+		return hql.substring( start, wordEnd( hql, start ) ).toLowerCase( Locale.ROOT );
+	}
+
+	/**
+	 * Determine the types of the key attributes from the parameters
+	 * of the {@linkplain #renderRestricted(String) restricted query},
+	 * and bind the key values of the previous page, if any, to the
+	 * parameters of the rendered query.
+	 */
+	void bind(QueryParameters queryParameters, ParameterMetadata restrictedParameterMetadata) {
+		types = new Type[paths.length];
+		for ( int i = 0; i < paths.length; i++ ) {
+			types[i] = restrictedParameterMetadata.getQueryParameter( PARAMETER_PREFIX + i ).getHibernateType();
+			if ( !( types[i] instanceof AbstractStandardBasicType ) ) {
+				throw new HibernateException( "Key attribute is not of basic type: " + paths[i] );
+			}
+		}
+		if ( keyset.isFirstPage() ) {
+			return;
+		}
+		Object[] values = keyset.getCursor() == null ? keyset.getValues() : decode( keyset.getCursor() );
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( values[i] == null ) {
+				throw new IllegalArgumentException( "Null value for key attribute: " + paths[i] );
+			}
+			queryParameters.getNamedParameters()
+					.put( PARAMETER_PREFIX + i, new TypedValue( types[i], values[i] ) );
+		}
+	}
+
+	/**
+	 * Trim the results, which include the first result of the next
+	 * page, if there is one, to the given page size, and compute the
+	 * cursor of the next page.
+	 */
+	<R> KeysetPage<R> page(List<R> results, int pageSize, SharedSessionContractImplementor session) {
+		if ( results.size() <= pageSize ) {
+			return new Page<>( results, null );
+		}
+		else {
+			List<R> page = new ArrayList<>( results.subList( 0, pageSize ) );
+			Object last = page.get( pageSize - 1 );
+			Object[] values = new Object[paths.length];
+			for ( int i = 0; i < paths.length; i++ ) {
+				values[i] = value( last, paths[i], session );
+			}
+			return new Page<>( page, encode( values ) );
+		}
+	}
+
+	/**
+	 * Obtain the value of the given key attribute of an entity returned
+	 * by the query, where the path may begin with the alias of the root
+	 * entity of the query.
+	 */
+	private static Object value(Object result, String path, SharedSessionContractImplementor session) {
+		if ( result instanceof HibernateProxy ) {
+			result = ( (HibernateProxy) result ).getHibernateLazyInitializer().getImplementation();
+		}
+		final EntityPersister persister;
+		try {
+			persister = session.getEntityPersister( null, result );
+		}
+		catch (HibernateException e) {
+			throw new HibernateException( "Keyset pagination requires a query which returns entities", e );
+		}
+		String property = path;
+		int dot = path.indexOf( '.' );
+		if ( dot > 0 && !isProperty( persister, path.substring( 0, dot ) ) ) {
+			// the path starts with the alias of the entity
+			property = path.substring( dot + 1 );
+		}
+		return property.equals( persister.getIdentifierPropertyName() )
+				? persister.getIdentifier( result, session )
+				: persister.getPropertyValue( result, property );
+	}
+
+	private static boolean isProperty(EntityPersister persister, String name) {
+		return name.equals( persister.getIdentifierPropertyName() )
+				|| Arrays.asList( persister.getPropertyNames() ).contains( name );
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private String encode(Object[] values) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null ) {
+					throw new HibernateException( "Null value for key attribute of last result on page: " + paths[i] );
+				}
+				output.writeUTF( ( (AbstractStandardBasicType) types[i] ).toString( values[i] ) );
+			}
+		}
+		catch (IOException e) {
+			throw new AssertionError( e );
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+	}
+
+	private Object[] decode(String cursor) {
+		Object[] values = new Object[paths.length];
+		try ( DataInputStream input = new DataInputStream(
+				new ByteArrayInputStream( Base64.getUrlDecoder().decode( cursor ) ) ) ) {
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = ( (AbstractStandardBasicType<?>) types[i] ).fromStringValue( input.readUTF() );
+			}
+			if ( input.available() > 0 ) {
+				throw new IOException( "unexpected trailing bytes" );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw new IllegalArgumentException( "Malformed keyset cursor: " + cursor, e );
+		}
+		return values;
+	}
+
+	private static class Page<R> implements KeysetPage<R> {
+		private final List<R> results;
+		private final String nextCursor;
+
+		Page(List<R> results, String nextCursor) {
+			this.results = results;
+			this.nextCursor = nextCursor;
+		}
+
+		@Override
+		public List<R> getResults() {
+			return results;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextCursor != null;
+		}
+
+		@Override
+		public String getNextCursor() {
+			return nextCursor;
+		}
+	}
+}
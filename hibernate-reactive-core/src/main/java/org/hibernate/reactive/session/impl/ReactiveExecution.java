@@ -0,0 +1,145 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stage.Stage;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The execution engine shared by the {@link Stage} and {@link Mutiny}
+ * APIs, which runs work in a session, or in a transaction, as a single
+ * {@link CompletionStage} pipeline.
+ * <p>
+ * The Stage API returns the pipeline as it is. The Mutiny API adapts
+ * the whole pipeline to a {@code Uni} once, supplying it only when the
+ * {@code Uni} is subscribed, instead of wrapping each step of the
+ * pipeline in a {@code Uni} of its own.
+ */
+public final class ReactiveExecution {
+
+	private ReactiveExecution() {
+	}
+
+	/**
+	 * Perform the given work with a session which becomes available when
+	 * the given stage completes, and close the session when the work
+	 * completes, whether it completes normally or with an exception.
+	 */
+	public static <S, T> CompletionStage<T> withSession(
+			CompletionStage<S> session,
+			Function<? super S, ? extends CompletionStage<T>> work,
+			Consumer<? super S> close) {
+		return session.thenCompose(
+				s -> work.apply( s ).whenComplete( (r, e) -> close.accept( s ) )
+		);
+	}
+
+	/**
+	 * A transaction of a {@link ReactiveSession}, which begins when the
+	 * work is {@link #execute executed}, and is committed when the work
+	 * and the subsequent flush complete normally, or rolled back if
+	 * either fails, or if the transaction is marked for rollback. It may
+	 * also be {@linkplain #cancel cancelled} before the work completes.
+	 * <p>
+	 * An instance may be executed only once.
+	 */
+	public static final class Transaction<T> implements Stage.Transaction, Mutiny.Transaction {
+
+		private final ReactiveSession session;
+		private volatile boolean rollback;
+		private final AtomicBoolean ended = new AtomicBoolean();
+		private Throwable error;
+
+		public Transaction(ReactiveSession session) {
+			this.session = session;
+		}
+
+		public CompletionStage<T> execute(Function<? super Transaction<T>, ? extends CompletionStage<T>> work) {
+			return begin()
+					.thenCompose( v -> work.apply( this ) )
+					// only flush() if the work completed with no exception
+					.thenCompose( result -> flush().thenApply( v -> result ) )
+					// have to capture the error here and pass it along,
+					// since we can't just return a CompletionStage that
+					// rolls back the transaction from the handle() function
+					.handle( this::processError )
+					// finally, commit or rollback the transaction, and
+					// then rethrow the caught error if necessary
+					.thenCompose(
+							result -> end().handle( (v, e) -> {
+								// make sure that if rollback() throws,
+								// the original error doesn't get swallowed
+								processError( v, e );
+								// finally rethrow the original error, if any
+								return returnOrRethrow( error, result );
+							} )
+					);
+		}
+
+		private CompletionStage<Void> flush() {
+			return session.reactiveAutoflush();
+		}
+
+		private CompletionStage<Void> begin() {
+			return session.getReactiveConnection().beginTransaction();
+		}
+
+		/**
+		 * Roll back the transaction immediately, without waiting for the
+		 * work to complete, because its result is no longer needed.
+		 */
+		public CompletionStage<Void> cancel() {
+			rollback = true;
+			return end();
+		}
+
+		private CompletionStage<Void> end() {
+			if ( !ended.compareAndSet( false, true ) ) {
+				// already rolled back by cancel()
+				return voidFuture();
+			}
+			ReactiveActionQueue actionQueue = session.getReactiveActionQueue();
+			return actionQueue.beforeTransactionCompletion()
+					.thenCompose( v -> rollback
+							? session.getReactiveConnection().rollbackTransaction()
+							: session.getReactiveConnection().commitTransaction() )
+					.thenCompose( v -> actionQueue.afterTransactionCompletion( !rollback ) );
+		}
+
+		private <R> R processError(R result, Throwable e) {
+			if ( e!=null ) {
+				rollback = true;
+				if (error == null) {
+					error = e;
+				}
+				else {
+					error.addSuppressed(e);
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public void markForRollback() {
+			rollback = true;
+		}
+
+		@Override
+		public boolean isMarkedForRollback() {
+			return rollback;
+		}
+	}
+}
@@ -18,6 +18,8 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.common.ResultPage;
+import org.hibernate.reactive.loader.hql.impl.ResultPages;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -139,6 +141,49 @@ public CompletionStage<List<Object>> performReactiveList(QueryParameters queryPa
 		).thenApply( v -> combinedResults );
 	}
 
+	/**
+	 * Obtain a page of results, along with the total number of results.
+	 * A polymorphic query is executed without limits, and paginated in
+	 * memory, as by {@link #performReactiveList}.
+	 */
+	public CompletionStage<ResultPage<Object>> performReactiveResultPage(QueryParameters queryParameters,
+																		 SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Find page: {0}", getSourceQuery() );
+			queryParameters.traceParameters( session.getFactory() );
+		}
+
+		final QueryTranslator[] translators = getTranslators();
+		if ( translators.length == 1 ) {
+			ReactiveQueryTranslatorImpl reactiveTranslator = (ReactiveQueryTranslatorImpl) translators[0];
+			return reactiveTranslator.reactiveResultPage( session, queryParameters );
+		}
+
+		final RowSelection rowSelection = queryParameters.getRowSelection();
+		final boolean hasLimit = rowSelection != null
+				&& rowSelection.definesLimits();
+		final QueryParameters queryParametersToUse;
+		if ( hasLimit ) {
+			log.needsLimit();
+			final RowSelection selection = new RowSelection();
+			selection.setFetchSize( rowSelection.getFetchSize() );
+			selection.setTimeout( rowSelection.getTimeout() );
+			queryParametersToUse = queryParameters.createCopyUsing( selection );
+		}
+		else {
+			queryParametersToUse = queryParameters;
+		}
+
+		final List<Object> combinedResults = new ArrayList<>();
+		return CompletionStages.loop(
+				translators,
+				translator -> ((ReactiveQueryTranslatorImpl) translator)
+						.reactiveList( session, queryParametersToUse )
+						.thenAccept( combinedResults::addAll )
+		).thenApply( v -> ResultPages.slice( combinedResults, rowSelection, hasLimit ) );
+	}
+
 	private void needsLimitLoop(QueryParameters queryParameters,
 								List<Object> combinedResults,
 								IdentitySet distinction,
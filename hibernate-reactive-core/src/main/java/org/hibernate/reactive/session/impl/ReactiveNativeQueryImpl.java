@@ -16,6 +16,10 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.NativeQueryImpl;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
@@ -37,6 +41,8 @@
  */
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R> implements ReactiveNativeQuery<R> {
 
+	private ConstructorRowMapper<R> rowMapper;
+
 	public ReactiveNativeQueryImpl(
 			NamedSQLQueryDefinition queryDef,
 			SharedSessionContractImplementor session,
@@ -75,6 +81,12 @@ public ReactiveNativeQueryImpl<R> setResultSetMapping(String name) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setConstructorResult(Class<R> resultClass) {
+		rowMapper = ConstructorRowMapper.forClass( resultClass );
+		return this;
+	}
+
 	@Override
 	public CompletionStage<R> getReactiveSingleResult() {
 		return getReactiveResultList().thenApply( list -> extractUniqueResult( list, this ) );
@@ -94,12 +106,24 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 	@Override
 	public CompletionStage<List<R>> getReactiveResultList() {
 		beforeQuery();
-		return reactiveProducer()
-				.<R>reactiveList( generateQuerySpecification(), getQueryParameters() )
+		CompletionStage<List<R>> results = rowMapper == null
+				? reactiveProducer().reactiveList( generateQuerySpecification(), getQueryParameters() )
+				: reactiveProducer().reactiveList( generateQuerySpecification(), getQueryParameters(), rowMapper );
+		return results
 				.whenComplete( (list, err) -> afterQuery() )
 				.handle( (list, error) -> convertQueryException( list, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<KeysetPage<R>> getReactiveKeysetPage(Keyset keyset, int pageSize) {
+		throw new UnsupportedOperationException( "Keyset pagination is not supported for native queries" );
+	}
+
+	@Override
+	public CompletionStage<ResultPage<R>> getReactiveResultPage() {
+		throw new UnsupportedOperationException( "Result pages are not supported for native queries" );
+	}
+
 	private NativeSQLQuerySpecification generateQuerySpecification() {
 		return new NativeSQLQuerySpecification(
 				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
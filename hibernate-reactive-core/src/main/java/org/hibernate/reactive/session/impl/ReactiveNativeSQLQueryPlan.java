@@ -47,7 +47,8 @@ public CompletionStage<Integer> performExecuteReactiveUpdate(QueryParameters que
 
 		queryParameters.processFilters( customQuery.getSQL(), sessionContract );
 
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		int parameterCount = PreparedStatementAdaptor.parameterCount( queryParameters.getFilteredSQL() );
+		Object[] params = PreparedStatementAdaptor.bind( parameterCount, statement -> {
 			int col = 1;
 			for ( ParameterBinder binder : customQuery.getParameterValueBinders() ) {
 				col += binder.bind( statement, queryParameters, sessionContract, col );
@@ -11,7 +11,9 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
@@ -19,6 +21,9 @@
 import org.hibernate.query.criteria.internal.compile.ExplicitParameterInfo;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.QueryImpl;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.reactive.util.impl.CompletionStages;
@@ -134,6 +139,67 @@ private CompletionStage<List<R>> doReactiveList() {
 		}
 	}
 
+	@Override
+	public CompletionStage<ResultPage<R>> getReactiveResultPage() {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		beforeQuery();
+		String expanded = expandedQuery();
+		return reactiveProducer()
+				.<R>reactiveResultPage( expanded, makeReactiveQueryParametersForExecution(expanded) )
+				.whenComplete( (page, err) -> afterQuery() )
+				.handle( (page, error) -> convertQueryException( page, error, this ) );
+	}
+
+	@Override
+	public CompletionStage<KeysetPage<R>> getReactiveKeysetPage(Keyset keyset, int pageSize) {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			throw new UnsupportedOperationException("not a select query");
+		}
+		if ( pageSize <= 0 ) {
+			throw new IllegalArgumentException( "page size must be positive" );
+		}
+		beforeQuery();
+		KeysetQuery keysetQuery = new KeysetQuery( keyset );
+		String expanded = expandedQuery();
+		String hql = keysetQuery.render( expanded );
+		QueryParameters queryParameters = makeReactiveQueryParametersForExecution( hql );
+		@SuppressWarnings("deprecation")
+		QueryPlanCache queryPlanCache = getProducer().getFactory().getQueryPlanCache();
+		HQLQueryPlan plan = queryParameters.getQueryPlan();
+		if ( plan == null ) {
+			plan = queryPlanCache
+					.getHQLQueryPlan( hql, false, getProducer().getLoadQueryInfluencers().getEnabledFilters() );
+			queryParameters.setQueryPlan( plan );
+		}
+		// the types of the key attributes come from the plan of the restricted
+		// query, which is the same for every page after the first
+		HQLQueryPlan restrictedPlan = keyset.isFirstPage()
+				? queryPlanCache.getHQLQueryPlan(
+						keysetQuery.renderRestricted( expanded ),
+						false,
+						getProducer().getLoadQueryInfluencers().getEnabledFilters()
+				)
+				: plan;
+		keysetQuery.bind( queryParameters, restrictedPlan.getParameterMetadata() );
+		// fetch the first result of the next page, if any
+		RowSelection selection = new RowSelection();
+		if ( keyset.isFirstPage() ) {
+			// on later pages, the restriction already skips the previous results
+			selection.setFirstRow( queryParameters.getRowSelection().getFirstRow() );
+		}
+		selection.setMaxRows( pageSize + 1 );
+		selection.setTimeout( queryParameters.getRowSelection().getTimeout() );
+		selection.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
+		queryParameters.setRowSelection( selection );
+		return reactiveProducer()
+				.<R>reactiveList( hql, queryParameters )
+				.thenApply( list -> keysetQuery.page( list, pageSize, getProducer() ) )
+				.whenComplete( (page, err) -> afterQuery() )
+				.handle( (page, error) -> convertQueryException( page, error, this ) );
+	}
+
 	private ReactiveQueryExecutor reactiveProducer() {
 		return (ReactiveQueryExecutor) getProducer();
 	}
@@ -0,0 +1,205 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import io.vertx.core.Context;
+import org.hibernate.Filter;
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.common.QueryPlanCacheStatistics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.jboss.logging.Logger;
+
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link QueryPlanCache} which counts hits and misses, and which
+ * is able to compile a query plan on a Vert.x worker thread instead
+ * of on the event loop thread which created the query.
+ * <p>
+ * Plans for queries with no enabled filters, which are by far the
+ * most common, are kept in a separate map keyed by the query string,
+ * so that we can determine whether a plan is already cached before
+ * requesting it. Other plans are cached by the superclass.
+ * <p>
+ * The constructor chosen to map the result of a cacheable native query
+ * to a class which is not an entity is also kept here, since it's
+ * needed to instantiate the result when it is read from the query
+ * cache.
+ *
+ * @see Settings#QUERY_PLAN_ASYNC_COMPILATION
+ */
+public class ReactiveQueryPlanCache extends QueryPlanCache implements QueryPlanCacheStatistics {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger log = Logger.getLogger( ReactiveQueryPlanCache.class );
+
+	private final SessionFactoryImplementor factory;
+	private final QueryPlanCreator queryPlanCreator;
+	private final boolean asyncCompilation;
+
+	private final BoundedConcurrentHashMap<String, HQLQueryPlan> plans;
+	private final Map<String, CompletableFuture<Void>> compilations = new ConcurrentHashMap<>();
+	private final BoundedConcurrentHashMap<String, Constructor<?>> resultConstructors;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder asyncCompilations = new LongAdder();
+
+	public ReactiveQueryPlanCache(SessionFactoryImplementor factory, QueryPlanCreator queryPlanCreator) {
+		super( factory, queryPlanCreator );
+		this.factory = factory;
+		this.queryPlanCreator = queryPlanCreator;
+		Map<?, ?> properties = factory.getProperties();
+		asyncCompilation = ConfigurationHelper.getBoolean( Settings.QUERY_PLAN_ASYNC_COMPILATION, properties, false );
+		final int maxSize = ConfigurationHelper.getInt(
+				AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE,
+				properties,
+				DEFAULT_QUERY_PLAN_MAX_COUNT
+		);
+		plans = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		resultConstructors = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	@Override
+	public HQLQueryPlan getHQLQueryPlan(String queryString, boolean shallow, Map<String, Filter> enabledFilters) {
+		if ( shallow || !enabledFilters.isEmpty() ) {
+			return super.getHQLQueryPlan( queryString, shallow, enabledFilters );
+		}
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		HQLQueryPlan plan = plans.get( queryString );
+		if ( plan == null ) {
+			misses.increment();
+			final long startTime = stats ? System.nanoTime() : 0L;
+			plan = queryPlanCreator.createQueryPlan( queryString, false, enabledFilters, factory );
+			if ( stats ) {
+				final long microseconds = TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - startTime );
+				statistics.queryCompiled( queryString, microseconds );
+			}
+			plans.putIfAbsent( queryString, plan );
+		}
+		else {
+			hits.increment();
+			if ( stats ) {
+				statistics.queryPlanCacheHit( queryString );
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Determine if a query with no enabled filters should be compiled
+	 * by calling {@link #compile(String, Context)}, that is, if async
+	 * compilation is enabled and its plan is not already cached.
+	 */
+	public boolean isAsyncCompilationRequired(String queryString) {
+		return asyncCompilation && !plans.containsKey( queryString );
+	}
+
+	/**
+	 * Compile the plan for a query with no enabled filters on a worker
+	 * thread of the given context, unless it's already being compiled.
+	 * The returned stage never fails: if the query cannot be compiled,
+	 * the error is reported when the plan is next requested.
+	 */
+	public CompletionStage<Void> compile(String queryString, Context context) {
+		return compilations.computeIfAbsent( queryString, hql -> {
+			asyncCompilations.increment();
+			CompletableFuture<Void> compiled = new CompletableFuture<>();
+			context.<Void>executeBlocking(
+					promise -> {
+						try {
+							getHQLQueryPlan( hql, false, Collections.emptyMap() );
+						}
+						catch (RuntimeException e) {
+							log.debugf( "Unable to compile query: %s (%s)", hql, e.getMessage() );
+						}
+						promise.complete();
+					},
+					false,
+					result -> {
+						compilations.remove( hql );
+						compiled.complete( null );
+					}
+			);
+			return compiled;
+		} );
+	}
+
+	/**
+	 * Compile the plans for the given queries with no enabled filters,
+	 * in parallel, ignoring failures. Called at startup with the named
+	 * HQL queries, so that their plans are already cached when they are
+	 * first executed.
+	 */
+	public void compileAll(Collection<String> queryStrings) {
+		queryStrings.parallelStream().forEach( hql -> {
+			try {
+				getHQLQueryPlan( hql, false, Collections.emptyMap() );
+			}
+			catch (HibernateException e) {
+				// reported when the named queries are checked
+			}
+		} );
+	}
+
+	/**
+	 * The constructor of the given result class which was used to map
+	 * the result of the given native SQL query, or null if the query
+	 * was not yet executed with that result class.
+	 */
+	public Constructor<?> getResultConstructor(String sql, Class<?> resultClass) {
+		final Constructor<?> constructor = resultConstructors.get( sql );
+		return constructor == null || constructor.getDeclaringClass() != resultClass ? null : constructor;
+	}
+
+	/**
+	 * Remember the constructor used to map the result of the given
+	 * native SQL query.
+	 */
+	public void putResultConstructor(String sql, Constructor<?> constructor) {
+		resultConstructors.put( sql, constructor );
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getAsyncCompilationCount() {
+		return asyncCompilations.sum();
+	}
+
+	@Override
+	public void cleanup() {
+		super.cleanup();
+		plans.clear();
+		resultConstructors.clear();
+	}
+}
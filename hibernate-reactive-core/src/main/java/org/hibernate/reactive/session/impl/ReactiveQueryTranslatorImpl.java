@@ -28,7 +28,9 @@
 import org.hibernate.param.ParameterSpecification;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.bulk.StatementsWithParameters;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.loader.hql.impl.ReactiveQueryLoader;
+import org.hibernate.reactive.loader.hql.impl.ResultPages;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.reactive.util.impl.CompletionStages;
@@ -101,19 +103,7 @@ public CompletionStage<List<Object>> reactiveList(SharedSessionContractImplement
 
 		QueryParameters queryParametersToUse;
 		if ( hasLimit && containsCollectionFetches() ) {
-			boolean fail = session.getFactory().getSessionFactoryOptions().isFailOnPaginationOverCollectionFetchEnabled();
-			if (fail) {
-				throw new HibernateException("firstResult/maxResults specified with collection fetch. " +
-						"In memory pagination was about to be applied. " +
-						"Failing because 'Fail on pagination over collection fetch' is enabled.");
-			}
-			else {
-				LOG.firstOrMaxResultsSpecifiedWithCollectionFetch();
-			}
-			RowSelection selection = new RowSelection();
-			selection.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
-			selection.setTimeout( queryParameters.getRowSelection().getTimeout() );
-			queryParametersToUse = queryParameters.createCopyUsing( selection );
+			queryParametersToUse = inMemoryPagination( session, queryParameters );
 		}
 		else {
 			queryParametersToUse = queryParameters;
@@ -152,6 +142,46 @@ public CompletionStage<List<Object>> reactiveList(SharedSessionContractImplement
 				} );
 	}
 
+	/**
+	 * Obtain a page of results, along with the total number of results.
+	 * If the query has collection fetches, the page is obtained from the
+	 * complete list of results, in memory.
+	 */
+	public CompletionStage<ResultPage<Object>> reactiveResultPage(SharedSessionContractImplementor session,
+																 QueryParameters queryParameters)
+			throws HibernateException {
+		errorIfDML();
+
+		if ( containsCollectionFetches() ) {
+			final QueryNode query = (QueryNode) getSqlAST();
+			final RowSelection selection = queryParameters.getRowSelection();
+			final boolean hasLimit = selection != null && selection.definesLimits();
+			final boolean needsDistincting =
+					query.getSelectClause().isDistinct() || getEntityGraphQueryHint() != null || hasLimit;
+			return queryLoader.reactiveList( session, hasLimit ? inMemoryPagination( session, queryParameters ) : queryParameters )
+					.thenApply( results -> ResultPages.slice( results, selection, needsDistincting ) );
+		}
+		else {
+			return queryLoader.reactiveResultPage( session, queryParameters );
+		}
+	}
+
+	private QueryParameters inMemoryPagination(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+		boolean fail = session.getFactory().getSessionFactoryOptions().isFailOnPaginationOverCollectionFetchEnabled();
+		if (fail) {
+			throw new HibernateException("firstResult/maxResults specified with collection fetch. " +
+					"In memory pagination was about to be applied. " +
+					"Failing because 'Fail on pagination over collection fetch' is enabled.");
+		}
+		else {
+			LOG.firstOrMaxResultsSpecifiedWithCollectionFetch();
+		}
+		RowSelection selection = new RowSelection();
+		selection.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
+		selection.setTimeout( queryParameters.getRowSelection().getTimeout() );
+		return queryParameters.createCopyUsing( selection );
+	}
+
 	public CompletionStage<Integer> executeReactiveUpdate(QueryParameters queryParameters,
 														  ReactiveQueryExecutor session) {
 		errorIfSelect();
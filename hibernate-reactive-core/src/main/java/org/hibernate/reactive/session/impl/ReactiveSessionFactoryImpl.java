@@ -5,11 +5,18 @@
  */
 package org.hibernate.reactive.session.impl;
 
+import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.AbstractDelegatingSessionFactoryOptions;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
+import org.hibernate.reactive.pool.StatementCountingConnection;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
 import org.hibernate.type.LocalDateTimeType;
@@ -21,7 +28,10 @@
 import java.util.Map;
 import java.util.Set;
 
+import static java.util.stream.Collectors.toList;
+
 import static java.util.Collections.singleton;
+import static org.jboss.logging.Logger.getMessageLogger;
 
 /**
  * A Hibernate {@link org.hibernate.SessionFactory} that can be
@@ -29,8 +39,25 @@
  * {@link Mutiny.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
+
+	private static final CoreMessageLogger log =
+			getMessageLogger( CoreMessageLogger.class, ReactiveSessionFactoryImpl.class.getName() );
+
+	private final transient ReactiveQueryPlanCache queryPlanCache;
+	private final transient SessionFactoryOptions options;
+	private final transient int blockingDetectionThreshold;
+	private final transient int repeatedStatementThreshold;
+	private final transient boolean failOnRepeatedStatement;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
-		super( metadata, options, ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
+		//the named queries are checked below, after compiling them in parallel
+		super( metadata, withoutNamedQueryChecking( options ), ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
+		//the superclass keeps the options it was constructed with
+		this.options = options;
+		queryPlanCache = new ReactiveQueryPlanCache( this, ReactiveHQLQueryPlan::new );
+		blockingDetectionThreshold = BlockingDetectingConnection.thresholdMillis( this );
+		repeatedStatementThreshold = StatementCountingConnection.repeatedStatementThreshold( this );
+		failOnRepeatedStatement = StatementCountingConnection.failOnRepeatedStatement( this );
 
 		Map<Integer, Set<String>> contributions =
 				getMetamodel().getTypeConfiguration().getJdbcToHibernateTypeContributionMap();
@@ -41,6 +68,93 @@ public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOp
 		contributions.put( Types.DATE, singleton( LocalDateType.class.getName() ) );
 		//TODO: this was a temporary workaround for #336 and could be removed
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
+
+		if ( options.isNamedQueryStartupCheckingEnabled() ) {
+			queryPlanCache.compileAll(
+					metadata.getNamedQueryDefinitions().stream()
+							.map( NamedQueryDefinition::getQueryString )
+							.collect( toList() )
+			);
+			checkNamedQueries();
+		}
+	}
+
+	private static SessionFactoryOptions withoutNamedQueryChecking(SessionFactoryOptions options) {
+		return new AbstractDelegatingSessionFactoryOptions( options ) {
+			@Override
+			public boolean isNamedQueryStartupCheckingEnabled() {
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Check the named queries, which are mostly already compiled,
+	 * reporting errors in the same way as {@link SessionFactoryImpl}.
+	 */
+	private void checkNamedQueries() {
+		Map<String, HibernateException> errors = getNamedQueryRepository().checkNamedQueries( queryPlanCache );
+		if ( !errors.isEmpty() ) {
+			StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
+			for ( Map.Entry<String, HibernateException> entry : errors.entrySet() ) {
+				log.namedQueryError( entry.getKey(), entry.getValue() );
+				failingQueries.append( System.lineSeparator() )
+						.append( entry.getKey() )
+						.append( " failed because of: " )
+						.append( entry.getValue() );
+			}
+			close();
+			throw new HibernateException( failingQueries.toString() );
+		}
+	}
+
+	@Override
+	public SessionFactoryOptions getSessionFactoryOptions() {
+		// null while the superclass constructor is running
+		return options == null ? super.getSessionFactoryOptions() : options;
+	}
+
+	@Override
+	public QueryPlanCache getQueryPlanCache() {
+		// null while the superclass constructor is running
+		return queryPlanCache == null ? super.getQueryPlanCache() : queryPlanCache;
+	}
+
+	/**
+	 * The threshold for the detection of code which blocks the event
+	 * loop, in milliseconds, or zero if detection is disabled.
+	 *
+	 * @see BlockingDetectingConnection
+	 */
+	public int getBlockingDetectionThreshold() {
+		return blockingDetectionThreshold;
+	}
+
+	/**
+	 * The number of executions of the same query within a session
+	 * after which it is reported, or zero if detection is disabled.
+	 *
+	 * @see StatementCountingConnection
+	 */
+	public int getRepeatedStatementThreshold() {
+		return repeatedStatementThreshold;
+	}
+
+	/**
+	 * Whether a repeated query fails, instead of being logged.
+	 *
+	 * @see StatementCountingConnection
+	 */
+	public boolean isFailOnRepeatedStatement() {
+		return failOnRepeatedStatement;
+	}
+
+	@Override
+	public void close() {
+		if ( queryPlanCache != null && !isClosed() ) {
+			queryPlanCache.cleanup();
+		}
+		super.close();
 	}
 
 	@Override
@@ -60,6 +60,8 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
@@ -77,7 +79,10 @@
 import org.hibernate.reactive.mutiny.impl.MutinySessionImpl;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.StatementCountingConnection;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
@@ -112,6 +117,7 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 
 	private transient ReactiveActionQueue reactiveActionQueue = new ReactiveActionQueue( this );
 	private final ReactiveConnection reactiveConnection;
+	private final StatementCountingConnection statementStatistics;
 
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
@@ -119,9 +125,15 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
+		ReactiveSessionFactoryImpl factory = (ReactiveSessionFactoryImpl) delegate;
+		statementStatistics = StatementCountingConnection.forSession(
+				BlockingDetectingConnection.forSession( connection, factory.getBlockingDetectionThreshold() ),
+				factory.getRepeatedStatementThreshold(),
+				factory.isFailOnRepeatedStatement()
+		);
 		Integer batchSize = getConfiguredJdbcBatchSize();
-		reactiveConnection = batchSize==null || batchSize<2 ? connection :
-				new BatchingConnection( connection, batchSize );
+		reactiveConnection = batchSize==null || batchSize<2 ? statementStatistics :
+				new BatchingConnection( statementStatistics, batchSize );
 	}
 
 	@Override
@@ -139,6 +151,23 @@ protected StatefulPersistenceContext createPersistenceContext() {
 		return new ReactivePersistenceContextAdapter( this );
 	}
 
+	/**
+	 * Supply the existing instance when the state of several instances
+	 * is reloaded by {@link #reactiveRefreshAll(Object[], LockOptions)}.
+	 */
+	@Override
+	public Object instantiate(EntityPersister persister, Serializable id) throws HibernateException {
+		ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) getPersistenceContextInternal();
+		if ( persistenceContext.hasRefreshTargets() ) {
+			Object entity = persistenceContext.getRefreshTarget( generateEntityKey( id, persister ) );
+			if ( entity != null && persister.isInstance( entity ) ) {
+				return entity;
+			}
+		}
+		return super.instantiate( persister, id );
+	}
+
 	@Override
 	public ReactiveActionQueue getReactiveActionQueue() {
 		return reactiveActionQueue;
@@ -248,13 +277,22 @@ private <T> void handleNativeQueryResult(ReactiveNativeQuery<T> query, Class<T>
 		if ( Tuple.class.equals( resultClass ) ) {
 			query.setResultTransformer( new NativeQueryTupleTransformer() );
 		}
+		else if ( SessionUtil.isConstructorResult( resultClass, getFactory() ) ) {
+			query.setConstructorResult( resultClass );
+		}
 		else {
+			//throws MappingException if the result class is not an entity
 			query.addEntity( "alias1", resultClass.getName(), LockMode.READ );
 		}
 	}
 
 	@Override
-	public <R> ReactiveQueryImpl<R> createReactiveQuery(String queryString) {
+	public <R> ReactiveQuery<R> createReactiveQuery(String queryString) {
+		checkOpen();
+		return DeferredReactiveQuery.create( this, queryString, () -> createReactiveQueryImpl( queryString ) );
+	}
+
+	private <R> ReactiveQueryImpl<R> createReactiveQueryImpl(String queryString) {
 		checkOpen();
 		pulseTransactionCoordinator();
 		delayedAfterCompletion();
@@ -274,9 +312,14 @@ public <R> ReactiveQueryImpl<R> createReactiveQuery(String queryString) {
 
 	@Override
 	public <R> ReactiveQuery<R> createReactiveQuery(String queryString, Class<R> resultType) {
+		checkOpen();
+		return DeferredReactiveQuery.create( this, queryString, () -> createReactiveQueryImpl( queryString, resultType ) );
+	}
+
+	private <R> ReactiveQueryImpl<R> createReactiveQueryImpl(String queryString, Class<R> resultType) {
 		try {
 			// do the translation
-			final ReactiveQueryImpl<R> query = createReactiveQuery( queryString );
+			final ReactiveQueryImpl<R> query = createReactiveQueryImpl( queryString );
 			resultClassChecking( resultType, query.unwrap( Query.class ) );
 			return query;
 		}
@@ -363,6 +406,26 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 				.thenApply( list -> (List<T>) list );
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> CompletionStage<ResultPage<T>> reactiveResultPage(String query, QueryParameters parameters) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		HQLQueryPlan plan = parameters.getQueryPlan();
+		ReactiveHQLQueryPlan reactivePlan = plan == null
+				? getQueryPlan( query, false )
+				: (ReactiveHQLQueryPlan) plan;
+
+		return reactiveAutoFlushIfRequired( reactivePlan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.performReactiveResultPage( parameters, this ) )
+				.whenComplete( (page, x) -> {
+					afterOperation( x == null );
+					delayedAfterCompletion();
+				} )
+				.thenApply( page -> (ResultPage<T>) page );
+	}
+
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
 		return listReactiveCustomQuery( getNativeQueryPlan( spec ).getCustomQuery(), parameters)
@@ -370,6 +433,15 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 				.thenApply( list -> (List<T>) list );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters,
+													 ConstructorRowMapper<T> mapper) {
+		checkOpenOrWaitingForAutoClose();
+		ReactiveCustomLoader loader = new ReactiveCustomLoader( getNativeQueryPlan( spec ).getCustomQuery(), getFactory() );
+		return loader.reactiveList( this, parameters, mapper )
+				.whenComplete( (r, e) -> delayedAfterCompletion() );
+	}
+
 	private CompletionStage<List<Object>> listReactiveCustomQuery(CustomQuery customQuery, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 //		checkTransactionSynchStatus();
@@ -492,7 +564,7 @@ public <T> ReactiveQuery<T> createReactiveCriteriaQuery(String jpaqlString,
 															Class<T> resultClass,
 															CriteriaQueryOptions queryOptions) {
 		try {
-			ReactiveQuery<T> query = createReactiveQuery( jpaqlString );
+			ReactiveQuery<T> query = createReactiveQueryImpl( jpaqlString );
 			query.setParameterMetadata( queryOptions.getParameterMetadata() );
 
 			boolean hasValueHandlers = queryOptions.getValueHandlers() != null;
@@ -856,12 +928,64 @@ private CompletionStage<Void> fireRefresh(IdentitySet refreshedAlready, RefreshE
 				});
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveRefreshAll(Object[] entities, LockOptions lockOptions) {
+		checkOpen();
+		RefreshEvent[] events = new RefreshEvent[entities.length];
+		for ( int i = 0; i < entities.length; i++ ) {
+			events[i] = new RefreshEvent( entities[i], lockOptions, this );
+		}
+		return fireRefresh( events );
+	}
+
+	private CompletionStage<Void> fireRefresh(RefreshEvent[] events) {
+		if ( !getSessionFactory().getSessionFactoryOptions().isAllowRefreshDetachedEntity() ) {
+			for ( RefreshEvent event : events ) {
+				if ( !contains( event.getObject() ) ) {
+					throw new IllegalArgumentException( "Entity not managed" );
+				}
+			}
+		}
+		pulseTransactionCoordinator();
+
+		return fire( events, EventType.REFRESH,
+				(ReactiveRefreshEventListener l) -> l::reactiveOnRefresh )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if ( e instanceof RuntimeException ) {
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return CompletionStages.returnNullorRethrow( e );
+				} );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveLock(Object object, LockOptions lockOptions) {
 		checkOpen();
 		return fireLock( new LockEvent( object, lockOptions, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLockAll(Object[] objects, LockOptions lockOptions) {
+		checkOpen();
+		LockEvent[] events = new LockEvent[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			events[i] = new LockEvent( objects[i], lockOptions, this );
+		}
+		pulseTransactionCoordinator();
+
+		return fire( events, EventType.LOCK, (ReactiveLockEventListener l) -> l::reactiveOnLock )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if (e instanceof RuntimeException) {
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return CompletionStages.returnNullorRethrow( e );
+				});
+	}
+
 	private CompletionStage<Void> fireLock(LockEvent event) {
 		pulseTransactionCoordinator();
 
@@ -1296,6 +1420,11 @@ public ReactiveConnection getReactiveConnection() {
 		return reactiveConnection;
 	}
 
+	@Override
+	public StatementStatistics getStatementStatistics() {
+		return statementStatistics;
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		if ( reactiveConnection != null ) {
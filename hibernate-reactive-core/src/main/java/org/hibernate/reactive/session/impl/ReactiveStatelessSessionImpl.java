@@ -27,12 +27,17 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.reactive.adaptor.impl.ConstructorRowMapper;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.id.impl.IdentifierGeneration;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.StatementCountingConnection;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
@@ -53,7 +58,7 @@
 public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
         implements ReactiveStatelessSession {
 
-    private final ReactiveConnection proxyConnection;
+    private final StatementCountingConnection proxyConnection;
 
     private final PersistenceContext persistenceContext = new ReactivePersistenceContextAdapter(this);
 
@@ -61,7 +66,12 @@ public ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
                                         SessionCreationOptions options,
                                         ReactiveConnection proxyConnection) {
         super(factory, options);
-        this.proxyConnection = proxyConnection;
+        ReactiveSessionFactoryImpl reactiveFactory = (ReactiveSessionFactoryImpl) factory;
+        this.proxyConnection = StatementCountingConnection.forSession(
+                BlockingDetectingConnection.forSession( proxyConnection, reactiveFactory.getBlockingDetectionThreshold() ),
+                reactiveFactory.getRepeatedStatementThreshold(),
+                reactiveFactory.isFailOnRepeatedStatement()
+        );
     }
 
     private LockOptions getNullSafeLockOptions(LockMode lockMode) {
@@ -93,6 +103,11 @@ public ReactiveConnection getReactiveConnection() {
         return proxyConnection;
     }
 
+    @Override
+    public StatementStatistics getStatementStatistics() {
+        return proxyConnection;
+    }
+
     @Override
     public void checkTransactionNeededForUpdateOperation(String exceptionMessage) {
         //no-op because we don't support transactions
@@ -222,7 +237,12 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
     }
 
     @Override
-    public <R> ReactiveQueryImpl<R> createReactiveQuery(String queryString) {
+    public <R> ReactiveQuery<R> createReactiveQuery(String queryString) {
+        checkOpen();
+        return DeferredReactiveQuery.create( this, queryString, () -> createReactiveQueryImpl( queryString ) );
+    }
+
+    private <R> ReactiveQueryImpl<R> createReactiveQueryImpl(String queryString) {
         checkOpen();
 
         try {
@@ -242,9 +262,14 @@ public <R> ReactiveQueryImpl<R> createReactiveQuery(String queryString) {
 
     @Override
     public <R> ReactiveQuery<R> createReactiveQuery(String queryString, Class<R> resultType) {
+        checkOpen();
+        return DeferredReactiveQuery.create( this, queryString, () -> createReactiveQueryImpl( queryString, resultType ) );
+    }
+
+    private <R> ReactiveQueryImpl<R> createReactiveQueryImpl(String queryString, Class<R> resultType) {
         try {
             // do the translation
-            final ReactiveQueryImpl<R> query = createReactiveQuery( queryString );
+            final ReactiveQueryImpl<R> query = createReactiveQueryImpl( queryString );
             resultClassChecking( resultType, query.unwrap( Query.class ) );
             return query;
         }
@@ -257,7 +282,11 @@ private <T> void handleNativeQueryResult(ReactiveNativeQuery<T> query, Class<T>
         if ( Tuple.class.equals( resultClass ) ) {
             query.setResultTransformer( new NativeQueryTupleTransformer() );
         }
+        else if ( SessionUtil.isConstructorResult( resultClass, getFactory() ) ) {
+            query.setConstructorResult( resultClass );
+        }
         else {
+            //throws MappingException if the result class is not an entity
             query.addEntity( "alias1", resultClass.getName(), LockMode.READ );
         }
     }
@@ -323,6 +352,24 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
                 .thenApply( list -> (List<T>) list );
     }
 
+    @Override @SuppressWarnings("unchecked")
+    public <T> CompletionStage<ResultPage<T>> reactiveResultPage(String query, QueryParameters parameters) {
+        checkOpen();
+        parameters.validateParameters();
+
+        HQLQueryPlan plan = parameters.getQueryPlan();
+        ReactiveHQLQueryPlan reactivePlan = plan == null
+                ? getQueryPlan( query, false )
+                : (ReactiveHQLQueryPlan) plan;
+
+        return reactivePlan.performReactiveResultPage( parameters, this )
+                .whenComplete( (page, x) -> {
+                    getPersistenceContext().clear();
+                    afterOperation( x == null );
+                } )
+                .thenApply( page -> (ResultPage<T>) page );
+    }
+
     @Override
     public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
         checkOpen();
@@ -341,6 +388,20 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
                 .thenApply( list -> (List<T>) list );
     }
 
+    @Override
+    public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters,
+                                                     ConstructorRowMapper<T> mapper) {
+        checkOpen();
+
+        ReactiveCustomLoader loader = new ReactiveCustomLoader(
+                getNativeQueryPlan( spec ).getCustomQuery(),
+                getFactory()
+        );
+
+        return loader.reactiveList( this, parameters, mapper )
+                .whenComplete( (r, x) -> afterOperation( x == null ) );
+    }
+
     @Override
     protected ReactiveHQLQueryPlan getQueryPlan(String query, boolean shallow) throws HibernateException {
         return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
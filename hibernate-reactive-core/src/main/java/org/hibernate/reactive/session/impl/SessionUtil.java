@@ -5,9 +5,11 @@
  */
 package org.hibernate.reactive.session.impl;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 
 import java.io.Serializable;
+import java.lang.reflect.Modifier;
 import java.util.function.Function;
 
 public class SessionUtil {
@@ -27,4 +29,24 @@ public static <T> Function<T, T> checkEntityFound(SessionImplementor session, St
 		return optional -> checkEntityFound(session, entityName, identifier, optional);
 	}
 
+	/**
+	 * Determine if the rows of a native query with the given result
+	 * class should be mapped by a
+	 * {@link org.hibernate.reactive.adaptor.impl.ConstructorRowMapper},
+	 * that is, if the result class is a concrete class, other than
+	 * {@code Object}, which is not an entity, an array, an enum, or a
+	 * basic type.
+	 */
+	public static boolean isConstructorResult(Class<?> resultClass, SessionFactoryImplementor factory) {
+		final String name = resultClass.getName();
+		return resultClass != Object.class
+				&& !resultClass.isArray()
+				&& !resultClass.isEnum()
+				&& !resultClass.isPrimitive()
+				&& !resultClass.isInterface()
+				&& !Modifier.isAbstract( resultClass.getModifiers() )
+				&& !factory.getMetamodel().entityPersisters().containsKey( name )
+				&& factory.getMetamodel().getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( name ) == null;
+	}
+
 }
@@ -17,7 +17,12 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.common.AutoCloseable;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.QueryPlanCacheStatistics;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -137,6 +142,39 @@ public interface Stage {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Asynchronously execute this query, returning a page of at most
+		 * {@code pageSize} results using {@linkplain Keyset keyset
+		 * pagination}, via a {@link CompletionStage}. The results are
+		 * ordered by the given key, and restricted to those which come
+		 * after the previous page, so unlike {@link #setFirstResult(int)},
+		 * the cost of obtaining a page doesn't grow with its depth.
+		 * <p>
+		 * The query must return entities, and must not have an
+		 * {@code order by}, {@code group by}, or {@code having} clause.
+		 * A {@linkplain #setFirstResult(int) first result} is applied to
+		 * the first page only.
+		 *
+		 * @param keyset the key, and the position of the previous page
+		 * @param pageSize the maximum number of results on the page
+		 *
+		 * @return the page, with a cursor for the next page
+		 */
+		CompletionStage<KeysetPage<R>> getKeysetPage(Keyset keyset, int pageSize);
+
+		/**
+		 * Asynchronously execute this query, returning the page of results
+		 * specified by {@link #setFirstResult(int)} and
+		 * {@link #setMaxResults(int)}, along with the total number of
+		 * results, via a {@link CompletionStage}. Where the database supports it, the
+		 * total is obtained in the same statement as the results, using a
+		 * {@code count(*) over()} window function. Otherwise, a second
+		 * statement counting the results is sent along with the query.
+		 *
+		 * @return the page of results, and the total number of results
+		 */
+		CompletionStage<ResultPage<R>> getResultPage();
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -519,7 +557,8 @@ interface Session extends AutoCloseable {
 //		CompletionStage<Void> refresh(Object entity, LockOptions lockOptions);
 
 		/**
-		 * Refresh multiple entity instances at once.
+		 * Refresh multiple entity instances at once. The state of the
+		 * instances of each entity type is read using a single query.
 		 *
 		 * @see #refresh(Object)
 		 */
@@ -549,6 +588,20 @@ interface Session extends AutoCloseable {
 		 */
 		CompletionStage<Void> lock(Object entity, LockMode lockMode);
 
+		/**
+		 * Obtain the specified lock level upon multiple entity instances at
+		 * once. A pessimistic lock on the instances of each entity type is
+		 * obtained using a single query.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities managed persistent instances
+		 *
+		 * @throws IllegalArgumentException if a given instance is not managed
+		 *
+		 * @see #lock(Object, LockMode)
+		 */
+		CompletionStage<Void> lock(LockMode lockMode, Object... entities);
+
 //		/**
 //		 * Obtain the specified lock level upon the given object, with the given
 //		 * {@link LockOptions}.
@@ -968,6 +1021,13 @@ interface Session extends AutoCloseable {
 		 */
 		<T> CompletionStage<T> withTransaction(Function<Transaction, CompletionStage<T>> work);
 
+		/**
+		 * Obtain the {@link StatementStatistics} for this session,
+		 * that is, the number of SQL statements executed, rows
+		 * read or written, and round trips to the database.
+		 */
+		StatementStatistics getStatementStatistics();
+
 		/**
 		 * Close the reactive session and release the underlying database
 		 * connection.
@@ -1154,6 +1214,13 @@ interface StatelessSession extends AutoCloseable {
 		 */
 		<T> ResultSetMapping<T> getResultSetMapping(Class<T> resultType, String mappingName);
 
+		/**
+		 * Obtain the {@link StatementStatistics} for this session,
+		 * that is, the number of SQL statements executed, rows
+		 * read or written, and round trips to the database.
+		 */
+		StatementStatistics getStatementStatistics();
+
 		/**
 		 * @return false if {@link #close()} has been called
 		 */
@@ -1248,6 +1315,27 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		Session openSession(String tenantId);
 
+		/**
+		 * Obtain a new {@link Session reactive session} for reading data.
+		 * <p>
+		 * Entities and proxies loaded by the session are
+		 * {@link Session#setDefaultReadOnly(boolean) read-only} by default,
+		 * so no snapshot of their state is kept, and they are never
+		 * dirty-checked. The {@link Session#setFlushMode(FlushMode) flush mode}
+		 * of the session is {@link FlushMode#MANUAL}, so queries are never
+		 * preceded by an automatic flush, and the session is not flushed
+		 * when a transaction completes.
+		 * <p>
+		 * The underlying database connection is obtained lazily when
+		 * the returned {@link Session} needs to access the database.
+		 * <p>
+		 * The client must explicitly close the session by calling
+		 * {@link Session#close()}.
+		 *
+		 * @see #withReadOnlySession(Function)
+		 */
+		Session openReadOnlySession();
+
 		/**
 		 * Obtain a {@link StatelessSession reactive stateless session}.
 		 * <p>
@@ -1282,6 +1370,18 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		<T> CompletionStage<T> withSession(String tenantId, Function<Session, CompletionStage<T>> work);
 
+		/**
+		 * Perform work using a read-only {@link Session reactive session}.
+		 * <p>
+		 * The session will be closed automatically.
+		 *
+		 * @param work a function which accepts the session and returns
+		 *             the result of the work as a {@link CompletionStage}.
+		 *
+		 * @see #openReadOnlySession()
+		 */
+		<T> CompletionStage<T> withReadOnlySession(Function<Session, CompletionStage<T>> work);
+
 		/**
 		 * Perform work using a {@link Session reactive session} within an
 		 * associated {@link Transaction transaction}.
@@ -1330,6 +1430,13 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		Cache getCache();
 
+		/**
+		 * Obtain the {@link QueryPlanCacheStatistics}, that is, the
+		 * number of hits and misses in the cache of compiled HQL
+		 * query plans.
+		 */
+		QueryPlanCacheStatistics getQueryPlanCacheStatistics();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
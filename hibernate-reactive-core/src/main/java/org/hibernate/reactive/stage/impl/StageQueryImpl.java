@@ -9,6 +9,9 @@
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.ResultPage;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
 
@@ -173,4 +176,14 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public CompletionStage<KeysetPage<R>> getKeysetPage(Keyset keyset, int pageSize) {
+		return delegate.getReactiveKeysetPage( keyset, pageSize );
+	}
+
+	@Override
+	public CompletionStage<ResultPage<R>> getResultPage() {
+		return delegate.getReactiveResultPage();
+	}
+
 }
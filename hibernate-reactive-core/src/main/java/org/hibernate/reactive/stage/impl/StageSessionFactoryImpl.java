@@ -6,11 +6,14 @@
 package org.hibernate.reactive.stage.impl;
 
 import org.hibernate.Cache;
+import org.hibernate.FlushMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.common.QueryPlanCacheStatistics;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
+import org.hibernate.reactive.session.impl.ReactiveExecution;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.stage.Stage;
@@ -49,6 +52,14 @@ public Stage.Session openSession(String tenantId) {
 		);
 	}
 
+	@Override
+	public Stage.Session openReadOnlySession() {
+		SessionCreationOptions options = options();
+		return new StageSessionImpl(
+				readOnly( new ReactiveSessionImpl( delegate, options, proxyConnection( options.getTenantIdentifier() ) ) )
+		);
+	}
+
 	public Stage.StatelessSession openStatelessSession() {
 		SessionCreationOptions options = options();
 		return new StageStatelessSessionImpl(
@@ -59,27 +70,36 @@ public Stage.StatelessSession openStatelessSession() {
 	CompletionStage<Stage.Session> newSession() {
 		SessionCreationOptions options = options();
 		return connection( options.getTenantIdentifier() )
-				.thenApply( connection -> new ReactiveSessionImpl( delegate, options, connection ) )
-				.thenApply( StageSessionImpl::new );
+				.thenApply( connection -> new StageSessionImpl( new ReactiveSessionImpl( delegate, options, connection ) ) );
 	}
 
 	CompletionStage<Stage.Session> newSession(String tenantId) {
 		return connection( tenantId )
-				.thenApply( connection -> new ReactiveSessionImpl( delegate, options(), connection ) )
-				.thenApply( StageSessionImpl::new );
+				.thenApply( connection -> new StageSessionImpl( new ReactiveSessionImpl( delegate, options(), connection ) ) );
+	}
+
+	CompletionStage<Stage.Session> newReadOnlySession() {
+		SessionCreationOptions options = options();
+		return connection( options.getTenantIdentifier() )
+				.thenApply( connection -> new StageSessionImpl( readOnly( new ReactiveSessionImpl( delegate, options, connection ) ) ) );
 	}
 
 	CompletionStage<Stage.StatelessSession> newStatelessSession() {
 		SessionCreationOptions options = options();
 		return connection( options.getTenantIdentifier() )
-				.thenApply( connection -> new ReactiveStatelessSessionImpl( delegate, options, connection ) )
-				.thenApply( StageStatelessSessionImpl::new );
+				.thenApply( connection -> new StageStatelessSessionImpl( new ReactiveStatelessSessionImpl( delegate, options, connection ) ) );
 	}
 
 	private SessionCreationOptions options() {
 		return new SessionFactoryImpl.SessionBuilderImpl<>( delegate );
 	}
 
+	private static ReactiveSessionImpl readOnly(ReactiveSessionImpl session) {
+		session.setDefaultReadOnly( true );
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		return session;
+	}
+
 	private ReactiveConnectionPool pool() {
 		return delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
 	}
@@ -97,16 +117,17 @@ private ReactiveConnection proxyConnection(String tenantId) {
 	}
 	@Override
 	public <T> CompletionStage<T> withSession(Function<Stage.Session, CompletionStage<T>> work) {
-		return newSession().thenCompose(
-				session -> work.apply(session).whenComplete( (r, e) -> session.close() )
-		);
+		return ReactiveExecution.withSession( newSession(), work, Stage.Session::close );
 	}
 
 	@Override
 	public <T> CompletionStage<T> withSession(String tenantId, Function<Stage.Session, CompletionStage<T>> work) {
-		return newSession( tenantId ).thenCompose(
-				session -> work.apply(session).whenComplete( (r, e) -> session.close() )
-		);
+		return ReactiveExecution.withSession( newSession( tenantId ), work, Stage.Session::close );
+	}
+
+	@Override
+	public <T> CompletionStage<T> withReadOnlySession(Function<Stage.Session, CompletionStage<T>> work) {
+		return ReactiveExecution.withSession( newReadOnlySession(), work, Stage.Session::close );
 	}
 
 	@Override
@@ -134,6 +155,11 @@ public Cache getCache() {
 		return delegate.getCache();
 	}
 
+	@Override
+	public QueryPlanCacheStatistics getQueryPlanCacheStatistics() {
+		return (QueryPlanCacheStatistics) delegate.getQueryPlanCache();
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -13,9 +13,11 @@
 import org.hibernate.MappingException;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
-import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.impl.ReactiveExecution;
+import org.hibernate.reactive.session.impl.SessionUtil;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -28,8 +30,6 @@
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
-
 /**
  * Implements the {@link Stage.Session} API. This delegating class is
  * needed to avoid name clashes when implementing both
@@ -159,7 +159,7 @@ public CompletionStage<Void> refresh(Object entity, LockOptions lockOptions) {
 
 	@Override
 	public CompletionStage<Void> refresh(Object... entity) {
-		return applyToAll( e -> delegate.reactiveRefresh( e, LockOptions.NONE ), entity );
+		return delegate.reactiveRefreshAll( entity, LockOptions.NONE );
 	}
 
 	@Override
@@ -167,6 +167,11 @@ public CompletionStage<Void> lock(Object entity, LockMode lockMode) {
 		return delegate.reactiveLock( entity, new LockOptions(lockMode) );
 	}
 
+	@Override
+	public CompletionStage<Void> lock(LockMode lockMode, Object... entity) {
+		return delegate.reactiveLockAll( entity, new LockOptions(lockMode) );
+	}
+
 //	@Override
 	public CompletionStage<Void> lock(Object entity, LockOptions lockOptions) {
 		return delegate.reactiveLock( entity, lockOptions );
@@ -204,7 +209,9 @@ public <R> Stage.Query<R> createNativeQuery(String sql, Class<R> resultType) {
 			return new StageQueryImpl<>( delegate.createReactiveNativeQuery( sql, resultType ) );
 		}
 		catch (MappingException me) {
-			return new StageQueryImpl<>( delegate.createReactiveNativeQuery( sql ) );
+			return new StageQueryImpl<>( SessionUtil.isConstructorResult( resultType, delegate.getFactory() )
+					? delegate.createReactiveNativeQuery( sql, resultType )
+					: delegate.createReactiveNativeQuery( sql ) );
 		}
 	}
 
@@ -376,72 +383,7 @@ public Filter getEnabledFilter(String filterName) {
 
 	@Override
 	public <T> CompletionStage<T> withTransaction(Function<Stage.Transaction, CompletionStage<T>> work) {
-		return new Transaction<T>().execute( work );
-	}
-
-	private class Transaction<T> implements Stage.Transaction {
-		boolean rollback;
-		Throwable error;
-
-		CompletionStage<T> execute(Function<Stage.Transaction, CompletionStage<T>> work) {
-			return begin()
-					.thenCompose( v -> work.apply( this ) )
-					// only flush() if the work completed with no exception
-					.thenCompose( result -> flush().thenApply( v -> result ) )
-					// have to capture the error here and pass it along,
-					// since we can't just return a CompletionStage that
-					// rolls back the transaction from the handle() function
-					.handle( this::processError )
-					// finally, commit or rollback the transaction, and
-					// then rethrow the caught error if necessary
-					.thenCompose(
-							result -> end()
-									// make sure that if rollback() throws,
-									// the original error doesn't get swallowed
-									.handle( this::processError )
-									// finally rethrow the original error, if any
-									.thenApply( v -> returnOrRethrow( error, result ) )
-					);
-		}
-
-		CompletionStage<Void> flush() {
-			return delegate.reactiveAutoflush();
-		}
-
-		CompletionStage<Void> begin() {
-			return delegate.getReactiveConnection().beginTransaction();
-		}
-
-		CompletionStage<Void> end() {
-			ReactiveActionQueue actionQueue = delegate.getReactiveActionQueue();
-			return actionQueue.beforeTransactionCompletion()
-					.thenApply( v -> delegate.getReactiveConnection() )
-					.thenCompose( c -> rollback ? c.rollbackTransaction() : c.commitTransaction() )
-					.thenCompose( v -> actionQueue.afterTransactionCompletion( !rollback ) );
-		}
-
-		<R> R processError(R result, Throwable e) {
-			if ( e!=null ) {
-				rollback = true;
-				if (error == null) {
-					error = e;
-				}
-				else {
-					error.addSuppressed(e);
-				}
-			}
-			return result;
-		}
-
-		@Override
-		public void markForRollback() {
-			rollback = true;
-		}
-
-		@Override
-		public boolean isMarkedForRollback() {
-			return rollback;
-		}
+		return new ReactiveExecution.Transaction<T>( delegate ).execute( work );
 	}
 
 	@Override
@@ -449,6 +391,11 @@ public void close() {
 		delegate.close();
 	}
 
+	@Override
+	public StatementStatistics getStatementStatistics() {
+		return delegate.getStatementStatistics();
+	}
+
 	@Override
 	public boolean isOpen() {
 		return delegate.isOpen();
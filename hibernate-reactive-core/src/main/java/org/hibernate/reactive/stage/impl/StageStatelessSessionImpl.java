@@ -7,6 +7,7 @@
 
 import org.hibernate.LockMode;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.pool.StatementStatistics;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.stage.Stage;
 
@@ -95,6 +96,11 @@ public void close() {
         delegate.close();
     }
 
+    @Override
+    public StatementStatistics getStatementStatistics() {
+        return delegate.getStatementStatistics();
+    }
+
     @Override
     public boolean isOpen() {
         return delegate.isOpen();
@@ -5,15 +5,15 @@
  */
 package org.hibernate.reactive.util.impl;
 
-import com.ibm.asyncutil.iteration.AsyncIterator;
-import com.ibm.asyncutil.iteration.AsyncTrampoline;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -100,32 +100,49 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 		}
 	}
 
-	public static <T> CompletionStage<Integer> total(int start, int end, Function<Integer,CompletionStage<Integer>> consumer) {
-		return AsyncIterator.range( start, end )
-				.thenCompose( (i) -> consumer.apply( i.intValue() ) )
-				.fold(0, (total, next) -> total+next );
+	public static CompletionStage<Integer> total(int start, int end, Function<Integer,CompletionStage<Integer>> consumer) {
+		int[] total = new int[1];
+		return loop( start, end, i -> consumer.apply( i ).thenAccept( n -> total[0] += n ) )
+				.thenApply( v -> total[0] );
 	}
 
 	public static <T> CompletionStage<Integer> total(T[] array, Function<T,CompletionStage<Integer>> consumer) {
-		return AsyncIterator.range( 0, array.length )
-				.thenCompose( (i) -> consumer.apply( array[i.intValue()] ) )
-				.fold(0, (total, next) -> total+next );
+		int[] total = new int[1];
+		return loop( array, t -> consumer.apply( t ).thenAccept( n -> total[0] += n ) )
+				.thenApply( v -> total[0] );
 	}
 
 	public static <T> CompletionStage<Void> loop(T[] array, Function<T,CompletionStage<?>> consumer) {
-//		return AsyncIterator.range( 0, array.length )
-//				.forEach( (i) -> consumer.apply( array[i.intValue()]) );
-		return loop( Arrays.stream(array), consumer );
+		if ( array.length == 0 ) {
+			return voidFuture();
+		}
+		return new Loop() {
+			int index = 0;
+			@Override
+			boolean hasNext() {
+				return index < array.length;
+			}
+			@Override
+			CompletionStage<?> next() {
+				return consumer.apply( array[index++] );
+			}
+		}.start();
 	}
 
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, Function<T,CompletionStage<?>> consumer) {
-		if ( iterator.hasNext() ) {
-			return AsyncTrampoline.asyncWhile( () -> consumer.apply( iterator.next() )
-					.thenApply( r -> iterator.hasNext() ));
-		}
-		else {
+		if ( !iterator.hasNext() ) {
 			return voidFuture();
 		}
+		return new Loop() {
+			@Override
+			boolean hasNext() {
+				return iterator.hasNext();
+			}
+			@Override
+			CompletionStage<?> next() {
+				return consumer.apply( iterator.next() );
+			}
+		}.start();
 	}
 
 	public static <T> CompletionStage<Void> loop(Iterable<T> iterable, Function<T,CompletionStage<?>> consumer) {
@@ -141,6 +158,100 @@ public static CompletionStage<Void> loop(IntStream stream, Function<Integer,Comp
 	}
 
 	public static CompletionStage<Void> loop(int start, int end, Function<Integer,CompletionStage<?>> consumer) {
-		return loop( IntStream.range(start, end), consumer );
+		if ( start >= end ) {
+			return voidFuture();
+		}
+		return new Loop() {
+			int index = start;
+			@Override
+			boolean hasNext() {
+				return index < end;
+			}
+			@Override
+			CompletionStage<?> next() {
+				return consumer.apply( index++ );
+			}
+		}.start();
+	}
+
+	/**
+	 * Runs a sequence of asynchronous steps one after the other.
+	 * <p>
+	 * Stages which are already complete when they are returned, which
+	 * is the case for most stages during a flush, are consumed directly
+	 * in a plain loop, without registering any continuation. Only when
+	 * a step returns an incomplete stage does the loop register itself
+	 * as the continuation of that stage, and return. It resumes on the
+	 * thread which completes the stage, unless the stage completed while
+	 * the continuation was being registered, in which case it continues
+	 * on the current thread, so the stack never grows with the number
+	 * of steps.
+	 * <p>
+	 * The loop is its own continuation and its own hand-off flag, so a
+	 * whole loop allocates a single object in addition to the stage it
+	 * returns.
+	 */
+	private abstract static class Loop extends AtomicInteger implements BiConsumer<Object, Throwable> {
+		private static final long serialVersionUID = 1L;
+
+		// states of the hand-off between the thread running the
+		// loop and the thread completing a pending stage
+		private static final int PENDING = 0;
+		private static final int COMPLETED = 1;
+		private static final int SUSPENDED = 2;
+
+		private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+		abstract boolean hasNext();
+
+		abstract CompletionStage<?> next();
+
+		CompletionStage<Void> start() {
+			run();
+			return result;
+		}
+
+		private void run() {
+			try {
+				while ( hasNext() ) {
+					CompletionStage<?> stage = next();
+					if ( stage instanceof CompletableFuture && ( (CompletableFuture<?>) stage ).isDone() ) {
+						CompletableFuture<?> future = (CompletableFuture<?>) stage;
+						if ( future.isCompletedExceptionally() ) {
+							future.whenComplete( this );
+							return;
+						}
+					}
+					else {
+						set( PENDING );
+						stage.whenComplete( this );
+						if ( compareAndSet( PENDING, SUSPENDED ) || result.isDone() ) {
+							// the loop resumes when the stage completes
+							return;
+						}
+						// otherwise the stage completed on this thread
+						// while we were registering the continuation
+					}
+				}
+				result.complete( null );
+			}
+			catch (Throwable t) {
+				result.completeExceptionally( t );
+			}
+		}
+
+		@Override
+		public void accept(Object value, Throwable failure) {
+			if ( failure != null ) {
+				result.completeExceptionally(
+						failure instanceof CompletionException
+								? failure
+								: new CompletionException( failure )
+				);
+			}
+			else if ( !compareAndSet( PENDING, COMPLETED ) ) {
+				run();
+			}
+		}
 	}
 }
@@ -10,6 +10,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
 import org.junit.Test;
 
 import javax.persistence.CascadeType;
@@ -33,6 +34,7 @@
 import java.util.List;
 import java.util.Objects;
 
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 public class BatchFetchTest extends BaseReactiveTest {
@@ -97,6 +99,34 @@ public void testQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testBatchesOfDifferentSizes(TestContext context) {
+
+		Node a = new Node("A");
+		Node b = new Node("B");
+		Node c = new Node("C");
+
+		// on PostgreSQL, the ids are bound as a single array,
+		// so both batches are loaded by the same SQL statement
+		long distinctStatements = dbType() == DBType.POSTGRESQL ? 1 : 2;
+
+		test( context,
+				getSessionFactory()
+						.withTransaction( (s, tx) -> s.persist(a, b, c) )
+						.thenApply( v -> openSession() )
+						.thenCompose( s -> s.find( Node.class, a.id, b.id )
+								.thenAccept( list -> context.assertEquals( list.size(), 2 ) )
+								.thenApply( v -> s.clear() )
+								.thenCompose( v -> s.find( Node.class, a.id, b.id, c.id ) )
+								.thenAccept( list -> {
+									context.assertEquals( list.size(), 3 );
+									context.assertEquals( 2L, s.getStatementStatistics().getStatementCount() );
+									context.assertEquals( distinctStatements, s.getStatementStatistics().getDistinctStatementCount() );
+								} )
+						)
+		);
+	}
+
 	@Entity(name = "Element") @Table(name="Element")
 	public static class Element {
 		@Id @GeneratedValue Integer id;
@@ -0,0 +1,91 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.BlockingDetectingConnection;
+import org.hibernate.reactive.provider.Settings;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Operations with detection of code which blocks the event loop
+ * enabled, where every section is reported.
+ */
+public class BlockingDetectionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Tool.class );
+		configuration.setProperty( Settings.BLOCKING_DETECTION_THRESHOLD, "1" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Tool" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testSlowContinuation(TestContext context) {
+		final long blockedSections = BlockingDetectingConnection.getBlockedSectionCount();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Tool( 1, "hammer" ), new Tool( 2, "saw" ) ) )
+				.thenCompose( v -> openSession().find( Tool.class, 1 ) )
+				.thenApply( tool -> {
+					// deliberately block whichever thread we're on
+					try {
+						Thread.sleep( 5 );
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return tool;
+				} )
+				.thenAccept( tool -> context.assertEquals( "hammer", tool.name ) )
+				// the section is only reported once it ends, so check
+				// after the result of the next statement arrives
+				.thenCompose( v -> openSession().find( Tool.class, 2 ) )
+				.thenAccept( tool -> context.assertTrue(
+						BlockingDetectingConnection.getBlockedSectionCount() > blockedSections
+				) )
+		);
+	}
+
+	@Test
+	public void testFailurePropagated(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Tool( 1, "hammer" ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( (s, tx) -> s.persist( new Tool( 1, "wrench" ) ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Entity(name = "Tool")
+	@Table(name = "BlockingTool")
+	public static class Tool {
+		@Id Integer id;
+		String name;
+
+		Tool(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Tool() {}
+	}
+}
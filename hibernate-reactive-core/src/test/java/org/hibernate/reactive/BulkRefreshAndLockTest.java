@@ -0,0 +1,283 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.LockMode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.lock.OptimisticEntityLockException;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Refresh and lock of multiple instances at once, which are performed
+ * using one query per entity type.
+ */
+public class BulkRefreshAndLockTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Seat.class );
+		configuration.addAnnotatedClass( QuotedSeat.class );
+		configuration.addAnnotatedClass( Berth.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Seat" ).executeUpdate()
+						.thenCompose( v -> session.createQuery( "delete from QuotedSeat" ).executeUpdate() )
+						.thenCompose( v -> session.createQuery( "delete from Berth" ).executeUpdate() ) ) );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return getSessionFactory().withTransaction( (s, tx) -> s.persist(
+				new Seat( 1, "1A" ),
+				new Seat( 2, "1B" ),
+				new Seat( 3, "1C" )
+		) );
+	}
+
+	@Test
+	public void testRefreshAll(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Seat.class, 1, 2, 3 )
+						.thenCompose( seats -> s
+								.createQuery( "update Seat set holder = 'Gavin'" )
+								.executeUpdate()
+								.thenCompose( count -> s.refresh( seats.toArray() ) )
+								.thenAccept( vv -> seats.forEach( seat -> {
+									context.assertEquals( "Gavin", seat.holder );
+									context.assertTrue( s.contains( seat ) );
+								} ) ) ) ) )
+		);
+	}
+
+	@Test
+	public void testLockAll(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Seat.class, 1, 2, 3 )
+						.thenCompose( seats -> s.lock( LockMode.PESSIMISTIC_WRITE, seats.toArray() )
+								.thenAccept( vv -> seats.forEach( seat -> context.assertEquals(
+										LockMode.PESSIMISTIC_WRITE,
+										s.getLockMode( seat )
+								) ) ) ) ) )
+		);
+	}
+
+	@Test
+	public void testLockAllWithQuotedColumns(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new QuotedSeat( 1, "1A" ),
+						new QuotedSeat( 2, "1B" ),
+						new QuotedSeat( 3, "1C" )
+				) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( QuotedSeat.class, 1, 2, 3 )
+						.thenCompose( seats -> s.lock( LockMode.PESSIMISTIC_WRITE, seats.toArray() )
+								.thenAccept( vv -> seats.forEach( seat -> context.assertEquals(
+										LockMode.PESSIMISTIC_WRITE,
+										s.getLockMode( seat )
+								) ) ) ) ) )
+		);
+	}
+
+	@Test
+	public void testLockAllWithCompositeId(TestContext context) {
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Berth( 1, "A" ),
+						new Berth( 1, "B" ),
+						new Berth( 2, "A" )
+				) )
+				.thenCompose( v -> session.withTransaction( tx -> session
+						.createQuery( "from Berth", Berth.class )
+						.getResultList()
+						.thenCompose( berths -> session.lock( LockMode.PESSIMISTIC_WRITE, berths.toArray() )
+								.thenAccept( vv -> {
+									berths.forEach( berth -> context.assertEquals(
+											LockMode.PESSIMISTIC_WRITE,
+											session.getLockMode( berth )
+									) );
+									// the query, and a single lock for all three berths
+									context.assertEquals( 2L, statistics.getStatementCount() );
+								} ) ) ) )
+		);
+	}
+
+	@Test
+	public void testOptimisticLockAllStaleWithCompositeId(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Berth( 1, "A" ),
+						new Berth( 1, "B" ),
+						new Berth( 2, "A" )
+				) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Berth", Berth.class )
+						.getResultList()
+						.thenCompose( berths -> s.lock( LockMode.OPTIMISTIC, berths.toArray() ) )
+						.thenCompose( vv -> s
+								.createQuery( "update versioned Berth set holder = 'Gavin' where deck = 1 and letter = 'B'" )
+								.executeUpdate() ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof OptimisticEntityLockException );
+					Berth stale = (Berth) ( (OptimisticEntityLockException) e.getCause() ).getEntity();
+					context.assertEquals( 1, stale.deck );
+					context.assertEquals( "B", stale.letter );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testLockAllStale(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Seat.class, 1, 2, 3 )
+						.thenCompose( seats -> s
+								.createQuery( "update versioned Seat set holder = 'Gavin' where id = 2" )
+								.executeUpdate()
+								.thenCompose( count -> s.lock( LockMode.PESSIMISTIC_WRITE, seats.toArray() ) ) ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof OptimisticLockException );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testOptimisticForceIncrementAll(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Seat.class, 1, 2, 3 )
+						.thenCompose( seats -> s.lock( LockMode.OPTIMISTIC_FORCE_INCREMENT, seats.toArray() ) ) ) )
+				.thenCompose( v -> openSession().find( Seat.class, 1, 2, 3 ) )
+				.thenAccept( seats -> seats.forEach( seat -> context.assertEquals( 1, seat.version ) ) )
+		);
+	}
+
+	@Test
+	public void testOptimisticLockAllStale(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Seat.class, 1, 2, 3 )
+						.thenCompose( seats -> s.lock( LockMode.OPTIMISTIC, seats.toArray() ) )
+						.thenCompose( vv -> s
+								.createQuery( "update versioned Seat set holder = 'Gavin' where id = 3" )
+								.executeUpdate() ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof OptimisticEntityLockException );
+					Seat stale = (Seat) ( (OptimisticEntityLockException) e.getCause() ).getEntity();
+					context.assertEquals( 3, stale.id );
+					return null;
+				} )
+				.thenCompose( v -> openSession().find( Seat.class, 3 ) )
+				.thenAccept( seat -> context.assertNull( seat.holder ) )
+		);
+	}
+
+	@Entity(name = "Seat")
+	@Table(name = "BulkLockSeat")
+	public static class Seat {
+		@Id Integer id;
+		String label;
+		String holder;
+		@Version Integer version;
+
+		Seat(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+
+		Seat() {}
+	}
+
+	@Entity(name = "QuotedSeat")
+	@Table(name = "BulkLockQuotedSeat")
+	public static class QuotedSeat {
+		@Id @Column(name = "`Id`") Integer id;
+		@Column(name = "`Label`") String label;
+		@Version @Column(name = "`Version`") Integer version;
+
+		QuotedSeat(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+
+		QuotedSeat() {}
+	}
+
+	public static class BerthId implements Serializable {
+		Integer deck;
+		String letter;
+
+		BerthId(Integer deck, String letter) {
+			this.deck = deck;
+			this.letter = letter;
+		}
+
+		BerthId() {}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			BerthId berthId = (BerthId) o;
+			return Objects.equals( deck, berthId.deck )
+					&& Objects.equals( letter, berthId.letter );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( deck, letter );
+		}
+	}
+
+	@Entity(name = "Berth")
+	@Table(name = "BulkLockBerth")
+	@IdClass(BerthId.class)
+	public static class Berth {
+		@Id Integer deck;
+		@Id String letter;
+		String holder;
+		@Version Integer version;
+
+		Berth(Integer deck, String letter) {
+			this.deck = deck;
+			this.letter = letter;
+		}
+
+		Berth() {}
+	}
+}
@@ -0,0 +1,129 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+/**
+ * Schema export which creates tables and indexes concurrently,
+ * followed by the foreign keys.
+ */
+public class ConcurrentSchemaExportTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Continent.class );
+		configuration.addAnnotatedClass( Country.class );
+		configuration.addAnnotatedClass( City.class );
+		configuration.setProperty( Settings.SCHEMA_EXPORT_CONNECTIONS, "3" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from City" ).executeUpdate()
+						.thenCompose( v -> session.createQuery( "delete from Country" ).executeUpdate() )
+						.thenCompose( v -> session.createQuery( "delete from Continent" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void testSchemaCreated(TestContext context) {
+		Continent europe = new Continent( 1, "Europe" );
+		Country italy = new Country( 1, "Italy", europe );
+		City rome = new City( 1, "Rome", italy );
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( europe, italy, rome ) )
+				.thenCompose( v -> openSession()
+						.createQuery( "from City c join fetch c.country co join fetch co.continent", City.class )
+						.getSingleResult() )
+				.thenAccept( city -> context.assertEquals( "Europe", city.country.continent.name ) )
+		);
+	}
+
+	@Test
+	public void testForeignKeyCreated(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s
+						.createNativeQuery( "insert into ExportCity (id, name, country_id) values (1, 'Atlantis', 99)" )
+						.executeUpdate() )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testUniqueKeyCreated(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Continent( 1, "Asia" ), new Continent( 2, "Asia" ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Entity(name = "Continent")
+	@Table(name = "ExportContinent")
+	public static class Continent {
+		@Id Integer id;
+		@Column(unique = true)
+		String name;
+
+		Continent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Continent() {}
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "ExportCountry", indexes = @Index(columnList = "name"))
+	public static class Country {
+		@Id Integer id;
+		String name;
+		@ManyToOne Continent continent;
+
+		Country(Integer id, String name, Continent continent) {
+			this.id = id;
+			this.name = name;
+			this.continent = continent;
+		}
+
+		Country() {}
+	}
+
+	@Entity(name = "City")
+	@Table(name = "ExportCity", indexes = @Index(columnList = "name"))
+	public static class City {
+		@Id Integer id;
+		String name;
+		@ManyToOne Country country;
+
+		City(Integer id, String name, Country country) {
+			this.id = id;
+			this.name = name;
+			this.country = country;
+		}
+
+		City() {}
+	}
+}
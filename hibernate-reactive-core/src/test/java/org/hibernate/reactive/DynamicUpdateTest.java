@@ -0,0 +1,254 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.tuple.entity.EntityMetamodel;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Repeated updates of entities with dynamic update and "dirty" or "all"
+ * optimistic locking, which reuse the cached dynamically generated SQL.
+ */
+public class DynamicUpdateTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Planet.class );
+		configuration.addAnnotatedClass( Moon.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session
+						.createQuery( "delete from Planet" )
+						.executeUpdate()
+						.thenCompose( v -> session.createQuery( "delete from Moon" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void repeatedDynamicUpdates(TestContext context) {
+		final Planet planet = new Planet( 1, "Earth", null );
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( planet ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Planet.class, planet.getId() )
+						.thenAccept( found -> found.setDescription( "blue" ) ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Planet.class, planet.getId() )
+						.thenAccept( found -> found.setDescription( "pale blue dot" ) ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Planet.class, planet.getId() )
+						.thenAccept( found -> {
+							found.setName( "Terra" );
+							found.setDescription( null );
+						} ) ) )
+				.thenCompose( v -> openSession().find( Planet.class, planet.getId() ) )
+				.thenAccept( found -> {
+					context.assertEquals( "Terra", found.getName() );
+					context.assertNull( found.getDescription() );
+				} )
+		);
+	}
+
+	@Test
+	public void dynamicUpdateStringIsCached(TestContext context) {
+		ReactiveAbstractEntityPersister persister = (ReactiveAbstractEntityPersister)
+				( (MetamodelImplementor) getSessionFactory().getMetamodel() ).entityPersister( Planet.class );
+		EntityMetamodel metamodel = persister.getEntityMetamodel();
+		int description = metamodel.getPropertyIndex( "description" );
+		int name = metamodel.getPropertyIndex( "name" );
+		boolean[] includeDescription = new boolean[metamodel.getPropertySpan()];
+		includeDescription[description] = true;
+
+		Object[] mercury = new Object[metamodel.getPropertySpan()];
+		mercury[name] = "Mercury";
+		Object[] venus = new Object[metamodel.getPropertySpan()];
+		venus[name] = "Venus";
+		Object[] mars = new Object[metamodel.getPropertySpan()];
+		mars[name] = "Mars";
+		mars[description] = "red";
+
+		String sql = persister.getDynamicUpdateString( includeDescription, 0, mercury, false );
+		// the same string is reused for the same nullness of the old values
+		context.assertTrue( sql == persister.getDynamicUpdateString( includeDescription, 0, venus, false ) );
+		context.assertNotEquals( sql, persister.getDynamicUpdateString( includeDescription, 0, mars, false ) );
+	}
+
+	@Test
+	public void sameDirtyPropertiesShareUpdateStatement(TestContext context) {
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Planet( 1, "Mercury", null ),
+						new Planet( 2, "Venus", null ),
+						new Planet( 3, "Mars", "red" )
+				) )
+				.thenCompose( v -> session.withTransaction( tx -> session
+						.createQuery( "from Planet", Planet.class )
+						.getResultList()
+						.thenAccept( planets -> planets.forEach( planet -> planet.setDescription( "rocky" ) ) ) ) )
+				.thenAccept( v -> {
+					// one query, and one update per planet
+					context.assertEquals( 4L, statistics.getStatementCount() );
+					// the updates differ only by the nullness of the old description
+					context.assertEquals( 3L, statistics.getDistinctStatementCount() );
+				} )
+				.thenCompose( v -> openSession().createQuery( "from Planet where description = 'rocky'", Planet.class )
+						.getResultList() )
+				.thenAccept( planets -> context.assertEquals( 3, planets.size() ) )
+		);
+	}
+
+	@Test
+	public void repeatedDeletesWithAllOptimisticLocking(TestContext context) {
+		final Moon io = new Moon( 1, "Io", "volcanic" );
+		final Moon europa = new Moon( 2, "Europa", null );
+		final Moon ganymede = new Moon( 3, "Ganymede", "icy" );
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( io, europa, ganymede ) )
+				.thenCompose( v -> session.withTransaction( tx -> session
+						.createQuery( "from Moon", Moon.class )
+						.getResultList()
+						.thenCompose( moons -> session.remove( moons.toArray() ) ) ) )
+				.thenAccept( v -> {
+					// one query, and one delete per moon
+					context.assertEquals( 4L, statistics.getStatementCount() );
+					// the deletes differ only by the nullness of the surface
+					context.assertEquals( 3L, statistics.getDistinctStatementCount() );
+				} )
+				.thenCompose( v -> openSession().find( Moon.class, io.getId(), europa.getId(), ganymede.getId() ) )
+				.thenAccept( moons -> moons.forEach( context::assertNull ) )
+		);
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "DynamicPlanet")
+	@DynamicUpdate
+	@OptimisticLocking(type = OptimisticLockType.DIRTY)
+	public static class Planet {
+		@Id
+		private Integer id;
+		private String name;
+		private String description;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name, String description) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Planet planet = (Planet) o;
+			return Objects.equals( name, planet.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+
+	@Entity(name = "Moon")
+	@Table(name = "DynamicMoon")
+	@DynamicUpdate
+	@OptimisticLocking(type = OptimisticLockType.ALL)
+	public static class Moon {
+		@Id
+		private Integer id;
+		private String name;
+		private String surface;
+
+		public Moon() {
+		}
+
+		public Moon(Integer id, String name, String surface) {
+			this.id = id;
+			this.name = name;
+			this.surface = surface;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getSurface() {
+			return surface;
+		}
+
+		public void setSurface(String surface) {
+			this.surface = surface;
+		}
+	}
+}
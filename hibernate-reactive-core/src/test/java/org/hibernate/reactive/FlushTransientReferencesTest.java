@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.TransientPropertyValueException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Flush of managed entities referencing detached and transient entities
+ * via non-cascaded associations, where the existence of the referenced
+ * entities is checked in batches.
+ */
+public class FlushTransientReferencesTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.addAnnotatedClass( Publisher.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Book" ).executeUpdate()
+						.thenCompose( v -> session.createQuery( "delete from Publisher" ).executeUpdate() ) ) );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return populateDB( 5, 10 );
+	}
+
+	private CompletionStage<Void> populateDB(int publishers, int books) {
+		return getSessionFactory().withTransaction( (s, tx) -> {
+			Object[] entities = new Object[publishers + books];
+			for ( int i = 0; i < publishers; i++ ) {
+				entities[i] = new Publisher( i, "publisher " + i );
+			}
+			for ( int i = 0; i < books; i++ ) {
+				entities[publishers + i] = new Book( i, "book " + i, null );
+			}
+			return s.persist( entities );
+		} );
+	}
+
+	@Test
+	public void testDetachedReferences(TestContext context) {
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, populateDB()
+				.thenCompose( v -> session.withTransaction( tx -> session
+						.createQuery( "from Book", Book.class )
+						.getResultList()
+						.thenAccept( books -> books.forEach( book -> book.publisher =
+								new Publisher( book.id % 5, "publisher " + book.id % 5 ) ) ) ) )
+				.thenAccept( v -> {
+					// the query, one existence check, and an update per book
+					context.assertEquals( 1L + 1L + 10L, statistics.getStatementCount() );
+				} )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Book b join fetch b.publisher order by b.id", Book.class )
+						.getResultList() )
+				.thenAccept( books -> {
+					context.assertEquals( 10, books.size() );
+					for ( Book book : books ) {
+						context.assertEquals( book.id % 5, book.publisher.id );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testManyDetachedReferences(TestContext context) {
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, populateDB( 120, 120 )
+				.thenCompose( v -> session.withTransaction( tx -> session
+						.createQuery( "from Book", Book.class )
+						.getResultList()
+						.thenAccept( books -> books.forEach( book -> book.publisher =
+								new Publisher( book.id, "publisher " + book.id ) ) ) ) )
+				.thenAccept( v -> {
+					// the existence checks are split into in lists of at most 50 elements
+					context.assertEquals( 1L + 3L + 120L, statistics.getStatementCount() );
+					context.assertEquals( 1L + 2L + 1L, statistics.getDistinctStatementCount() );
+				} )
+				.thenCompose( v -> openSession()
+						.createQuery( "select count(*) from Book b where b.publisher.id = b.id", Long.class )
+						.getSingleResult() )
+				.thenAccept( count -> context.assertEquals( 120L, count ) )
+		);
+	}
+
+	@Test
+	public void testTransientReference(TestContext context) {
+		test( context, populateDB()
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Book", Book.class )
+						.getResultList()
+						.thenAccept( books -> {
+							books.forEach( book -> book.publisher = new Publisher( book.id % 5, "publisher" ) );
+							books.get( 0 ).publisher = new Publisher( 99, "unsaved" );
+						} ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof TransientPropertyValueException );
+					return null;
+				} )
+				.thenCompose( v -> openSession().createQuery( "from Book b where b.publisher is not null", Book.class )
+						.getResultList() )
+				.thenAccept( (List<Book> books) -> context.assertTrue( books.isEmpty() ) )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "FlushBook")
+	public static class Book {
+		@Id Integer id;
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+
+		Book(Integer id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+
+		Book() {}
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "FlushPublisher")
+	public static class Publisher {
+		@Id Integer id;
+		String name;
+
+		Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Publisher() {}
+	}
+}
@@ -0,0 +1,116 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Arrays.asList;
+
+public class InClauseParameterPaddingTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Person.class );
+		configuration.setProperty( Settings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+		configuration.setProperty( Settings.DEFAULT_BATCH_FETCH_SIZE, "16" );
+		// on PostgreSQL, bind the batch as a list of parameters, so that it's padded
+		configuration.setProperty( Settings.BATCH_FETCH_ARRAY_PARAMETER, "false" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Person" ).executeUpdate() ) );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist(
+						new Person( 1, "Alice" ),
+						new Person( 2, "Bob" ),
+						new Person( 3, "Carol" ),
+						new Person( 4, "Dave" ),
+						new Person( 5, "Eve" )
+				) );
+	}
+
+	@Test
+	public void testPaddedListParameter(TestContext context) {
+		Stage.Session session = openSession();
+		StatementStatistics statistics = session.getStatementStatistics();
+		test( context, populateDB()
+				.thenCompose( v -> session
+						.createQuery( "select name from Person where id in :ids order by name", String.class )
+						.setParameter( "ids", asList( 1, 2, 3 ) )
+						.getResultList() )
+				.thenAccept( names -> context.assertEquals( asList( "Alice", "Bob", "Carol" ), names ) )
+				// 3 and 4 values are both padded to 4 parameters
+				.thenCompose( v -> session
+						.createQuery( "select name from Person where id in :ids order by name", String.class )
+						.setParameter( "ids", asList( 4, 3, 2, 1 ) )
+						.getResultList() )
+				.thenAccept( names -> {
+					context.assertEquals( 4, names.size() );
+					context.assertEquals( 2L, statistics.getStatementCount() );
+					context.assertEquals( 1L, statistics.getDistinctStatementCount() );
+				} )
+				// 5 values are padded to 8 parameters
+				.thenCompose( v -> session
+						.createQuery( "select name from Person where id in :ids order by name", String.class )
+						.setParameter( "ids", asList( 5, 4, 3, 2, 1 ) )
+						.getResultList() )
+				.thenAccept( names -> {
+					context.assertEquals( 5, names.size() );
+					context.assertEquals( 2L, statistics.getDistinctStatementCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testPaddedBatchLoad(TestContext context) {
+		Stage.Session session = openSession();
+		StatementStatistics statistics = session.getStatementStatistics();
+		test( context, populateDB()
+				.thenCompose( v -> session.find( Person.class, 1, 2, 3 ) )
+				.thenAccept( people -> context.assertEquals( 3, people.size() ) )
+				.thenApply( v -> session.clear() )
+				// 3 and 4 ids are both padded to 4 parameters
+				.thenCompose( v -> session.find( Person.class, 1, 2, 3, 4 ) )
+				.thenAccept( people -> {
+					context.assertEquals( 4, people.size() );
+					context.assertEquals( 2L, statistics.getStatementCount() );
+					context.assertEquals( 1L, statistics.getDistinctStatementCount() );
+				} )
+		);
+	}
+
+	@Entity(name = "Person")
+	@Table(name = "PaddedPerson")
+	public static class Person {
+		@Id Integer id;
+		String name;
+
+		Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Person() {}
+	}
+}
@@ -0,0 +1,158 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.Keyset;
+import org.hibernate.reactive.common.KeysetPage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+
+public class KeysetPaginationTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Post.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Post" ).executeUpdate() ) );
+	}
+
+	private static List<Integer> ids(KeysetPage<Post> page) {
+		return page.getResults().stream().map( post -> post.id ).collect( Collectors.toList() );
+	}
+
+	@Test
+	public void testKeysetPagination(TestContext context) {
+		Keyset keyset = Keyset.orderBy( "p.score desc", "p.id" );
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist(
+						new Post( 1, "one", 10 ),
+						new Post( 2, "two", 30 ),
+						new Post( 3, "three", 20 ),
+						new Post( 4, "four", 30 ),
+						new Post( 5, "five", 10 ),
+						new Post( 6, "six", 0 )
+				) )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Post p where p.score > 0", Post.class )
+						.getKeysetPage( keyset, 2 ) )
+				.thenCompose( page -> {
+					context.assertEquals( asList( 2, 4 ), ids( page ) );
+					context.assertTrue( page.hasNext() );
+					return openSession()
+							.createQuery( "from Post p where p.score > 0", Post.class )
+							.getKeysetPage( keyset.after( page.getNextCursor() ), 2 );
+				} )
+				.thenCompose( page -> {
+					context.assertEquals( asList( 3, 1 ), ids( page ) );
+					context.assertTrue( page.hasNext() );
+					return openSession()
+							.createQuery( "from Post p where p.score > 0", Post.class )
+							.getKeysetPage( keyset.after( page.getNextCursor() ), 2 );
+				} )
+				.thenAccept( page -> {
+					context.assertEquals( asList( 5 ), ids( page ) );
+					context.assertFalse( page.hasNext() );
+					context.assertNull( page.getNextCursor() );
+				} )
+		);
+	}
+
+	@Test
+	public void testMutinyKeysetPaginationAfterValues(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (session, tx) -> session.persistAll(
+						new Post( 1, "one", 10 ),
+						new Post( 2, "two", 20 ),
+						new Post( 3, "three", 30 )
+				) )
+				.chain( () -> openMutinySession()
+						.createQuery( "from Post", Post.class )
+						.getKeysetPage( Keyset.orderBy( "id" ).after( 1 ), 5 ) )
+				.invoke( page -> {
+					context.assertEquals( asList( 2, 3 ), ids( page ) );
+					context.assertFalse( page.hasNext() );
+				} )
+		);
+	}
+
+	@Test
+	public void testFirstResultAppliesToFirstPageOnly(TestContext context) {
+		Keyset keyset = Keyset.orderBy( "id" );
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist(
+						new Post( 1, "one", 10 ),
+						new Post( 2, "two", 20 ),
+						new Post( 3, "three", 30 ),
+						new Post( 4, "four", 40 ),
+						new Post( 5, "five", 50 )
+				) )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Post", Post.class )
+						.setFirstResult( 1 )
+						.getKeysetPage( keyset, 2 ) )
+				.thenCompose( page -> {
+					context.assertEquals( asList( 2, 3 ), ids( page ) );
+					return openSession()
+							.createQuery( "from Post", Post.class )
+							.setFirstResult( 1 )
+							.getKeysetPage( keyset.after( page.getNextCursor() ), 2 );
+				} )
+				.thenAccept( page -> {
+					context.assertEquals( asList( 4, 5 ), ids( page ) );
+					context.assertFalse( page.hasNext() );
+				} )
+		);
+	}
+
+	@Test
+	public void testNullKeyValue(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist(
+						new Post( 1, "one", null ),
+						new Post( 2, "two", null )
+				) )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Post", Post.class )
+						.getKeysetPage( Keyset.orderBy( "score", "id" ), 1 ) )
+				.handle( (page, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Entity(name = "Post")
+	@Table(name = "KeysetPost")
+	public static class Post {
+		@Id Integer id;
+		String title;
+		Integer score;
+
+		Post(Integer id, String title, Integer score) {
+			this.id = id;
+			this.title = title;
+			this.score = score;
+		}
+
+		Post() {}
+	}
+}
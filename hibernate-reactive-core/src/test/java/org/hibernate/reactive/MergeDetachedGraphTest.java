@@ -0,0 +1,142 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merge of a detached object graph, where the persistent copies
+ * of the detached children are preloaded in batches.
+ */
+public class MergeDetachedGraphTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Basket.class );
+		configuration.addAnnotatedClass( Fruit.class );
+		configuration.addAnnotatedClass( Farm.class );
+		// don't let the "merge" loader of the root join fetch the whole graph
+		configuration.setProperty( Settings.MAX_FETCH_DEPTH, "0" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Fruit" ).executeUpdate()
+						.thenCompose( v -> session.createQuery( "delete from Basket" ).executeUpdate() )
+						.thenCompose( v -> session.createQuery( "delete from Farm" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void testMergeDetachedGraph(TestContext context) {
+		Basket basket = new Basket( 1, "basket" );
+		for ( int i = 0; i < 20; i++ ) {
+			Fruit fruit = new Fruit( i, "fruit " + i, basket );
+			fruit.farm = new Farm( i, "farm " + i );
+			basket.fruits.add( fruit );
+		}
+
+		final Stage.Session session = openSession();
+		final StatementStatistics statistics = session.getStatementStatistics();
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( basket ) )
+				.thenAccept( v -> {
+					basket.name = "BASKET";
+					for ( Fruit fruit : basket.fruits ) {
+						fruit.name = fruit.name.toUpperCase();
+						fruit.farm.name = fruit.farm.name.toUpperCase();
+					}
+				} )
+				.thenCompose( v -> session.withTransaction( tx -> session.merge( basket ) ) )
+				.thenAccept( v -> {
+					// the basket, its collection of fruits, one batch of fruits,
+					// one batch of farms, and then an update per entity
+					context.assertEquals( 4L + 41L, statistics.getStatementCount() );
+				} )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Fruit f join fetch f.farm join fetch f.basket order by f.id", Fruit.class )
+						.getResultList() )
+				.thenAccept( fruits -> {
+					context.assertEquals( 20, fruits.size() );
+					for ( Fruit fruit : fruits ) {
+						context.assertEquals( "FRUIT " + fruit.id, fruit.name );
+						context.assertEquals( "FARM " + fruit.id, fruit.farm.name );
+						context.assertEquals( "BASKET", fruit.basket.name );
+					}
+				} )
+		);
+	}
+
+	@Entity(name = "Basket")
+	@Table(name = "MergeBasket")
+	public static class Basket {
+		@Id Integer id;
+		String name;
+
+		@OneToMany(mappedBy = "basket", cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+		List<Fruit> fruits = new ArrayList<>();
+
+		Basket(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Basket() {}
+	}
+
+	@Entity(name = "Fruit")
+	@Table(name = "MergeFruit")
+	public static class Fruit {
+		@Id Integer id;
+		String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Basket basket;
+
+		@ManyToOne(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+		Farm farm;
+
+		Fruit(Integer id, String name, Basket basket) {
+			this.id = id;
+			this.name = name;
+			this.basket = basket;
+		}
+
+		Fruit() {}
+	}
+
+	@Entity(name = "Farm")
+	@Table(name = "MergeFarm")
+	public static class Farm {
+		@Id Integer id;
+		String name;
+
+		Farm(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Farm() {}
+	}
+}
@@ -9,6 +9,7 @@
 import io.vertx.ext.unit.TestContext;
 import org.hibernate.LockMode;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.mutiny.Mutiny;
 import org.junit.Test;
 
 import javax.persistence.Entity;
@@ -32,7 +33,7 @@ private Uni<Void> populateDB() {
 		return getMutinySessionFactory()
 				.withSession(
 						session -> session.persist( new GuineaPig(5, "Aloi") )
-								.invoke(session::flush)
+								.call(session::flush)
 				);
 	}
 
@@ -98,6 +99,21 @@ public void reactiveFind2(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveFindIsLazy(TestContext context) {
+		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
+		final Mutiny.Session session = openMutinySession();
+		// nothing happens until the Uni is subscribed
+		final Uni<GuineaPig> find = session.find( GuineaPig.class, expectedPig.getId() );
+		test(
+				context,
+				populateDB()
+						.chain( () -> find )
+						.invoke( actualPig -> assertThatPigsAreEqual( context, expectedPig, actualPig ) )
+						.eventually( session::close )
+		);
+	}
+
 	@Test
 	public void reactiveFindWithLock(TestContext context) {
 		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
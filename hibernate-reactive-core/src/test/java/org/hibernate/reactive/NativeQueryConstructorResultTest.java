@@ -0,0 +1,228 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Native queries whose result class is neither an entity nor a basic
+ * type, and whose rows are passed to a constructor of the result class.
+ */
+public class NativeQueryConstructorResultTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Album.class );
+		configuration.setProperty( Settings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Settings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Settings.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.internal.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Album" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testConstructorResult(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 1, "Low", 1977 ), new Album( 2, "Heroes", 1977 ) ) )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select id, title, released from ConstructorAlbum order by id", AlbumSummary.class )
+						.getResultList() )
+				.thenAccept( list -> {
+					context.assertEquals( 2, list.size() );
+					context.assertEquals( 1, list.get( 0 ).id );
+					context.assertEquals( "Low", list.get( 0 ).title );
+					context.assertEquals( 1977, list.get( 0 ).released );
+					context.assertEquals( "Heroes", list.get( 1 ).title );
+				} )
+		);
+	}
+
+	@Test
+	public void testMutinyConstructorResult(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 3, "Lodger", 1979 ) ) )
+				.chain( () -> openMutinySession()
+						.createNativeQuery( "select title, id from ConstructorAlbum where id = ?1", AlbumTitle.class )
+						.setParameter( 1, 3 )
+						.getSingleResult() )
+				.invoke( album -> {
+					context.assertEquals( 3, album.id );
+					context.assertEquals( "Lodger", album.title );
+				} )
+		);
+	}
+
+	@Test
+	public void testNoMatchingConstructor(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 4, "Lodger", 1979 ) ) )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select id from ConstructorAlbum", AlbumTitle.class )
+						.getResultList() )
+				.handle( (list, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testNullDoesNotMakeConstructorAmbiguous(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 5, "Outside", null ) ) )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select title, released from ConstructorAlbum", AlbumRelease.class )
+						.getSingleResult() )
+				.thenAccept( album -> {
+					context.assertEquals( "Outside", album.title );
+					context.assertNull( album.released );
+					context.assertNull( album.label );
+				} )
+		);
+	}
+
+	@Test
+	public void testBasicResult(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 6, "Earthling", 1997 ) ) )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select title from ConstructorAlbum", String.class )
+						.getSingleResult() )
+				.thenAccept( title -> context.assertEquals( "Earthling", title ) )
+				.thenCompose( v -> openMutinySession()
+						.createNativeQuery( "select title from ConstructorAlbum", String.class )
+						.getSingleResult()
+						.subscribeAsCompletionStage() )
+				.thenAccept( title -> context.assertEquals( "Earthling", title ) )
+		);
+	}
+
+	@Test
+	public void testCachedConstructorResult(TestContext context) {
+		final String sql = "select id, title, released from ConstructorAlbum order by id";
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 7, "Hours", 1999 ) ) )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( sql, AlbumSummary.class )
+						.setCacheable( true )
+						.getResultList() )
+				.thenCompose( v -> {
+					Stage.Session session = openSession();
+					return session.createNativeQuery( sql, AlbumSummary.class )
+							.setCacheable( true )
+							.getResultList()
+							.thenAccept( list -> {
+								// the result came from the query cache
+								context.assertEquals( 0L, session.getStatementStatistics().getStatementCount() );
+								context.assertEquals( 1, list.size() );
+								context.assertEquals( 7, list.get( 0 ).id );
+								context.assertEquals( "Hours", list.get( 0 ).title );
+								context.assertEquals( 1999, list.get( 0 ).released );
+							} );
+				} )
+		);
+	}
+
+	@Test
+	public void testSelectNew(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Album( 8, "Reality", 2003 ) ) )
+				.thenCompose( v -> openSession()
+						.createQuery( "select new " + AlbumDetail.class.getName() + "(a.id, a.title, a.released) from Album a", AlbumDetail.class )
+						.getSingleResult() )
+				.thenAccept( album -> {
+					context.assertEquals( 8, album.id );
+					context.assertEquals( "Reality", album.title );
+					context.assertEquals( 2003, album.released );
+				} )
+		);
+	}
+
+	static class AlbumSummary {
+		final int id;
+		final String title;
+		final int released;
+
+		AlbumSummary(int id, String title, int released) {
+			this.id = id;
+			this.title = title;
+			this.released = released;
+		}
+	}
+
+	static class AlbumTitle {
+		final String title;
+		final Integer id;
+
+		AlbumTitle(String title, Integer id) {
+			this.title = title;
+			this.id = id;
+		}
+	}
+
+	static class AlbumRelease {
+		final String title;
+		final Integer released;
+		final String label;
+
+		AlbumRelease(String title, Integer released) {
+			this.title = title;
+			this.released = released;
+			this.label = null;
+		}
+
+		AlbumRelease(String title, String label) {
+			this.title = title;
+			this.released = null;
+			this.label = label;
+		}
+	}
+
+	public static class AlbumDetail {
+		final Integer id;
+		final String title;
+		final Integer released;
+
+		public AlbumDetail(Integer id, String title, Integer released) {
+			this.id = id;
+			this.title = title;
+			this.released = released;
+		}
+	}
+
+	@Entity(name = "Album")
+	@Table(name = "ConstructorAlbum")
+	public static class Album {
+		@Id Integer id;
+		String title;
+		Integer released;
+
+		Album(Integer id, String title, Integer released) {
+			this.id = id;
+			this.title = title;
+			this.released = released;
+		}
+
+		Album() {}
+	}
+}
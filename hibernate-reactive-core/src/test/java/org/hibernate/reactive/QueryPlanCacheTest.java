@@ -0,0 +1,121 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.QueryPlanCacheStatistics;
+import org.hibernate.reactive.provider.Settings;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+/**
+ * Queries with compilation of query plans on a worker thread enabled,
+ * and named queries compiled at startup.
+ */
+public class QueryPlanCacheTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.setProperty( Settings.QUERY_PLAN_ASYNC_COMPILATION, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Gadget" ).executeUpdate() ) );
+	}
+
+	private QueryPlanCacheStatistics statistics() {
+		return getSessionFactory().getQueryPlanCacheStatistics();
+	}
+
+	@Test
+	public void testNamedQueryCompiledAtStartup(TestContext context) {
+		long[] misses = new long[1];
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 1, "widget" ) ) )
+				.thenCompose( v -> {
+					misses[0] = statistics().getMissCount();
+					return openSession()
+							.createNamedQuery( "gadgetsByName", Gadget.class )
+							.setParameter( "name", "widget" )
+							.getSingleResult();
+				} )
+				.thenAccept( gadget -> {
+					context.assertEquals( 1, gadget.id );
+					context.assertEquals( misses[0], statistics().getMissCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testAsyncCompilation(TestContext context) {
+		long[] compilations = new long[1];
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 1, "widget" ), new Gadget( 2, "gizmo" ) ) )
+				.thenCompose( v -> {
+					compilations[0] = statistics().getAsyncCompilationCount();
+					return openSession()
+							.createQuery( "from Gadget g where g.name like :pattern order by g.id", Gadget.class )
+							.setParameter( "pattern", "gi%" )
+							.setMaxResults( 5 )
+							.getResultList();
+				} )
+				.thenAccept( list -> {
+					context.assertEquals( 1, list.size() );
+					context.assertEquals( "gizmo", list.get( 0 ).name );
+					context.assertEquals( compilations[0] + 1, statistics().getAsyncCompilationCount() );
+				} )
+				// the second time, the plan is cached
+				.thenCompose( v -> openSession()
+						.createQuery( "from Gadget g where g.name like :pattern order by g.id", Gadget.class )
+						.setParameter( "pattern", "wi%" )
+						.getSingleResult() )
+				.thenAccept( gadget -> {
+					context.assertEquals( "widget", gadget.name );
+					context.assertEquals( compilations[0] + 1, statistics().getAsyncCompilationCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testAsyncCompilationFailure(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 1, "widget" ) ) )
+				.thenCompose( v -> openSession()
+						.createQuery( "from Gadget g where g.nonexistent = 1" )
+						.getResultList() )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					return null;
+				} )
+		);
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "PlanGadget")
+	@NamedQuery(name = "gadgetsByName", query = "from Gadget where name = :name")
+	public static class Gadget {
+		@Id Integer id;
+		String name;
+
+		Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Gadget() {}
+	}
+}
@@ -501,6 +501,43 @@ public void testNamedNativeProjectionQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testCriteriaQueryWithLiteralReusesPlan(TestContext context) {
+		Author author = new Author("Iain M. Banks");
+		Book book1 = new Book("1-85723-235-6", "Feersum Endjinn", author);
+		Book book2 = new Book("0-380-97346-4", "Cryptonomicon", author);
+		author.books.add(book1);
+		author.books.add(book2);
+
+		CriteriaBuilder builder = getSessionFactory().getCriteriaBuilder();
+		CriteriaQuery<Book> feersum = builder.createQuery(Book.class);
+		Root<Book> b = feersum.from(Book.class);
+		feersum.where( builder.equal( b.get("title"), "Feersum Endjinn" ) );
+		CriteriaQuery<Book> crypto = builder.createQuery(Book.class);
+		b = crypto.from(Book.class);
+		crypto.where( builder.equal( b.get("title"), "Cryptonomicon" ) );
+
+		long[] misses = new long[1];
+		test(context,
+				completedFuture( openSession() )
+						.thenCompose( session -> session.persist(author)
+								.thenCompose( v -> session.flush() )
+								.whenComplete( (v,err) -> session.close() )
+						)
+						.thenCompose( v -> openSession().createQuery(feersum).getSingleResult() )
+						.thenAccept( book -> {
+							context.assertEquals( "1-85723-235-6", book.isbn );
+							misses[0] = getSessionFactory().getQueryPlanCacheStatistics().getMissCount();
+						} )
+						// the literal is bound as a parameter, so the plan is reused
+						.thenCompose( v -> openSession().createQuery(crypto).getSingleResult() )
+						.thenAccept( book -> {
+							context.assertEquals( "0-380-97346-4", book.isbn );
+							context.assertEquals( misses[0], getSessionFactory().getQueryPlanCacheStatistics().getMissCount() );
+						} )
+		);
+	}
+
 	@Test
 	public void testScalarQuery(TestContext context) {
 		String sql = DatabaseConfiguration.dbType() == DatabaseConfiguration.DBType.DB2
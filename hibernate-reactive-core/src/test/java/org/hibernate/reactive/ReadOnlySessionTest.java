@@ -0,0 +1,87 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.FlushMode;
+import org.hibernate.cfg.Configuration;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+public class ReadOnlySessionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Note.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Note" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testReadOnlySession(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Note( 1, "original" ) ) )
+				.thenCompose( v -> getSessionFactory().withReadOnlySession(
+						session -> session.withTransaction( tx -> session.find( Note.class, 1 )
+								.thenAccept( note -> {
+									context.assertTrue( session.isDefaultReadOnly() );
+									context.assertEquals( FlushMode.MANUAL, session.getFlushMode() );
+									context.assertTrue( session.isReadOnly( note ) );
+									note.text = "changed";
+								} )
+								// no auto-flush before the query
+								.thenCompose( vv -> session.createQuery( "select text from Note where id = 1", String.class )
+										.getSingleResult() )
+								.thenAccept( text -> context.assertEquals( "original", text ) ) )
+				) )
+				// and no flush at the end of the transaction
+				.thenCompose( v -> openSession().find( Note.class, 1 ) )
+				.thenAccept( note -> context.assertEquals( "original", note.text ) )
+		);
+	}
+
+	@Test
+	public void testMutinyReadOnlySession(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (session, tx) -> session.persist( new Note( 2, "original" ) ) )
+				.chain( () -> getMutinySessionFactory().withReadOnlySession(
+						session -> session.createQuery( "from Note", Note.class )
+								.getSingleResult()
+								.invoke( note -> {
+									context.assertTrue( session.isReadOnly( note ) );
+									note.text = "changed";
+								} )
+								.call( session::flush )
+				) )
+				.chain( () -> openMutinySession().find( Note.class, 2 ) )
+				.invoke( note -> context.assertEquals( "original", note.text ) )
+		);
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "ReadOnlyNote")
+	public static class Note {
+		@Id Integer id;
+		String text;
+
+		Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		Note() {}
+	}
+}
@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.ResultPage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+public class ResultPageTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Item.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Item" ).executeUpdate() ) );
+	}
+
+	private static List<Integer> ids(ResultPage<Item> page) {
+		return page.getResults().stream().map( item -> item.id ).collect( Collectors.toList() );
+	}
+
+	@Test
+	public void testResultPage(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.persist(
+						new Item( 1, "apple" ),
+						new Item( 2, "apricot" ),
+						new Item( 3, "avocado" ),
+						new Item( 4, "banana" ),
+						new Item( 5, "acerola" )
+				) )
+				.thenApply( v -> openSession() )
+				.thenCompose( session -> session
+						.createQuery( "from Item where name like 'a%' order by id", Item.class )
+						.setFirstResult( 1 )
+						.setMaxResults( 2 )
+						.getResultPage()
+						.thenAccept( page -> {
+							context.assertEquals( asList( 2, 3 ), ids( page ) );
+							context.assertEquals( 4L, page.getTotalCount() );
+							// the total is counted by 'count(*) over()'
+							context.assertEquals( 1L, session.getStatementStatistics().getStatementCount() );
+						} ) )
+				// a page beyond the last result
+				.thenApply( v -> openSession() )
+				.thenCompose( session -> session
+						.createQuery( "from Item where name like 'a%' order by id", Item.class )
+						.setFirstResult( 10 )
+						.setMaxResults( 2 )
+						.getResultPage()
+						.thenAccept( page -> {
+							context.assertEquals( emptyList(), page.getResults() );
+							context.assertEquals( 4L, page.getTotalCount() );
+							// there's no row to count, so it's counted separately
+							context.assertEquals( 2L, session.getStatementStatistics().getStatementCount() );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testMutinyDistinctResultPage(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (session, tx) -> session.persistAll(
+						new Item( 1, "apple" ),
+						new Item( 2, "apple" ),
+						new Item( 3, "banana" )
+				) )
+				.map( v -> openMutinySession() )
+				.chain( session -> session
+						.createQuery( "select distinct name from Item order by name", String.class )
+						.setMaxResults( 1 )
+						.getResultPage()
+						.invoke( page -> {
+							context.assertEquals( asList( "apple" ), page.getResults() );
+							context.assertEquals( 2L, page.getTotalCount() );
+							// a distinct query is counted separately
+							context.assertEquals( 2L, session.getStatementStatistics().getStatementCount() );
+						} ) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "PagedItem")
+	public static class Item {
+		@Id Integer id;
+		String name;
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Item() {}
+	}
+}
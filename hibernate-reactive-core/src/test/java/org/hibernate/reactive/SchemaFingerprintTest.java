@@ -0,0 +1,142 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.provider.service.ReactiveGenerationTarget;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Schema export which is skipped when the hash of the DDL
+ * matches the hash stored by the previous schema export.
+ */
+public class SchemaFingerprintTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Planet.class );
+		configuration.setProperty( Settings.SCHEMA_FINGERPRINT, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Planet" ).executeUpdate() ) );
+	}
+
+	/**
+	 * Build a new session factory, on a thread which is not an
+	 * event loop thread, since schema export blocks.
+	 */
+	private CompletionStage<SessionFactory> buildSessionFactory(Configuration configuration) {
+		return CompletableFuture.supplyAsync( () -> {
+			StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+					.applySettings( configuration.getProperties() )
+					.build();
+			configureServices( registry );
+			return configuration.buildSessionFactory( registry );
+		} );
+	}
+
+	@Test
+	public void testSchemaExportSkipped(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Planet( 1, "Mercury" ) ) )
+				.thenCompose( v -> buildSessionFactory( constructConfiguration() ) )
+				.thenCompose( factory -> factory.unwrap( Stage.SessionFactory.class )
+						.withSession( s -> s.find( Planet.class, 1 ) )
+						.whenComplete( (planet, e) -> factory.close() ) )
+				.thenAccept( planet -> {
+					context.assertNotNull( planet );
+					context.assertEquals( "Mercury", planet.name );
+				} )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select fingerprint from " + ReactiveGenerationTarget.FINGERPRINT_TABLE )
+						.getSingleResult() )
+				.thenAccept( fingerprint -> context.assertEquals( 64, ( (String) fingerprint ).length() ) )
+		);
+	}
+
+	@Test
+	public void testSchemaExportedAfterChange(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Planet( 1, "Venus" ) ) )
+				.thenCompose( v -> buildSessionFactory(
+						constructConfiguration().addAnnotatedClass( Moon.class )
+				) )
+				.thenCompose( factory -> factory.unwrap( Stage.SessionFactory.class )
+						.withSession( s -> s.find( Planet.class, 1 ) )
+						.whenComplete( (planet, e) -> factory.close() ) )
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	@Test
+	public void testSchemaExportedAfterFailure(TestContext context) {
+		Configuration broken = constructConfiguration().addAnnotatedClass( Comet.class );
+		test( context, buildSessionFactory( broken )
+				.thenAccept( SessionFactory::close )
+				.thenCompose( v -> openSession()
+						.createNativeQuery( "select count(*) from " + ReactiveGenerationTarget.FINGERPRINT_TABLE )
+						.getSingleResult() )
+				// the create table for Comet failed, so no fingerprint was stored
+				.thenAccept( count -> context.assertEquals( 0, ( (Number) count ).intValue() ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( (s, tx) -> s.persist( new Planet( 1, "Mars" ) ) ) )
+				.thenCompose( v -> buildSessionFactory( broken ) )
+				.thenCompose( factory -> factory.unwrap( Stage.SessionFactory.class )
+						.withSession( s -> s.find( Planet.class, 1 ) )
+						.whenComplete( (planet, e) -> factory.close() ) )
+				// the schema was exported again, so the planet is gone
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "FingerprintPlanet")
+	public static class Planet {
+		@Id Integer id;
+		String name;
+
+		Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Planet() {}
+	}
+
+	@Entity(name = "Moon")
+	@Table(name = "FingerprintMoon")
+	public static class Moon {
+		@Id Integer id;
+		String name;
+	}
+
+	@Entity(name = "Comet")
+	@Table(name = "FingerprintComet")
+	public static class Comet {
+		@Id Integer id;
+		@Column(columnDefinition = "no_such_type")
+		String name;
+	}
+}
@@ -20,6 +20,7 @@ public class SequenceGeneratorTest extends BaseReactiveTest {
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.addAnnotatedClass( SequenceId.class );
+		configuration.addAnnotatedClass( LongSequenceId.class );
 		return configuration;
 	}
 
@@ -57,6 +58,35 @@ public void testSequenceGenerator(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testLongSequenceGenerator(TestContext context) {
+
+		LongSequenceId b = new LongSequenceId();
+		b.string = "Hello World";
+
+		test( context,
+				getSessionFactory()
+						.withTransaction( (s, tx) -> s.persist( b ) )
+						.thenCompose( v -> openSession().find( LongSequenceId.class, b.id ) )
+						.thenAccept( bb -> {
+							context.assertNotNull( bb );
+							context.assertEquals( bb.id, 7L );
+							context.assertEquals( bb.string, b.string );
+						} )
+		);
+	}
+
+	@Entity(name = "LongSequenceId")
+	@SequenceGenerator(name = "longseq",
+			sequenceName = "test_long_id_seq",
+			initialValue = 7,
+			allocationSize = 1)
+	public static class LongSequenceId {
+		@Id @GeneratedValue(generator = "longseq")
+		Long id;
+		String string;
+	}
+
 	@Entity
 	@SequenceGenerator(name = "seq",
 			sequenceName = "test_id_seq",
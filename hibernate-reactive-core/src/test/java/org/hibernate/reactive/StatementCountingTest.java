@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import io.vertx.ext.unit.TestContext;
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.StatementStatistics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Per-session counts of statements, rows, and round trips, and
+ * detection of "N+1 selects".
+ */
+public class StatementCountingTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Author.class );
+		configuration.setProperty( Settings.REPEATED_STATEMENT_THRESHOLD, "3" );
+		configuration.setProperty( Settings.FAIL_ON_REPEATED_STATEMENT, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (session, tx) -> session.createQuery( "delete from Author" ).executeUpdate() ) );
+	}
+
+	private CompletionStage<Void> populateDB() {
+		return getSessionFactory().withTransaction( (s, tx) -> s.persist(
+				new Author( 1, "Iain M. Banks" ),
+				new Author( 2, "Neal Stephenson" ),
+				new Author( 3, "William Gibson" )
+		) );
+	}
+
+	@Test
+	public void testCounts(TestContext context) {
+		Stage.Session session = openSession();
+		StatementStatistics statistics = session.getStatementStatistics();
+		test( context, populateDB()
+				.thenCompose( v -> session.createQuery( "from Author", Author.class ).getResultList() )
+				.thenAccept( authors -> {
+					context.assertEquals( 3, authors.size() );
+					context.assertEquals( 1L, statistics.getStatementCount() );
+					context.assertEquals( 3L, statistics.getRowCount() );
+					context.assertEquals( 1L, statistics.getRoundTripCount() );
+					context.assertEquals( 1L, statistics.getDistinctStatementCount() );
+				} )
+				.thenCompose( v -> session.find( Author.class, 4 ) )
+				.thenAccept( author -> {
+					context.assertNull( author );
+					context.assertEquals( 2L, statistics.getStatementCount() );
+					context.assertEquals( 3L, statistics.getRowCount() );
+					context.assertEquals( 2L, statistics.getRoundTripCount() );
+					context.assertEquals( 2L, statistics.getDistinctStatementCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testRepeatedSelects(TestContext context) {
+		Stage.Session session = openSession();
+		test( context, populateDB()
+				.thenCompose( v -> session.find( Author.class, 1 ) )
+				.thenCompose( v -> session.find( Author.class, 2 ) )
+				.thenCompose( v -> session.find( Author.class, 3 ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					Throwable cause = e.getCause() == null ? e : e.getCause();
+					context.assertTrue( cause instanceof HibernateException );
+					context.assertTrue( cause.getMessage().contains( "HRX000022" ) );
+					context.assertTrue( cause.getMessage().contains( Author.class.getName() ) );
+					return null;
+				} )
+		);
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "CountedAuthor")
+	public static class Author {
+		@Id Integer id;
+		String name;
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Author() {}
+	}
+}
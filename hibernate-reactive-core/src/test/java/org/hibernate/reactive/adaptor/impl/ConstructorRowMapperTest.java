@@ -0,0 +1,137 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import org.hibernate.HibernateException;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the mapping of rows, and of {@code select new} tuples, to the
+ * constructors of a result class.
+ */
+public class ConstructorRowMapperTest {
+
+	@Test
+	public void testMap() throws SQLException {
+		List<Album> albums = ConstructorRowMapper.forClass( Album.class ).map( resultSet(
+				new String[] { "id", "title" },
+				new JDBCType[] { JDBCType.INTEGER, JDBCType.VARCHAR },
+				new Object[] { 1, "Low" },
+				new Object[] { 2, null }
+		) );
+		assertThat( albums ).extracting( album -> album.id ).containsExactly( 1, 2 );
+		assertThat( albums ).extracting( album -> album.title ).containsExactly( "Low", null );
+	}
+
+	@Test
+	public void testUnknownColumnTypeMismatch() {
+		// a column of unknown type is accepted by any parameter,
+		// but its value is not an Integer
+		ConstructorRowMapper<Album> mapper = ConstructorRowMapper.forClass( Album.class );
+		assertThatThrownBy( () -> mapper.map( resultSet(
+				new String[] { "uuid", "title" },
+				new JDBCType[] { JDBCType.OTHER, JDBCType.VARCHAR },
+				new Object[] { UUID.randomUUID(), "Low" }
+		) ) )
+				.isInstanceOf( HibernateException.class )
+				.hasMessageContaining( "'uuid'" )
+				.hasMessageContaining( UUID.class.getName() );
+	}
+
+	@Test
+	public void testInstantiateTuples() throws NoSuchMethodException {
+		List<Album> albums = ConstructorRowMapper.forClass( Album.class ).instantiateTuples(
+				Album.class.getDeclaredConstructor( Integer.class, String.class ),
+				Arrays.asList( new Object[] { 1, "Low" }, new Object[] { 2, "Heroes" } )
+		);
+		assertThat( albums ).extracting( album -> album.title ).containsExactly( "Low", "Heroes" );
+	}
+
+	static class Album {
+		final Integer id;
+		final String title;
+
+		Album(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	/**
+	 * A result set with the given columns and rows, where every typed
+	 * accessor of a {@link Row} returns the value as it is, failing with
+	 * a {@link ClassCastException} if it's not of the expected type.
+	 */
+	@SuppressWarnings("unchecked")
+	private static ResultSetAdaptor resultSet(String[] names, JDBCType[] types, Object[]... values) {
+		List<ColumnDescriptor> columns = new ArrayList<>();
+		for ( int i = 0; i < names.length; i++ ) {
+			String name = names[i];
+			JDBCType type = types[i];
+			columns.add( (ColumnDescriptor) Proxy.newProxyInstance(
+					ColumnDescriptor.class.getClassLoader(),
+					new Class<?>[] { ColumnDescriptor.class },
+					(proxy, method, args) -> {
+						switch ( method.getName() ) {
+							case "name":
+								return name;
+							case "isArray":
+								return false;
+							default:
+								return type;
+						}
+					}
+			) );
+		}
+		List<Row> rows = new ArrayList<>();
+		for ( Object[] row : values ) {
+			rows.add( (Row) Proxy.newProxyInstance(
+					Row.class.getClassLoader(),
+					new Class<?>[] { Row.class },
+					(proxy, method, args) -> method.getName().equals( "getColumnName" )
+							? names[(Integer) args[0]]
+							: row[(Integer) args[0]]
+			) );
+		}
+		Iterator<Row> iterator = rows.iterator();
+		RowIterator<Row> rowIterator = (RowIterator<Row>) Proxy.newProxyInstance(
+				RowIterator.class.getClassLoader(),
+				new Class<?>[] { RowIterator.class },
+				(proxy, method, args) -> method.getName().equals( "hasNext" ) ? iterator.hasNext() : iterator.next()
+		);
+		RowSet<Row> rowSet = (RowSet<Row>) Proxy.newProxyInstance(
+				RowSet.class.getClassLoader(),
+				new Class<?>[] { RowSet.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "iterator":
+							return rowIterator;
+						case "columnDescriptors":
+							return columns;
+						default:
+							return rows.size();
+					}
+				}
+		);
+		return new ResultSetAdaptor( rowSet );
+	}
+}
@@ -0,0 +1,72 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.adaptor.impl;
+
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the collection of parameter bindings by the
+ * {@link PreparedStatementAdaptor}, into arrays of the
+ * expected size, and beyond it.
+ */
+public class PreparedStatementAdaptorTest {
+
+	@Test
+	public void testGrowth() {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				statement.setInt( i, i );
+			}
+		} );
+		assertThat( params ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+	}
+
+	@Test
+	public void testGrowthBeyondExpectedCount() {
+		Object[] params = PreparedStatementAdaptor.bind( 2, statement -> {
+			statement.setString( 1, "a" );
+			statement.setString( 2, "b" );
+			statement.setString( 3, "c" );
+		} );
+		assertThat( params ).containsExactly( "a", "b", "c" );
+	}
+
+	@Test
+	public void testFewerThanExpectedCount() {
+		Object[] params = PreparedStatementAdaptor.bind( 3, statement -> statement.setLong( 1, 5L ) );
+		assertThat( params ).containsExactly( 5L );
+	}
+
+	@Test
+	public void testExactCountIsNotCopied() {
+		AtomicReference<PreparedStatement> adaptor = new AtomicReference<>();
+		Object[] params = PreparedStatementAdaptor.bind( 2, statement -> {
+			adaptor.set( statement );
+			statement.setString( 2, "b" );
+			statement.setString( 1, "a" );
+		} );
+		assertThat( params ).containsExactly( "a", "b" );
+		assertThat( params ).isSameAs( ( (PreparedStatementAdaptor) adaptor.get() ).params );
+	}
+
+	@Test
+	public void testNoParameters() {
+		assertThat( PreparedStatementAdaptor.bind( 0, statement -> {} ) ).isEmpty();
+		assertThat( PreparedStatementAdaptor.bind( statement -> {} ) ).isSameAs( PreparedStatementAdaptor.NO_PARAMS );
+	}
+
+	@Test
+	public void testParameterCount() {
+		assertThat( PreparedStatementAdaptor.parameterCount( "update Book set title=? where id=? and version=?" ) )
+				.isEqualTo( 3 );
+		assertThat( PreparedStatementAdaptor.parameterCount( "select count(*) from Book" ) ).isZero();
+	}
+}
@@ -0,0 +1,149 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.impl;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LocalDateTimeType;
+import org.hibernate.type.LocalDateType;
+import org.hibernate.type.LocalTimeType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.PostgresUUIDType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that values of the types bound natively by the
+ * {@link ReactiveTypeContributor.NativeTypeDescriptor} are written
+ * and read without conversion, including after the descriptor is
+ * serialized and deserialized.
+ */
+public class ReactiveTypeContributorTest {
+
+	private static final String COLUMN = "col";
+
+	@Test
+	public void testLocalDateTime() throws SQLException {
+		assertRoundTrip( new LocalDateTimeType(), Types.TIMESTAMP, LocalDateTime.class, LocalDateTime.of( 2020, 10, 19, 12, 30, 45, 123 ) );
+	}
+
+	@Test
+	public void testLocalDateTimeWithTimeZone() throws SQLException {
+		LocalDateTime localDateTime = LocalDateTime.of( 2020, 10, 19, 12, 30, 45 );
+		ReactiveTypeContributor.NativeTypeDescriptor<LocalDateTime> descriptor =
+				new ReactiveTypeContributor.NativeTypeDescriptor<>( Types.TIMESTAMP, LocalDateTime.class );
+		ResultSetAdaptor resultSet = resultSet( localDateTime.atOffset( ZoneOffset.ofHours( 2 ) ) );
+		resultSet.next();
+		assertThat( descriptor.getExtractor( new LocalDateTimeType().getJavaTypeDescriptor() ).extract( resultSet, COLUMN, null ) )
+				.isEqualTo( localDateTime );
+	}
+
+	@Test
+	public void testLocalDate() throws SQLException {
+		assertRoundTrip( new LocalDateType(), Types.DATE, LocalDate.class, LocalDate.of( 2020, 10, 19 ) );
+	}
+
+	@Test
+	public void testLocalTime() throws SQLException {
+		assertRoundTrip( new LocalTimeType(), Types.TIME, LocalTime.class, LocalTime.of( 12, 30, 45 ) );
+	}
+
+	@Test
+	public void testWrapperTypes() throws SQLException {
+		assertRoundTrip( new IntegerType(), Types.INTEGER, Integer.class, Integer.MAX_VALUE );
+		assertRoundTrip( new LongType(), Types.BIGINT, Long.class, Long.MIN_VALUE );
+		assertRoundTrip( new ShortType(), Types.SMALLINT, Short.class, Short.MAX_VALUE );
+		assertRoundTrip( new DoubleType(), Types.DOUBLE, Double.class, 12.5 );
+		assertRoundTrip( new FloatType(), Types.FLOAT, Float.class, 0.25f );
+		assertRoundTrip( new BooleanType(), Types.BOOLEAN, Boolean.class, true );
+	}
+
+	@Test
+	public void testUUID() throws SQLException {
+		assertRoundTrip( new PostgresUUIDType(), Types.OTHER, UUID.class, UUID.fromString( "123e4567-e89b-42d3-a456-556642440000" ) );
+	}
+
+	@Test
+	public void testNull() throws SQLException {
+		ReactiveTypeContributor.NativeTypeDescriptor<Integer> descriptor =
+				new ReactiveTypeContributor.NativeTypeDescriptor<>( Types.INTEGER, Integer.class );
+		ResultSetAdaptor resultSet = resultSet( null );
+		resultSet.next();
+		assertThat( descriptor.getExtractor( new IntegerType().getJavaTypeDescriptor() ).extract( resultSet, COLUMN, null ) )
+				.isNull();
+	}
+
+	private static <T> void assertRoundTrip(AbstractStandardBasicType<T> type, int sqlType, Class<T> nativeType, T value)
+			throws SQLException {
+		ReactiveTypeContributor.NativeTypeDescriptor<T> descriptor =
+				new ReactiveTypeContributor.NativeTypeDescriptor<>( sqlType, nativeType );
+		assertRoundTrip( descriptor, type.getJavaTypeDescriptor(), value );
+		assertRoundTrip( (ReactiveTypeContributor.NativeTypeDescriptor<?>) SerializationHelper.clone( descriptor ),
+				type.getJavaTypeDescriptor(), value );
+	}
+
+	private static <T> void assertRoundTrip(ReactiveTypeContributor.NativeTypeDescriptor<?> descriptor,
+			JavaTypeDescriptor<T> javaTypeDescriptor, T value) throws SQLException {
+		PreparedStatementAdaptor statement = new PreparedStatementAdaptor();
+		descriptor.getBinder( javaTypeDescriptor ).bind( statement, value, 1, null );
+		assertThat( statement.getParametersAsArray() ).containsExactly( value );
+
+		ResultSetAdaptor resultSet = resultSet( value );
+		assertThat( resultSet.next() ).isTrue();
+		assertThat( descriptor.getExtractor( javaTypeDescriptor ).extract( resultSet, COLUMN, null ) )
+				.isEqualTo( value );
+	}
+
+	/**
+	 * A result set with a single row, with a single column, where every
+	 * typed accessor of the {@link Row} returns the given value as it is.
+	 */
+	@SuppressWarnings("unchecked")
+	private static ResultSetAdaptor resultSet(Object value) {
+		Row row = (Row) Proxy.newProxyInstance(
+				Row.class.getClassLoader(),
+				new Class<?>[] { Row.class },
+				(proxy, method, args) -> method.getName().equals( "getColumnIndex" )
+						? ( COLUMN.equals( args[0] ) ? 0 : -1 )
+						: value
+		);
+		Iterator<Row> rows = Collections.singletonList( row ).iterator();
+		RowIterator<Row> iterator = (RowIterator<Row>) Proxy.newProxyInstance(
+				RowIterator.class.getClassLoader(),
+				new Class<?>[] { RowIterator.class },
+				(proxy, method, args) -> method.getName().equals( "hasNext" ) ? rows.hasNext() : rows.next()
+		);
+		RowSet<Row> rowSet = (RowSet<Row>) Proxy.newProxyInstance(
+				RowSet.class.getClassLoader(),
+				new Class<?>[] { RowSet.class },
+				(proxy, method, args) -> method.getName().equals( "iterator" ) ? iterator : 1
+		);
+		return new ResultSetAdaptor( rowSet );
+	}
+}
@@ -0,0 +1,171 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.impl;
+
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ScanSnapshot} and {@link SnapshotScanner}, using a
+ * persistence unit root containing a single entity class and a text
+ * file.
+ */
+public class ScanSnapshotTest {
+
+	private static final String GHOST = "org.hibernate.reactive.provider.impl.Ghost";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File root;
+
+	@Before
+	public void createRoot() throws IOException {
+		root = folder.newFolder( "root" );
+		String name = Fossil.class.getName().replace( '.', '/' ) + ".class";
+		File classFile = new File( root, name );
+		classFile.getParentFile().mkdirs();
+		try ( InputStream stream = getClass().getClassLoader().getResourceAsStream( name ) ) {
+			Files.copy( stream, classFile.toPath() );
+		}
+		Files.write( new File( root, "notes.txt" ).toPath(), "aaaa".getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private void generate() throws IOException {
+		ScanSnapshot.main( new String[] { root.getPath(), root.getPath() } );
+	}
+
+	/**
+	 * Add a class which does not exist to the stored snapshot, which
+	 * is excluded from the fingerprint, so that we can tell if the
+	 * scanner used the snapshot.
+	 */
+	private void addGhost() throws IOException {
+		Files.write(
+				new File( root, ScanSnapshot.RESOURCE ).toPath(),
+				( "class=MODEL:" + GHOST + "\n" ).getBytes( StandardCharsets.UTF_8 ),
+				StandardOpenOption.APPEND
+		);
+	}
+
+	private Set<String> scan() throws IOException {
+		URL url = root.toURI().toURL();
+		return new SnapshotScanner()
+				.scan( environment( url ), new StandardScanOptions(), StandardScanParameters.INSTANCE )
+				.getLocatedClasses()
+				.stream()
+				.map( ClassDescriptor::getName )
+				.collect( Collectors.toSet() );
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		generate();
+		ScanSnapshot snapshot = ScanSnapshot.read( root );
+		assertThat( snapshot ).isNotNull();
+		assertThat( snapshot.getClasses() )
+				.containsEntry( Fossil.class.getName(), ClassDescriptor.Categorization.MODEL );
+		assertThat( snapshot.getFingerprint() )
+				.isEqualTo( ScanSnapshot.fingerprint( Collections.singletonList( root ) ) );
+
+		addGhost();
+		assertThat( scan() ).containsExactlyInAnyOrder( Fossil.class.getName(), GHOST );
+	}
+
+	@Test
+	public void testStaleSnapshot() throws IOException {
+		generate();
+		addGhost();
+		String fingerprint = ScanSnapshot.read( root ).getFingerprint();
+
+		// same name and size, modified later
+		Path notes = new File( root, "notes.txt" ).toPath();
+		FileTime modified = Files.getLastModifiedTime( notes );
+		Files.write( notes, "bbbb".getBytes( StandardCharsets.UTF_8 ) );
+		Files.setLastModifiedTime( notes, FileTime.fromMillis( modified.toMillis() + 10_000 ) );
+		List<File> roots = Collections.singletonList( root );
+		assertThat( ScanSnapshot.fingerprint( roots ) ).isNotEqualTo( fingerprint );
+
+		// the snapshot is ignored, so the ghost isn't found
+		assertThat( scan() ).containsExactly( Fossil.class.getName() );
+	}
+
+	@Test
+	public void testMissingSnapshot() throws IOException {
+		assertThat( ScanSnapshot.read( root ) ).isNull();
+		assertThat( scan() ).containsExactly( Fossil.class.getName() );
+	}
+
+	@Test
+	public void testSnapshotScannerInstalled() {
+		ParsedPersistenceXmlDescriptor unit = new ParsedPersistenceXmlDescriptor( null );
+		Map<?, ?> settings = ReactiveEntityManagerFactoryBuilder.withSnapshotScanner( unit, null );
+		assertThat( settings.get( AvailableSettings.SCANNER ) ).isInstanceOf( SnapshotScanner.class );
+
+		Map<String, Object> integration = new HashMap<>();
+		integration.put( AvailableSettings.SCANNER, StandardScanner.class.getName() );
+		assertThat( ReactiveEntityManagerFactoryBuilder.withSnapshotScanner( unit, integration ) )
+				.isSameAs( integration );
+
+		unit.getProperties().put( AvailableSettings.SCANNER_ARCHIVE_INTERPRETER, "custom" );
+		assertThat( ReactiveEntityManagerFactoryBuilder.withSnapshotScanner( unit, null ) ).isNull();
+	}
+
+	private static ScanEnvironment environment(URL root) {
+		return new ScanEnvironment() {
+			@Override
+			public URL getRootUrl() {
+				return root;
+			}
+			@Override
+			public List<URL> getNonRootUrls() {
+				return Collections.emptyList();
+			}
+			@Override
+			public List<String> getExplicitlyListedClassNames() {
+				return Collections.emptyList();
+			}
+			@Override
+			public List<String> getExplicitlyListedMappingFiles() {
+				return Collections.emptyList();
+			}
+		};
+	}
+
+	@Entity(name = "Fossil")
+	public static class Fossil {
+		@Id Integer id;
+	}
+}
@@ -96,6 +96,18 @@ public void testLongType(TestContext context) {
 		} );
 	}
 
+	@Test
+	public void testShortType(TestContext context) {
+		Basic basic = new Basic();
+		basic.primitiveShort = Short.MIN_VALUE;
+		basic.fieldShort = Short.MAX_VALUE;
+
+		testField( context, basic, found -> {
+			context.assertEquals( Short.MIN_VALUE, found.primitiveShort );
+			context.assertEquals( Short.MAX_VALUE, found.fieldShort );
+		} );
+	}
+
 	@Test
 	public void testFloatType(TestContext context) {
 		float primitiveFloat = 10.02f;
@@ -355,6 +367,54 @@ public void testLocalTimeType(TestContext context) throws Exception {
 		) );
 	}
 
+	@Test
+	public void testNativeTypesAsQueryParameters(TestContext context) {
+		Basic basic = new Basic();
+		basic.localDate = LocalDate.of( 2020, 10, 19 );
+		basic.localDateTime = LocalDateTime.of( 2020, 10, 19, 12, 30, 45 );
+		basic.localTime = LocalTime.of( 12, 30, 45 );
+		basic.fieldInteger = Integer.MAX_VALUE;
+		basic.fieldLong = Long.MIN_VALUE;
+		basic.fieldShort = Short.MAX_VALUE;
+		basic.fieldDouble = 12.5;
+		basic.fieldFloat = 0.25f;
+		basic.fieldBoolean = true;
+
+		test(
+				context,
+				getSessionFactory().withTransaction( (s, t) -> s.persist( basic ) )
+						.thenCompose( v -> openSession()
+								.createQuery(
+										"select localDate, localDateTime, localTime, fieldInteger, fieldLong, fieldShort, fieldDouble, fieldFloat, fieldBoolean from Basic "
+												+ "where localDate = :localDate and localDateTime = :localDateTime and localTime = :localTime "
+												+ "and fieldInteger = :fieldInteger and fieldLong = :fieldLong and fieldShort = :fieldShort "
+												+ "and fieldDouble = :fieldDouble and fieldFloat = :fieldFloat and fieldBoolean = :fieldBoolean",
+										Object[].class
+								)
+								.setParameter( "localDate", basic.localDate )
+								.setParameter( "localDateTime", basic.localDateTime )
+								.setParameter( "localTime", basic.localTime )
+								.setParameter( "fieldInteger", basic.fieldInteger )
+								.setParameter( "fieldLong", basic.fieldLong )
+								.setParameter( "fieldShort", basic.fieldShort )
+								.setParameter( "fieldDouble", basic.fieldDouble )
+								.setParameter( "fieldFloat", basic.fieldFloat )
+								.setParameter( "fieldBoolean", basic.fieldBoolean )
+								.getSingleResult() )
+						.thenAccept( row -> {
+							context.assertEquals( basic.localDate, row[0] );
+							context.assertEquals( basic.localDateTime, row[1] );
+							context.assertEquals( basic.localTime, row[2] );
+							context.assertEquals( basic.fieldInteger, row[3] );
+							context.assertEquals( basic.fieldLong, row[4] );
+							context.assertEquals( basic.fieldShort, row[5] );
+							context.assertEquals( basic.fieldDouble, row[6] );
+							context.assertEquals( basic.fieldFloat, row[7] );
+							context.assertEquals( basic.fieldBoolean, row[8] );
+						} )
+		);
+	}
+
 	@Test
 	public void testDateAsTimeType(TestContext context) throws Exception {
 		Date date = new Date();
@@ -492,6 +552,7 @@ private static class Basic {
 		boolean primitiveBoolean;
 		int primitiveInt;
 		long primitiveLong;
+		short primitiveShort;
 		float primitiveFloat;
 		double primitiveDouble;
 		byte primitiveByte;
@@ -500,6 +561,7 @@ private static class Basic {
 		Boolean fieldBoolean;
 		Integer fieldInteger;
 		Long fieldLong;
+		Short fieldShort;
 		Float fieldFloat;
 		Double fieldDouble;
 		Byte fieldByte;
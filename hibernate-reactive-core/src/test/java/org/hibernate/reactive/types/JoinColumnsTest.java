@@ -47,7 +47,7 @@ public void cleanDB(TestContext context) {
 		test( context, getMutinySessionFactory()
 				.withSession( session -> session
 						.createQuery( "delete SampleJoinEntity" ).executeUpdate()
-						.invoke( ignore -> session
+						.call( ignore -> session
 								.createQuery( "delete SampleEntity" ).executeUpdate() ) ) );
 	}
 
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util.impl;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link CompletionStages#loop}, with steps which complete
+ * immediately, steps which complete later on another thread, and
+ * steps which fail.
+ */
+public class CompletionStagesTest {
+
+	private static final int LONG_CHAIN = 1_000_000;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testLongSynchronousChain() {
+		AtomicInteger steps = new AtomicInteger();
+		CompletionStages.loop( 0, LONG_CHAIN, i -> {
+			steps.incrementAndGet();
+			return CompletionStages.voidFuture();
+		} ).toCompletableFuture().join();
+		assertThat( steps.get() ).isEqualTo( LONG_CHAIN );
+	}
+
+	@Test
+	public void testLongSynchronousChainOfOtherStages() {
+		// stages which are not CompletableFutures, and which run the
+		// continuation while it is being registered
+		AtomicInteger steps = new AtomicInteger();
+		CompletionStages.loop( 0, LONG_CHAIN, i -> {
+			steps.incrementAndGet();
+			return completedStage();
+		} ).toCompletableFuture().join();
+		assertThat( steps.get() ).isEqualTo( LONG_CHAIN );
+	}
+
+	@Test
+	public void testAsynchronousResumption() {
+		List<Integer> visited = Collections.synchronizedList( new ArrayList<>() );
+		CompletableFuture<Void> result = CompletionStages.loop( 0, 100, i -> {
+			visited.add( i );
+			// alternate between steps which complete later,
+			// on another thread, and steps which are complete
+			return i % 2 == 0
+					? CompletableFuture.runAsync( () -> sleep( 1 ), executor )
+					: CompletionStages.voidFuture();
+		} ).toCompletableFuture();
+		result.join();
+		assertThat( visited ).hasSize( 100 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( visited.get( i ) ).isEqualTo( i );
+		}
+	}
+
+	@Test
+	public void testSynchronousFailure() {
+		AtomicInteger steps = new AtomicInteger();
+		CompletableFuture<Void> result = CompletionStages.loop( 0, 10, i -> {
+			steps.incrementAndGet();
+			if ( i == 5 ) {
+				throw new IllegalStateException( "step 5" );
+			}
+			return CompletionStages.voidFuture();
+		} ).toCompletableFuture();
+		assertThatThrownBy( result::join )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( IllegalStateException.class );
+		assertThat( steps.get() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testFailedStage() {
+		AtomicInteger steps = new AtomicInteger();
+		CompletableFuture<Void> result = CompletionStages.loop( 0, 10, i -> {
+			steps.incrementAndGet();
+			return i == 5
+					? CompletionStages.failedFuture( new IllegalStateException( "step 5" ) )
+					: CompletionStages.voidFuture();
+		} ).toCompletableFuture();
+		assertThatThrownBy( result::join ).hasCauseInstanceOf( IllegalStateException.class );
+		assertThat( steps.get() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testAsynchronousFailure() {
+		AtomicInteger steps = new AtomicInteger();
+		CompletableFuture<Void> result = CompletionStages.loop( 0, 10, i -> {
+			steps.incrementAndGet();
+			return CompletableFuture.runAsync( () -> {
+				sleep( 1 );
+				if ( i == 5 ) {
+					throw new IllegalStateException( "step 5" );
+				}
+			}, executor );
+		} ).toCompletableFuture();
+		assertThatThrownBy( result::join ).hasCauseInstanceOf( IllegalStateException.class );
+		assertThat( steps.get() ).isEqualTo( 6 );
+	}
+
+	/**
+	 * A complete stage which is not a {@code CompletableFuture}.
+	 */
+	@SuppressWarnings("unchecked")
+	private static CompletionStage<Void> completedStage() {
+		CompletableFuture<Void> done = CompletableFuture.completedFuture( null );
+		return (CompletionStage<Void>) Proxy.newProxyInstance(
+				CompletionStage.class.getClassLoader(),
+				new Class<?>[] { CompletionStage.class },
+				(proxy, method, args) -> method.invoke( done, args )
+		);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			TimeUnit.MILLISECONDS.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}